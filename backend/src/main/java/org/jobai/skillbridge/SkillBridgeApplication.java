@@ -2,8 +2,10 @@ package org.jobai.skillbridge;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class SkillBridgeApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,101 @@
+package org.jobai.skillbridge.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared HTTP transport for all Mistral API calls.
+ *
+ * A single JDK {@link HttpClient} keeps TLS connections alive between prompts
+ * (and multiplexes them over HTTP/2 when the server supports it), so only the
+ * first call to the API pays for the handshake.
+ *
+ * The JDK client's idle connection pool is tuned with the JVM-wide
+ * {@code jdk.httpclient.connectionPoolSize} and {@code jdk.httpclient.keepalive.timeout}
+ * system properties, which are read once when the first client is created;
+ * they are passed as JVM arguments (see the Dockerfile and the Spring Boot
+ * Maven plugin) rather than set here.
+ */
+@Configuration
+public class MistralClientConfig {
+
+    @Value("${mistral.api.timeout:30000}")
+    private long readTimeoutMs;
+
+    @Value("${mistral.api.connect-timeout:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${mistral.api.http2-enabled:true}")
+    private boolean http2Enabled;
+
+    @Bean
+    public HttpClient mistralHttpClient() {
+        return HttpClient.newBuilder()
+                .version(http2Enabled ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate mistralRestTemplate(RestTemplateBuilder builder, HttpClient mistralHttpClient,
+            MeterRegistry meterRegistry) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(mistralHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return builder
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(new PoolMetricsInterceptor(meterRegistry))
+                .build();
+    }
+
+    /**
+     * Publishes the in-flight request count and round trip time of the
+     * Mistral client. The JDK client does not expose its pool internals, and
+     * its pool size only limits idle connections kept, not concurrent requests.
+     */
+    static class PoolMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Timer latency;
+
+        PoolMetricsInterceptor(MeterRegistry meterRegistry) {
+            Gauge.builder("mistral.http.pool.active", inFlight, AtomicInteger::get)
+                    .description("Mistral API requests currently in flight")
+                    .register(meterRegistry);
+            this.latency = Timer.builder("mistral.http.latency")
+                    .description("Round trip time of Mistral API calls")
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+                throws IOException {
+            inFlight.incrementAndGet();
+            long start = System.nanoTime();
+            try {
+                return execution.execute(request, body);
+            } finally {
+                latency.record(Duration.ofNanos(System.nanoTime() - start));
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
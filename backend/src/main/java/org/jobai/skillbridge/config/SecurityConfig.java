@@ -1,5 +1,6 @@
 package org.jobai.skillbridge.config;
 
+import jakarta.servlet.DispatcherType;
 import org.jobai.skillbridge.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -47,6 +48,10 @@ public class SecurityConfig {
         http.csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfig.corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
+                        // Async AI responses are re-dispatched after the original request was authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                        .permitAll()
+
                         // Public endpoints
                         .requestMatchers("/", "/api/users/register", "/api/users/login", "/api/users/logout",
                                 "/api/users/profile")
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -31,6 +32,9 @@ public class AdminController {
     @Autowired
     private MistralAiService mistralAiService;
 
+    @Autowired
+    private AiTaskExecutor aiTaskExecutor;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -285,117 +289,123 @@ public class AdminController {
 
     // AI-Powered Insights
     @PostMapping("/analytics/insights")
-    public ResponseEntity<AiResponseDto> generateInsights(@RequestBody Map<String, Object> analyticsData) {
-        try {
-            // Create context for AI analysis
-            StringBuilder context = new StringBuilder();
-            context.append("Platform Analytics Summary:\n");
+    public CompletableFuture<ResponseEntity<AiResponseDto>> generateInsights(@RequestBody Map<String, Object> analyticsData) {
+        return aiTaskExecutor.submit(() -> {
+            try {
+                // Create context for AI analysis
+                StringBuilder context = new StringBuilder();
+                context.append("Platform Analytics Summary:\n");
 
-            if (analyticsData.containsKey("totalUsers")) {
-                context.append("Total Users: ").append(analyticsData.get("totalUsers")).append("\n");
-            }
-            if (analyticsData.containsKey("totalJobs")) {
-                context.append("Total Jobs: ").append(analyticsData.get("totalJobs")).append("\n");
-            }
+                if (analyticsData.containsKey("totalUsers")) {
+                    context.append("Total Users: ").append(analyticsData.get("totalUsers")).append("\n");
+                }
+                if (analyticsData.containsKey("totalJobs")) {
+                    context.append("Total Jobs: ").append(analyticsData.get("totalJobs")).append("\n");
+                }
 
-            // Add user distribution
-            if (analyticsData.containsKey("usersByRole")) {
-                context.append("User Distribution: ").append(analyticsData.get("usersByRole")).append("\n");
-            }
+                // Add user distribution
+                if (analyticsData.containsKey("usersByRole")) {
+                    context.append("User Distribution: ").append(analyticsData.get("usersByRole")).append("\n");
+                }
 
-            // Add job statistics
-            if (analyticsData.containsKey("jobsByEmployer")) {
-                context.append("Job Distribution by Employer: ").append(analyticsData.get("jobsByEmployer"))
-                        .append("\n");
-            }
+                // Add job statistics
+                if (analyticsData.containsKey("jobsByEmployer")) {
+                    context.append("Job Distribution by Employer: ").append(analyticsData.get("jobsByEmployer"))
+                            .append("\n");
+                }
 
-            String prompt = context.toString() +
-                    "\nAs an AI analyst, provide insights on:\n" +
-                    "1. Platform growth trends\n" +
-                    "2. User engagement patterns\n" +
-                    "3. Job market dynamics\n" +
-                    "4. Recommendations for improvement\n" +
-                    "5. Potential areas of concern\n" +
-                    "Keep the analysis concise but actionable.";
+                String prompt = context.toString() +
+                        "\nAs an AI analyst, provide insights on:\n" +
+                        "1. Platform growth trends\n" +
+                        "2. User engagement patterns\n" +
+                        "3. Job market dynamics\n" +
+                        "4. Recommendations for improvement\n" +
+                        "5. Potential areas of concern\n" +
+                        "Keep the analysis concise but actionable.";
 
-            AiResponseDto response = mistralAiService.generateText("admin_insights", prompt);
+                AiResponseDto response = mistralAiService.generateText("admin_insights", prompt);
 
-            return ResponseEntity.ok(response);
-        } catch (AiServiceException e) {
-            return ResponseEntity.internalServerError().build();
-        }
+                return ResponseEntity.ok(response);
+            } catch (AiServiceException e) {
+                return ResponseEntity.internalServerError().build();
+            }
+        });
     }
 
     @PostMapping("/analytics/recommendations")
-    public ResponseEntity<AiResponseDto> generateRecommendations() {
-        try {
-            // Gather current platform statistics
-            List<User> allUsers = userService.getAllUsers();
-            List<JobPost> allJobs = jobService.getJobs();
-
-            Map<String, Object> stats = new HashMap<>();
-            stats.put("totalUsers", allUsers.size());
-            stats.put("totalJobs", allJobs.size());
-
-            // User distribution by role
-            Map<String, Long> usersByRole = new HashMap<>();
-            allUsers.forEach(user -> {
-                String role = user.getRole().name();
-                usersByRole.put(role, usersByRole.getOrDefault(role, 0L) + 1);
-            });
-            stats.put("usersByRole", usersByRole);
-
-            String prompt = "Based on the following job platform statistics: " + stats.toString() +
-                    "\nGenerate strategic recommendations for:\n" +
-                    "1. Improving user acquisition and retention\n" +
-                    "2. Enhancing job posting quality and relevance\n" +
-                    "3. Increasing application success rates\n" +
-                    "4. Platform optimization opportunities\n" +
-                    "5. Revenue growth strategies\n" +
-                    "Provide specific, actionable recommendations with expected impact.";
-
-            AiResponseDto response = mistralAiService.generateText("admin_recommendations", prompt);
-
-            return ResponseEntity.ok(response);
-        } catch (AiServiceException e) {
-            return ResponseEntity.internalServerError().build();
-        }
+    public CompletableFuture<ResponseEntity<AiResponseDto>> generateRecommendations() {
+        return aiTaskExecutor.submit(() -> {
+            try {
+                // Gather current platform statistics
+                List<User> allUsers = userService.getAllUsers();
+                List<JobPost> allJobs = jobService.getJobs();
+
+                Map<String, Object> stats = new HashMap<>();
+                stats.put("totalUsers", allUsers.size());
+                stats.put("totalJobs", allJobs.size());
+
+                // User distribution by role
+                Map<String, Long> usersByRole = new HashMap<>();
+                allUsers.forEach(user -> {
+                    String role = user.getRole().name();
+                    usersByRole.put(role, usersByRole.getOrDefault(role, 0L) + 1);
+                });
+                stats.put("usersByRole", usersByRole);
+
+                String prompt = "Based on the following job platform statistics: " + stats.toString() +
+                        "\nGenerate strategic recommendations for:\n" +
+                        "1. Improving user acquisition and retention\n" +
+                        "2. Enhancing job posting quality and relevance\n" +
+                        "3. Increasing application success rates\n" +
+                        "4. Platform optimization opportunities\n" +
+                        "5. Revenue growth strategies\n" +
+                        "Provide specific, actionable recommendations with expected impact.";
+
+                AiResponseDto response = mistralAiService.generateText("admin_recommendations", prompt);
+
+                return ResponseEntity.ok(response);
+            } catch (AiServiceException e) {
+                return ResponseEntity.internalServerError().build();
+            }
+        });
     }
 
     // Content Moderation
     @PostMapping("/moderate/job/{jobId}")
-    public ResponseEntity<AiResponseDto> moderateJobContent(@PathVariable Integer jobId) {
-        try {
-            JobPost job = jobService.getJob(jobId);
-            if (job == null) {
-                return ResponseEntity.notFound().build();
-            }
+    public CompletableFuture<ResponseEntity<AiResponseDto>> moderateJobContent(@PathVariable Integer jobId) {
+        return aiTaskExecutor.submit(() -> {
+            try {
+                JobPost job = jobService.getJob(jobId);
+                if (job == null) {
+                    return ResponseEntity.notFound().build();
+                }
 
-            String content = "";
-            if (job.getTitle() != null)
-                content += job.getTitle() + "\n";
-            if (job.getDescription() != null)
-                content += job.getDescription() + "\n";
-            if (job.getPostProfile() != null)
-                content += job.getPostProfile() + "\n";
-            if (job.getPostDesc() != null)
-                content += job.getPostDesc() + "\n";
-
-            String prompt = "Analyze the following job posting for content moderation:\n" + content +
-                    "\nCheck for:\n" +
-                    "1. Inappropriate or discriminatory language\n" +
-                    "2. Misleading information\n" +
-                    "3. Spam or low-quality content\n" +
-                    "4. Policy violations\n" +
-                    "5. Professional standards compliance\n" +
-                    "Provide a moderation assessment with specific recommendations.";
-
-            AiResponseDto response = mistralAiService.generateText("content_moderation", prompt);
-
-            return ResponseEntity.ok(response);
-        } catch (AiServiceException e) {
-            return ResponseEntity.internalServerError().build();
-        }
+                String content = "";
+                if (job.getTitle() != null)
+                    content += job.getTitle() + "\n";
+                if (job.getDescription() != null)
+                    content += job.getDescription() + "\n";
+                if (job.getPostProfile() != null)
+                    content += job.getPostProfile() + "\n";
+                if (job.getPostDesc() != null)
+                    content += job.getPostDesc() + "\n";
+
+                String prompt = "Analyze the following job posting for content moderation:\n" + content +
+                        "\nCheck for:\n" +
+                        "1. Inappropriate or discriminatory language\n" +
+                        "2. Misleading information\n" +
+                        "3. Spam or low-quality content\n" +
+                        "4. Policy violations\n" +
+                        "5. Professional standards compliance\n" +
+                        "Provide a moderation assessment with specific recommendations.";
+
+                AiResponseDto response = mistralAiService.generateText("content_moderation", prompt);
+
+                return ResponseEntity.ok(response);
+            } catch (AiServiceException e) {
+                return ResponseEntity.internalServerError().build();
+            }
+        });
     }
 
     // Platform Health Check
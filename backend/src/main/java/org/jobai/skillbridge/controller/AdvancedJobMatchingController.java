@@ -1,12 +1,17 @@
 package org.jobai.skillbridge.controller;
 
+import org.jobai.skillbridge.model.JobPost;
 import org.jobai.skillbridge.service.AdvancedJobMatchingService;
+import org.jobai.skillbridge.service.JobCandidateMatchService;
+import org.jobai.skillbridge.service.JobService;
+import org.jobai.skillbridge.service.SemanticIndexService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/advanced-matching")
@@ -17,6 +22,15 @@ public class AdvancedJobMatchingController {
     @Autowired
     private AdvancedJobMatchingService advancedJobMatchingService;
 
+    @Autowired
+    private JobCandidateMatchService jobCandidateMatchService;
+
+    @Autowired
+    private SemanticIndexService semanticIndexService;
+
+    @Autowired
+    private JobService jobService;
+
     /**
      * Get advanced candidate matching for a job
      * 
@@ -29,8 +43,34 @@ public class AdvancedJobMatchingController {
             @PathVariable Long jobId,
             @RequestParam(defaultValue = "10") int limit) {
         try {
-            List<AdvancedJobMatchingService.AdvancedCandidateMatch> matches = advancedJobMatchingService
-                    .findMatchingCandidates(jobId, limit);
+            List<AdvancedJobMatchingService.AdvancedCandidateMatch> matches = jobCandidateMatchService
+                    .findTopCandidates(jobId, limit);
+            return ResponseEntity.ok(matches);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Matching Error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get the candidates whose profiles are semantically closest to a job,
+     * answered from the embedding index without any AI calls
+     * 
+     * @param jobId The job ID
+     * @param limit Maximum number of candidates to return (default: 50)
+     * @return Candidate IDs with their similarity to the job description
+     */
+    @GetMapping("/semantic/candidates/{jobId}")
+    public ResponseEntity<?> getSemanticallySimilarCandidates(
+            @PathVariable Integer jobId,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            JobPost job = jobService.getJob(jobId);
+            if (job == null) {
+                return ResponseEntity.notFound().build();
+            }
+            List<SemanticCandidateMatch> matches = semanticIndexService.findSimilarCandidates(job, limit).stream()
+                    .map(neighbor -> new SemanticCandidateMatch(neighbor.getKey(), neighbor.getSimilarity()))
+                    .collect(Collectors.toList());
             return ResponseEntity.ok(matches);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new ErrorResponse("Matching Error", e.getMessage()));
@@ -59,18 +99,16 @@ public class AdvancedJobMatchingController {
 
     /**
      * Update learning models based on successful placement
-     * 
+     *
      * @param request Learning update request
      * @return Success response
+     * @deprecated The matching weights now learn from accepted and rejected
+     *             applications as their status changes; this endpoint does nothing
      */
+    @Deprecated
     @PostMapping("/learning/update")
     public ResponseEntity<?> updateLearningModels(@RequestBody LearningUpdateRequest request) {
-        try {
-            advancedJobMatchingService.updateLearningModels(request.getJobId(), request.getUserId());
-            return ResponseEntity.ok("Learning models updated successfully");
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(new ErrorResponse("Learning Update Error", e.getMessage()));
-        }
+        return ResponseEntity.ok("Learning models are updated from application status changes");
     }
 
     /**
@@ -102,6 +140,35 @@ public class AdvancedJobMatchingController {
         }
     }
 
+    /**
+     * Semantic candidate match DTO
+     */
+    public static class SemanticCandidateMatch {
+        private Long userId;
+        private double similarity;
+
+        public SemanticCandidateMatch(Long userId, double similarity) {
+            this.userId = userId;
+            this.similarity = similarity;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+
+        public double getSimilarity() {
+            return similarity;
+        }
+
+        public void setSimilarity(double similarity) {
+            this.similarity = similarity;
+        }
+    }
+
     /**
      * Learning update request DTO
      */
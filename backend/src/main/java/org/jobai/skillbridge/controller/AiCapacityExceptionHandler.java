@@ -0,0 +1,26 @@
+package org.jobai.skillbridge.controller;
+
+import org.jobai.skillbridge.exception.AiCapacityExceededException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+/**
+ * Reports AI overload as 503 with Retry-After. The AI endpoints return
+ * futures that fail before their own error handling runs when no permit is
+ * free, so this is the one place that sees those failures.
+ */
+@RestControllerAdvice
+public class AiCapacityExceptionHandler {
+
+    @ExceptionHandler(AiCapacityExceededException.class)
+    public ResponseEntity<Map<String, String>> handleAiCapacityExceeded(AiCapacityExceededException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(Map.of("error", String.valueOf(e.getMessage())));
+    }
+}
@@ -2,11 +2,17 @@ package org.jobai.skillbridge.controller;
 
 import org.jobai.skillbridge.dto.AiResponseDto;
 import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.service.AiStreamingService;
+import org.jobai.skillbridge.service.AiTaskExecutor;
 import org.jobai.skillbridge.service.MistralAiService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/ai")
@@ -14,6 +20,12 @@ public class AiController {
     
     @Autowired
     private MistralAiService aiService;
+
+    @Autowired
+    private AiTaskExecutor aiTaskExecutor;
+
+    @Autowired
+    private AiStreamingService aiStreamingService;
     
     /**
      * Generate a resume for the authenticated user
@@ -24,26 +36,48 @@ public class AiController {
      * @return Generated resume content
      */
     @PostMapping("/resume/generate")
-    public ResponseEntity<AiResponseDto> generateResume(
+    public CompletableFuture<ResponseEntity<AiResponseDto>> generateResume(
             @RequestParam(required = false) String jobTitle,
             @RequestParam(required = false, defaultValue = "chronological") String format,
             @RequestParam(required = false, defaultValue = "professional") String template,
             Authentication authentication) {
         
-        try {
-            User user = (User) authentication.getPrincipal();
-            AiResponseDto response = aiService.generateResume(user.getId(), jobTitle, format, template);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            AiResponseDto errorResponse = new AiResponseDto(
-                null,
-                "chronological",
-                false,
-                "Error generating resume: " + e.getMessage(),
-                0
-            );
-            return ResponseEntity.badRequest().body(errorResponse);
-        }
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User user = (User) authentication.getPrincipal();
+                AiResponseDto response = aiService.generateResume(user.getId(), jobTitle, format, template);
+                return ResponseEntity.ok(response);
+            } catch (Exception e) {
+                AiResponseDto errorResponse = new AiResponseDto(
+                    null,
+                    "chronological",
+                    false,
+                    "Error generating resume: " + e.getMessage(),
+                    0
+                );
+                return ResponseEntity.badRequest().body(errorResponse);
+            }
+        });
+    }
+    
+    /**
+     * Generate a resume for the authenticated user, streaming it as it is written
+     * @param jobTitle Optional job title to tailor the resume for
+     * @param format Optional resume format (chronological, functional, hybrid)
+     * @param template Optional resume template (professional, creative, executive, etc.)
+     * @param authentication Authentication object containing user info
+     * @return Server-Sent Events stream of "token" events followed by a "done" event
+     */
+    @PostMapping(value = "/resume/generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter generateResumeStream(
+            @RequestParam(required = false) String jobTitle,
+            @RequestParam(required = false, defaultValue = "chronological") String format,
+            @RequestParam(required = false, defaultValue = "professional") String template,
+            Authentication authentication) {
+        
+        User user = (User) authentication.getPrincipal();
+        return aiStreamingService.stream(
+                onToken -> aiService.generateResumeStream(user.getId(), jobTitle, format, template, onToken));
     }
     
     /**
@@ -53,24 +87,26 @@ public class AiController {
      * @return Optimized resume content
      */
     @PostMapping("/resume/optimize/{jobId}")
-    public ResponseEntity<AiResponseDto> optimizeResumeForJob(
+    public CompletableFuture<ResponseEntity<AiResponseDto>> optimizeResumeForJob(
             @PathVariable Integer jobId,
             Authentication authentication) {
         
-        try {
-            User user = (User) authentication.getPrincipal();
-            AiResponseDto response = aiService.optimizeResumeForJob(user.getId(), jobId);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            AiResponseDto errorResponse = new AiResponseDto(
-                null,
-                "job-optimized",
-                false,
-                "Error optimizing resume: " + e.getMessage(),
-                0
-            );
-            return ResponseEntity.badRequest().body(errorResponse);
-        }
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User user = (User) authentication.getPrincipal();
+                AiResponseDto response = aiService.optimizeResumeForJob(user.getId(), jobId);
+                return ResponseEntity.ok(response);
+            } catch (Exception e) {
+                AiResponseDto errorResponse = new AiResponseDto(
+                    null,
+                    "job-optimized",
+                    false,
+                    "Error optimizing resume: " + e.getMessage(),
+                    0
+                );
+                return ResponseEntity.badRequest().body(errorResponse);
+            }
+        });
     }
     
     /**
@@ -4,24 +4,29 @@ import org.jobai.skillbridge.dto.AiResponseDto;
 import org.jobai.skillbridge.model.JobApplication;
 import org.jobai.skillbridge.model.JobPost;
 import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.service.AiStreamingService;
+import org.jobai.skillbridge.service.AiTaskExecutor;
 import org.jobai.skillbridge.service.ApplicationService;
 import org.jobai.skillbridge.service.JobService;
 import org.jobai.skillbridge.service.MistralAiService;
-import org.jobai.skillbridge.service.AdvancedJobMatchingService;
+import org.jobai.skillbridge.service.JobCandidateMatchService;
 import org.jobai.skillbridge.service.JobDescriptionGeneratorService;
 import org.jobai.skillbridge.service.AdvancedCandidateMatchingService;
 import org.jobai.skillbridge.service.ResumeParsingService;
 import org.jobai.skillbridge.exception.AiServiceException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @RestController
@@ -39,7 +44,7 @@ public class EmployerController {
     private MistralAiService mistralAiService;
 
     @Autowired
-    private AdvancedJobMatchingService advancedJobMatchingService;
+    private JobCandidateMatchService jobCandidateMatchService;
 
     @Autowired
     private JobDescriptionGeneratorService jobDescriptionGeneratorService;
@@ -50,6 +55,12 @@ public class EmployerController {
     @Autowired
     private ResumeParsingService resumeParsingService;
 
+    @Autowired
+    private AiTaskExecutor aiTaskExecutor;
+
+    @Autowired
+    private AiStreamingService aiStreamingService;
+
     @GetMapping("/dashboard-stats")
     public ResponseEntity<Map<String, Object>> getDashboardStats(Authentication authentication) {
         User user = (User) authentication.getPrincipal();
@@ -108,54 +119,56 @@ public class EmployerController {
     // AI-Powered Job Performance Analysis
     @PostMapping("/jobs/{jobId}/analyze-performance")
     @PreAuthorize("hasRole('EMPLOYER')")
-    public ResponseEntity<AiResponseDto> analyzeJobPerformance(@PathVariable Integer jobId,
+    public CompletableFuture<ResponseEntity<AiResponseDto>> analyzeJobPerformance(@PathVariable Integer jobId,
             Authentication authentication) {
-        try {
-            User user = (User) authentication.getPrincipal();
-            JobPost job = jobService.getJob(jobId);
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User user = (User) authentication.getPrincipal();
+                JobPost job = jobService.getJob(jobId);
 
-            if (job == null) {
-                return ResponseEntity.notFound().build();
-            }
+                if (job == null) {
+                    return ResponseEntity.notFound().build();
+                }
 
-            // Verify the job belongs to the authenticated employer
-            List<JobPost> employerJobs = jobService.getJobsByEmployerId(user.getId().intValue());
-            boolean isOwner = employerJobs.stream().anyMatch(j -> j.getId().equals(jobId));
+                // Verify the job belongs to the authenticated employer
+                List<JobPost> employerJobs = jobService.getJobsByEmployerId(user.getId().intValue());
+                boolean isOwner = employerJobs.stream().anyMatch(j -> j.getId().equals(jobId));
 
-            if (!isOwner) {
-                return ResponseEntity.status(403).build();
-            }
+                if (!isOwner) {
+                    return ResponseEntity.status(403).build();
+                }
 
-            // Get job applications for analysis
-            List<JobApplication> applications = applicationService.getJobApplications(job);
-
-            // Build context for AI analysis
-            StringBuilder context = new StringBuilder();
-            context.append("Job Performance Analysis:\n");
-            context.append("Job Title: ").append(job.getTitle() != null ? job.getTitle() : job.getPostProfile())
-                    .append("\n");
-            context.append("Total Applications: ").append(applications.size()).append("\n");
-
-            // Application status breakdown
-            Map<String, Long> statusCounts = applications.stream()
-                    .collect(Collectors.groupingBy(
-                            app -> app.getStatus() != null ? app.getStatus() : "UNKNOWN",
-                            Collectors.counting()));
-            context.append("Application Status Breakdown: ").append(statusCounts).append("\n");
-
-            String prompt = context.toString() +
-                    "\nAnalyze this job posting performance and provide insights on:\n" +
-                    "1. Application volume assessment\n" +
-                    "2. Candidate engagement patterns\n" +
-                    "3. Job posting effectiveness\n" +
-                    "4. Recommendations for improvement\n" +
-                    "5. Competitive positioning suggestions\n" +
-                    "Provide actionable recommendations to improve job performance.";
-
-            return ResponseEntity.ok(mistralAiService.generateText("job_performance", prompt));
-        } catch (AiServiceException e) {
-            return ResponseEntity.internalServerError().build();
-        }
+                // Get job applications for analysis
+                List<JobApplication> applications = applicationService.getJobApplications(job);
+
+                // Build context for AI analysis
+                StringBuilder context = new StringBuilder();
+                context.append("Job Performance Analysis:\n");
+                context.append("Job Title: ").append(job.getTitle() != null ? job.getTitle() : job.getPostProfile())
+                        .append("\n");
+                context.append("Total Applications: ").append(applications.size()).append("\n");
+
+                // Application status breakdown
+                Map<String, Long> statusCounts = applications.stream()
+                        .collect(Collectors.groupingBy(
+                                app -> app.getStatus() != null ? app.getStatus() : "UNKNOWN",
+                                Collectors.counting()));
+                context.append("Application Status Breakdown: ").append(statusCounts).append("\n");
+
+                String prompt = context.toString() +
+                        "\nAnalyze this job posting performance and provide insights on:\n" +
+                        "1. Application volume assessment\n" +
+                        "2. Candidate engagement patterns\n" +
+                        "3. Job posting effectiveness\n" +
+                        "4. Recommendations for improvement\n" +
+                        "5. Competitive positioning suggestions\n" +
+                        "Provide actionable recommendations to improve job performance.";
+
+                return ResponseEntity.ok(mistralAiService.generateText("job_performance", prompt));
+            } catch (AiServiceException e) {
+                return ResponseEntity.internalServerError().build();
+            }
+        });
     }
 
     // AI-Powered Candidate Recommendations
@@ -179,8 +192,8 @@ public class EmployerController {
                 return ResponseEntity.status(403).build();
             }
 
-            // Use advanced matching service to find candidates
-            var candidateMatches = advancedJobMatchingService.findMatchingCandidates(jobId.longValue(), 10);
+            // Precomputed best matches of the job
+            var candidateMatches = jobCandidateMatchService.findTopCandidates(jobId.longValue(), 10);
             List<Map<String, Object>> candidates = candidateMatches.stream()
                     .map(match -> {
                         Map<String, Object> candidateMap = new HashMap<>();
@@ -210,166 +223,187 @@ public class EmployerController {
     // AI-Powered Application Insights
     @PostMapping("/analytics/application-insights")
     @PreAuthorize("hasRole('EMPLOYER')")
-    public ResponseEntity<AiResponseDto> generateApplicationInsights(Authentication authentication) {
-        try {
-            User user = (User) authentication.getPrincipal();
-            List<JobPost> employerJobs = jobService.getJobsByEmployerId(user.getId().intValue());
-
-            // Gather application data across all jobs
-            Map<String, Object> analyticsData = new HashMap<>();
-            int totalApplications = 0;
-            Map<String, Integer> applicationsByJob = new HashMap<>();
-            Map<String, Integer> applicationsByStatus = new HashMap<>();
-
-            for (JobPost job : employerJobs) {
-                List<JobApplication> applications = applicationService.getJobApplications(job);
-                String jobTitle = job.getTitle() != null ? job.getTitle() : job.getPostProfile();
-                applicationsByJob.put(jobTitle, applications.size());
-                totalApplications += applications.size();
-
-                // Count by status
-                for (JobApplication app : applications) {
-                    String status = app.getStatus() != null ? app.getStatus() : "UNKNOWN";
-                    applicationsByStatus.put(status, applicationsByStatus.getOrDefault(status, 0) + 1);
+    public CompletableFuture<ResponseEntity<AiResponseDto>> generateApplicationInsights(Authentication authentication) {
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User user = (User) authentication.getPrincipal();
+                List<JobPost> employerJobs = jobService.getJobsByEmployerId(user.getId().intValue());
+
+                // Gather application data across all jobs
+                Map<String, Object> analyticsData = new HashMap<>();
+                int totalApplications = 0;
+                Map<String, Integer> applicationsByJob = new HashMap<>();
+                Map<String, Integer> applicationsByStatus = new HashMap<>();
+
+                for (JobPost job : employerJobs) {
+                    List<JobApplication> applications = applicationService.getJobApplications(job);
+                    String jobTitle = job.getTitle() != null ? job.getTitle() : job.getPostProfile();
+                    applicationsByJob.put(jobTitle, applications.size());
+                    totalApplications += applications.size();
+
+                    // Count by status
+                    for (JobApplication app : applications) {
+                        String status = app.getStatus() != null ? app.getStatus() : "UNKNOWN";
+                        applicationsByStatus.put(status, applicationsByStatus.getOrDefault(status, 0) + 1);
+                    }
                 }
-            }
 
-            analyticsData.put("totalJobs", employerJobs.size());
-            analyticsData.put("totalApplications", totalApplications);
-            analyticsData.put("applicationsByJob", applicationsByJob);
-            analyticsData.put("applicationsByStatus", applicationsByStatus);
-
-            String prompt = "Employer Application Analytics Summary:\n" + analyticsData.toString() +
-                    "\nProvide insights on:\n" +
-                    "1. Hiring funnel performance\n" +
-                    "2. Job posting effectiveness comparison\n" +
-                    "3. Candidate quality assessment\n" +
-                    "4. Time-to-hire optimization\n" +
-                    "5. Recruitment strategy recommendations\n" +
-                    "Focus on actionable insights to improve hiring outcomes.";
-
-            return ResponseEntity.ok(mistralAiService.generateText("employer_insights", prompt));
-        } catch (AiServiceException e) {
-            return ResponseEntity.internalServerError().build();
-        }
+                analyticsData.put("totalJobs", employerJobs.size());
+                analyticsData.put("totalApplications", totalApplications);
+                analyticsData.put("applicationsByJob", applicationsByJob);
+                analyticsData.put("applicationsByStatus", applicationsByStatus);
+
+                String prompt = "Employer Application Analytics Summary:\n" + analyticsData.toString() +
+                        "\nProvide insights on:\n" +
+                        "1. Hiring funnel performance\n" +
+                        "2. Job posting effectiveness comparison\n" +
+                        "3. Candidate quality assessment\n" +
+                        "4. Time-to-hire optimization\n" +
+                        "5. Recruitment strategy recommendations\n" +
+                        "Focus on actionable insights to improve hiring outcomes.";
+
+                return ResponseEntity.ok(mistralAiService.generateText("employer_insights", prompt));
+            } catch (AiServiceException e) {
+                return ResponseEntity.internalServerError().build();
+            }
+        });
     }
 
     // Enhanced Dashboard with AI Recommendations
     @GetMapping("/dashboard-enhanced")
     @PreAuthorize("hasRole('EMPLOYER')")
-    public ResponseEntity<Map<String, Object>> getEnhancedDashboard(Authentication authentication) {
-        try {
-            User user = (User) authentication.getPrincipal();
-            List<JobPost> employerJobs = jobService.getJobsByEmployerId(user.getId().intValue());
-
-            Map<String, Object> dashboard = new HashMap<>();
-
-            // Basic stats
-            int totalJobs = employerJobs.size();
-            int totalApplications = 0;
-            int pendingApplications = 0;
-
-            for (JobPost job : employerJobs) {
-                List<JobApplication> jobApplications = applicationService.getJobApplications(job);
-                totalApplications += jobApplications.size();
-                pendingApplications += (int) jobApplications.stream()
-                        .filter(app -> "PENDING".equals(app.getStatus()) || "APPLIED".equals(app.getStatus()))
-                        .count();
-            }
-
-            dashboard.put("totalJobs", totalJobs);
-            dashboard.put("totalApplications", totalApplications);
-            dashboard.put("pendingApplications", pendingApplications);
-
-            // Top performing jobs
-            List<Map<String, Object>> topJobs = employerJobs.stream()
-                    .map(job -> {
-                        List<JobApplication> apps = applicationService.getJobApplications(job);
-                        Map<String, Object> jobStats = new HashMap<>();
-                        jobStats.put("jobId", job.getId());
-                        jobStats.put("title", job.getTitle() != null ? job.getTitle() : job.getPostProfile());
-                        jobStats.put("applications", apps.size());
-                        return jobStats;
-                    })
-                    .sorted((a, b) -> Integer.compare((Integer) b.get("applications"), (Integer) a.get("applications")))
-                    .limit(5)
-                    .collect(Collectors.toList());
-
-            dashboard.put("topPerformingJobs", topJobs);
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> getEnhancedDashboard(Authentication authentication) {
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User user = (User) authentication.getPrincipal();
+                List<JobPost> employerJobs = jobService.getJobsByEmployerId(user.getId().intValue());
+
+                Map<String, Object> dashboard = new HashMap<>();
+
+                // Basic stats
+                int totalJobs = employerJobs.size();
+                int totalApplications = 0;
+                int pendingApplications = 0;
+
+                for (JobPost job : employerJobs) {
+                    List<JobApplication> jobApplications = applicationService.getJobApplications(job);
+                    totalApplications += jobApplications.size();
+                    pendingApplications += (int) jobApplications.stream()
+                            .filter(app -> "PENDING".equals(app.getStatus()) || "APPLIED".equals(app.getStatus()))
+                            .count();
+                }
 
-            // AI recommendations summary
-            if (totalJobs > 0) {
-                String prompt = "Employer Dashboard Summary: " + totalJobs + " jobs, " + totalApplications +
-                        " total applications, " + pendingApplications + " pending applications.\n" +
-                        "Provide 3 quick actionable recommendations to improve hiring performance.";
+                dashboard.put("totalJobs", totalJobs);
+                dashboard.put("totalApplications", totalApplications);
+                dashboard.put("pendingApplications", pendingApplications);
+
+                // Top performing jobs
+                List<Map<String, Object>> topJobs = employerJobs.stream()
+                        .map(job -> {
+                            List<JobApplication> apps = applicationService.getJobApplications(job);
+                            Map<String, Object> jobStats = new HashMap<>();
+                            jobStats.put("jobId", job.getId());
+                            jobStats.put("title", job.getTitle() != null ? job.getTitle() : job.getPostProfile());
+                            jobStats.put("applications", apps.size());
+                            return jobStats;
+                        })
+                        .sorted((a, b) -> Integer.compare((Integer) b.get("applications"), (Integer) a.get("applications")))
+                        .limit(5)
+                        .collect(Collectors.toList());
+
+                dashboard.put("topPerformingJobs", topJobs);
+
+                // AI recommendations summary
+                if (totalJobs > 0) {
+                    String prompt = "Employer Dashboard Summary: " + totalJobs + " jobs, " + totalApplications +
+                            " total applications, " + pendingApplications + " pending applications.\n" +
+                            "Provide 3 quick actionable recommendations to improve hiring performance.";
+
+                    AiResponseDto aiRecommendations = mistralAiService.generateText("dashboard_tips", prompt);
+                    dashboard.put("aiRecommendations", aiRecommendations.getContent());
+                }
 
-                AiResponseDto aiRecommendations = mistralAiService.generateText("dashboard_tips", prompt);
-                dashboard.put("aiRecommendations", aiRecommendations.getContent());
+                return ResponseEntity.ok(dashboard);
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError().build();
             }
-
-            return ResponseEntity.ok(dashboard);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
-        }
+        });
     }
 
     // Generate Job Description using AI
     @PostMapping("/generate-job-description")
     @PreAuthorize("hasRole('EMPLOYER')")
-    public ResponseEntity<JobDescriptionGeneratorService.JobDescriptionResult> generateJobDescription(
+    public CompletableFuture<ResponseEntity<JobDescriptionGeneratorService.JobDescriptionResult>> generateJobDescription(
             @RequestBody JobDescriptionGeneratorService.JobDescriptionRequest request,
             Authentication authentication) {
-        try {
-            User employer = (User) authentication.getPrincipal();
-            JobDescriptionGeneratorService.JobDescriptionResult result = jobDescriptionGeneratorService
-                    .generateJobDescription(request, employer);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
-        }
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User employer = (User) authentication.getPrincipal();
+                JobDescriptionGeneratorService.JobDescriptionResult result = jobDescriptionGeneratorService
+                        .generateJobDescription(request, employer);
+                return ResponseEntity.ok(result);
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError().build();
+            }
+        });
+    }
+
+    // Generate Job Description using AI, streamed as Server-Sent Events
+    @PostMapping(value = "/generate-job-description/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public SseEmitter generateJobDescriptionStream(
+            @RequestBody JobDescriptionGeneratorService.JobDescriptionRequest request,
+            Authentication authentication) {
+        User employer = (User) authentication.getPrincipal();
+        return aiStreamingService.stream(
+                onToken -> jobDescriptionGeneratorService.streamJobDescription(request, employer, onToken));
     }
 
     // Enhance existing job description
     @PostMapping("/enhance-job-description")
     @PreAuthorize("hasRole('EMPLOYER')")
-    public ResponseEntity<JobDescriptionGeneratorService.JobDescriptionResult> enhanceJobDescription(
+    public CompletableFuture<ResponseEntity<JobDescriptionGeneratorService.JobDescriptionResult>> enhanceJobDescription(
             @RequestBody Map<String, Object> request,
             Authentication authentication) {
-        try {
-            User employer = (User) authentication.getPrincipal();
-            String existingDescription = (String) request.get("description");
-            @SuppressWarnings("unchecked")
-            List<String> improvements = (List<String>) request.get("improvements");
-
-            JobDescriptionGeneratorService.JobDescriptionResult result = jobDescriptionGeneratorService
-                    .enhanceJobDescription(existingDescription, improvements, employer);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
-        }
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User employer = (User) authentication.getPrincipal();
+                String existingDescription = (String) request.get("description");
+                @SuppressWarnings("unchecked")
+                List<String> improvements = (List<String>) request.get("improvements");
+
+                JobDescriptionGeneratorService.JobDescriptionResult result = jobDescriptionGeneratorService
+                        .enhanceJobDescription(existingDescription, improvements, employer);
+                return ResponseEntity.ok(result);
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError().build();
+            }
+        });
     }
 
     // Find best candidates for a job
     @GetMapping("/jobs/{jobId}/candidates")
     @PreAuthorize("hasRole('EMPLOYER')")
-    public ResponseEntity<List<AdvancedCandidateMatchingService.CandidateMatchResult>> findCandidates(
+    public CompletableFuture<ResponseEntity<List<AdvancedCandidateMatchingService.CandidateMatchResult>>> findCandidates(
             @PathVariable Integer jobId,
             @RequestParam(defaultValue = "10") int maxResults,
             Authentication authentication) {
-        try {
-            User employer = (User) authentication.getPrincipal();
-            JobPost jobPost = jobService.getJob(jobId);
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User employer = (User) authentication.getPrincipal();
+                JobPost jobPost = jobService.getJob(jobId);
 
-            if (jobPost == null || !jobPost.getEmployerId().equals(employer.getId().intValue())) {
-                return ResponseEntity.notFound().build();
-            }
+                if (jobPost == null || !jobPost.getEmployerId().equals(employer.getId().intValue())) {
+                    return ResponseEntity.notFound().build();
+                }
 
-            List<AdvancedCandidateMatchingService.CandidateMatchResult> candidates = candidateMatchingService
-                    .findBestCandidates(jobPost, maxResults);
-            return ResponseEntity.ok(candidates);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
-        }
+                List<AdvancedCandidateMatchingService.CandidateMatchResult> candidates = candidateMatchingService
+                        .findBestCandidates(jobPost, maxResults);
+                return ResponseEntity.ok(candidates);
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError().build();
+            }
+        });
     }
 
     // Evaluate a specific candidate for a job
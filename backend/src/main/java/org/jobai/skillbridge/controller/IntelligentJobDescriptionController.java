@@ -2,6 +2,7 @@ package org.jobai.skillbridge.controller;
 
 import org.jobai.skillbridge.model.JobPost;
 import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.service.AiTaskExecutor;
 import org.jobai.skillbridge.service.IntelligentJobDescriptionService;
 import org.jobai.skillbridge.service.JobService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +12,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/intelligent-jobs")
@@ -24,6 +26,9 @@ public class IntelligentJobDescriptionController {
     @Autowired
     private JobService jobService;
 
+    @Autowired
+    private AiTaskExecutor aiTaskExecutor;
+
     /**
      * Generate an optimized job description based on minimal input
      * 
@@ -32,24 +37,26 @@ public class IntelligentJobDescriptionController {
      * @return Generated job description
      */
     @PostMapping("/generate")
-    public ResponseEntity<?> generateJobDescription(
+    public CompletableFuture<ResponseEntity<?>> generateJobDescription(
             @RequestBody JobDescriptionGenerationRequest request,
             Authentication authentication) {
-        try {
-            User employer = (User) authentication.getPrincipal();
-
-            IntelligentJobDescriptionService.JobDescriptionGenerationResult result = intelligentJobDescriptionService
-                    .generateJobDescription(
-                            request.getJobTitle(),
-                            request.getIndustry(),
-                            request.getExperienceLevel(),
-                            request.getLocation());
-
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(new ErrorResponse("Job Description Generation Error", e.getMessage()));
-        }
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User employer = (User) authentication.getPrincipal();
+
+                IntelligentJobDescriptionService.JobDescriptionGenerationResult result = intelligentJobDescriptionService
+                        .generateJobDescription(
+                                request.getJobTitle(),
+                                request.getIndustry(),
+                                request.getExperienceLevel(),
+                                request.getLocation());
+
+                return ResponseEntity.ok(result);
+            } catch (Exception e) {
+                return ResponseEntity.badRequest()
+                        .body(new ErrorResponse("Job Description Generation Error", e.getMessage()));
+            }
+        });
     }
 
     /**
@@ -60,31 +67,33 @@ public class IntelligentJobDescriptionController {
      * @return Optimized job description
      */
     @PostMapping("/optimize/{jobId}")
-    public ResponseEntity<?> optimizeJobDescription(
+    public CompletableFuture<ResponseEntity<?>> optimizeJobDescription(
             @PathVariable Integer jobId,
             Authentication authentication) {
-        try {
-            User employer = (User) authentication.getPrincipal();
-
-            // Get the job to optimize
-            JobPost job = jobService.getJob(jobId);
-            if (job == null) {
-                return ResponseEntity.notFound().build();
-            }
-
-            // Check if the job belongs to the employer
-            if (!job.getEmployerId().equals(employer.getId().intValue())) {
-                return ResponseEntity.status(403).build();
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User employer = (User) authentication.getPrincipal();
+
+                // Get the job to optimize
+                JobPost job = jobService.getJob(jobId);
+                if (job == null) {
+                    return ResponseEntity.notFound().build();
+                }
+
+                // Check if the job belongs to the employer
+                if (!job.getEmployerId().equals(employer.getId().intValue())) {
+                    return ResponseEntity.status(403).build();
+                }
+
+                IntelligentJobDescriptionService.JobDescriptionOptimizationResult result = intelligentJobDescriptionService
+                        .optimizeJobDescription(job);
+
+                return ResponseEntity.ok(result);
+            } catch (Exception e) {
+                return ResponseEntity.badRequest()
+                        .body(new ErrorResponse("Job Description Optimization Error", e.getMessage()));
             }
-
-            IntelligentJobDescriptionService.JobDescriptionOptimizationResult result = intelligentJobDescriptionService
-                    .optimizeJobDescription(job);
-
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(new ErrorResponse("Job Description Optimization Error", e.getMessage()));
-        }
+        });
     }
 
     /**
@@ -95,23 +104,25 @@ public class IntelligentJobDescriptionController {
      * @return Suggested skills
      */
     @PostMapping("/skills/suggest")
-    public ResponseEntity<?> suggestSkills(
+    public CompletableFuture<ResponseEntity<?>> suggestSkills(
             @RequestBody SkillSuggestionRequest request,
             Authentication authentication) {
-        try {
-            User employer = (User) authentication.getPrincipal();
-
-            IntelligentJobDescriptionService.SkillSuggestionResult result = intelligentJobDescriptionService
-                    .suggestSkills(
-                            request.getJobTitle(),
-                            request.getIndustry(),
-                            request.getExperienceLevel());
-
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(new ErrorResponse("Skill Suggestion Error", e.getMessage()));
-        }
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User employer = (User) authentication.getPrincipal();
+
+                IntelligentJobDescriptionService.SkillSuggestionResult result = intelligentJobDescriptionService
+                        .suggestSkills(
+                                request.getJobTitle(),
+                                request.getIndustry(),
+                                request.getExperienceLevel());
+
+                return ResponseEntity.ok(result);
+            } catch (Exception e) {
+                return ResponseEntity.badRequest()
+                        .body(new ErrorResponse("Skill Suggestion Error", e.getMessage()));
+            }
+        });
     }
 
     /**
@@ -122,24 +133,26 @@ public class IntelligentJobDescriptionController {
      * @return Suggested salary ranges
      */
     @PostMapping("/salary/suggest")
-    public ResponseEntity<?> suggestSalaryRanges(
+    public CompletableFuture<ResponseEntity<?>> suggestSalaryRanges(
             @RequestBody SalarySuggestionRequest request,
             Authentication authentication) {
-        try {
-            User employer = (User) authentication.getPrincipal();
-
-            IntelligentJobDescriptionService.SalarySuggestionResult result = intelligentJobDescriptionService
-                    .suggestSalaryRanges(
-                            request.getJobTitle(),
-                            request.getIndustry(),
-                            request.getExperienceLevel(),
-                            request.getLocation());
-
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(new ErrorResponse("Salary Suggestion Error", e.getMessage()));
-        }
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User employer = (User) authentication.getPrincipal();
+
+                IntelligentJobDescriptionService.SalarySuggestionResult result = intelligentJobDescriptionService
+                        .suggestSalaryRanges(
+                                request.getJobTitle(),
+                                request.getIndustry(),
+                                request.getExperienceLevel(),
+                                request.getLocation());
+
+                return ResponseEntity.ok(result);
+            } catch (Exception e) {
+                return ResponseEntity.badRequest()
+                        .body(new ErrorResponse("Salary Suggestion Error", e.getMessage()));
+            }
+        });
     }
 
     /**
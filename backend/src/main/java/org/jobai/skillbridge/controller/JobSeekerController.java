@@ -1,20 +1,26 @@
 package org.jobai.skillbridge.controller;
 
 import org.jobai.skillbridge.dto.AiResponseDto;
+import org.jobai.skillbridge.exception.IngestionQueueFullException;
 import org.jobai.skillbridge.model.*;
 import org.jobai.skillbridge.service.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/job-seekers")
@@ -30,6 +36,9 @@ public class JobSeekerController {
     @Autowired
     private AdvancedCandidateMatchingService candidateMatchingService;
 
+    @Autowired
+    private JobRecommendationFeedService jobRecommendationFeedService;
+
     @Autowired
     private ApplicationService applicationService;
 
@@ -42,6 +51,15 @@ public class JobSeekerController {
     @Autowired
     private ProfileService profileService;
 
+    @Autowired
+    private AiTaskExecutor aiTaskExecutor;
+
+    @Autowired
+    private AiStreamingService aiStreamingService;
+
+    @Autowired
+    private ResumeIngestionService resumeIngestionService;
+
     // Dashboard for job seekers
     @GetMapping("/dashboard")
     @PreAuthorize("hasRole('JOB_SEEKER')")
@@ -71,8 +89,8 @@ public class JobSeekerController {
             double profileCompletion = calculateProfileCompletion(jobSeeker);
 
             // Get job recommendations count
-            List<AdvancedCandidateMatchingService.JobMatchResult> jobRecommendations = candidateMatchingService
-                    .getJobRecommendations(jobSeeker, 5);
+            List<AdvancedCandidateMatchingService.JobMatchResult> jobRecommendations = jobRecommendationFeedService
+                    .getFeed(jobSeeker, 0, 5);
 
             dashboard.put("totalApplications", applications.size());
             dashboard.put("applicationsByStatus", applicationsByStatus);
@@ -104,6 +122,55 @@ public class JobSeekerController {
         }
     }
 
+    // Queue a resume for background upload and parsing; poll or follow the returned job
+    @PostMapping("/resume/ingest")
+    @PreAuthorize("hasRole('JOB_SEEKER')")
+    public ResponseEntity<Map<String, Object>> ingestResume(
+            @RequestParam("file") MultipartFile file,
+            Authentication authentication) {
+        try {
+            User jobSeeker = (User) authentication.getPrincipal();
+            ResumeIngestionJob job = resumeIngestionService.submit(file, jobSeeker);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("jobId", job.getId());
+            response.put("status", job.getStatus());
+            response.put("statusUrl", "/api/job-seekers/resume/ingest/" + job.getId());
+            response.put("eventsUrl", "/api/job-seekers/resume/ingest/" + job.getId() + "/events");
+            return ResponseEntity.accepted().body(response);
+        } catch (IngestionQueueFullException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    // Status of a queued resume, with the parsed data once completed
+    @GetMapping("/resume/ingest/{jobId}")
+    @PreAuthorize("hasRole('JOB_SEEKER')")
+    public ResponseEntity<ResumeIngestionService.IngestionStatus> getResumeIngestionStatus(
+            @PathVariable Long jobId,
+            Authentication authentication) {
+        User jobSeeker = (User) authentication.getPrincipal();
+        return resumeIngestionService.getStatus(jobId, jobSeeker.getId())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Status changes of a queued resume as Server-Sent Events
+    @GetMapping(value = "/resume/ingest/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('JOB_SEEKER')")
+    public ResponseEntity<SseEmitter> followResumeIngestion(
+            @PathVariable Long jobId,
+            Authentication authentication) {
+        User jobSeeker = (User) authentication.getPrincipal();
+        return resumeIngestionService.subscribe(jobId, jobSeeker.getId())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     // Get user's resumes
     @GetMapping("/resumes")
     @PreAuthorize("hasRole('JOB_SEEKER')")
@@ -120,41 +187,61 @@ public class JobSeekerController {
     // Generate resume using AI
     @PostMapping("/resume/generate")
     @PreAuthorize("hasRole('JOB_SEEKER')")
-    public ResponseEntity<AiResponseDto> generateResume(
+    public CompletableFuture<ResponseEntity<AiResponseDto>> generateResume(
             @RequestBody Map<String, String> request,
             Authentication authentication) {
-        try {
-            User jobSeeker = (User) authentication.getPrincipal();
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User jobSeeker = (User) authentication.getPrincipal();
 
-            String jobTitle = request.get("jobTitle");
-            String format = request.getOrDefault("format", "professional");
-            String template = request.getOrDefault("template", "modern");
+                String jobTitle = request.get("jobTitle");
+                String format = request.getOrDefault("format", "professional");
+                String template = request.getOrDefault("template", "modern");
 
-            AiResponseDto resume = mistralAiService.generateResume(
-                    jobSeeker.getId(), jobTitle, format, template);
+                AiResponseDto resume = mistralAiService.generateResume(
+                        jobSeeker.getId(), jobTitle, format, template);
 
-            return ResponseEntity.ok(resume);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
-        }
+                return ResponseEntity.ok(resume);
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError().build();
+            }
+        });
+    }
+
+    // Generate resume using AI, streamed as Server-Sent Events
+    @PostMapping(value = "/resume/generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('JOB_SEEKER')")
+    public SseEmitter generateResumeStream(
+            @RequestBody Map<String, String> request,
+            Authentication authentication) {
+        User jobSeeker = (User) authentication.getPrincipal();
+
+        String jobTitle = request.get("jobTitle");
+        String format = request.getOrDefault("format", "professional");
+        String template = request.getOrDefault("template", "modern");
+
+        return aiStreamingService.stream(onToken -> mistralAiService.generateResumeStream(
+                jobSeeker.getId(), jobTitle, format, template, onToken));
     }
 
     // Optimize resume for specific job
     @PostMapping("/resume/optimize/{jobId}")
     @PreAuthorize("hasRole('JOB_SEEKER')")
-    public ResponseEntity<AiResponseDto> optimizeResumeForJob(
+    public CompletableFuture<ResponseEntity<AiResponseDto>> optimizeResumeForJob(
             @PathVariable Integer jobId,
             Authentication authentication) {
-        try {
-            User jobSeeker = (User) authentication.getPrincipal();
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User jobSeeker = (User) authentication.getPrincipal();
 
-            AiResponseDto optimizedResume = mistralAiService.optimizeResumeForJob(
-                    jobSeeker.getId(), jobId);
+                AiResponseDto optimizedResume = mistralAiService.optimizeResumeForJob(
+                        jobSeeker.getId(), jobId);
 
-            return ResponseEntity.ok(optimizedResume);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
-        }
+                return ResponseEntity.ok(optimizedResume);
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError().build();
+            }
+        });
     }
 
     // Get job recommendations
@@ -162,12 +249,14 @@ public class JobSeekerController {
     @PreAuthorize("hasRole('JOB_SEEKER')")
     public ResponseEntity<List<AdvancedCandidateMatchingService.JobMatchResult>> getJobRecommendations(
             @RequestParam(defaultValue = "20") int maxResults,
+            @RequestParam(defaultValue = "0") int page,
             Authentication authentication) {
         try {
             User jobSeeker = (User) authentication.getPrincipal();
 
-            List<AdvancedCandidateMatchingService.JobMatchResult> recommendations = candidateMatchingService
-                    .getJobRecommendations(jobSeeker, maxResults);
+            // Page of the precomputed feed; maxResults is the page size
+            List<AdvancedCandidateMatchingService.JobMatchResult> recommendations = jobRecommendationFeedService
+                    .getFeed(jobSeeker, page, maxResults);
 
             return ResponseEntity.ok(recommendations);
         } catch (Exception e) {
@@ -238,109 +327,115 @@ public class JobSeekerController {
     // Get skill gap analysis
     @PostMapping("/skills/gap-analysis")
     @PreAuthorize("hasRole('JOB_SEEKER')")
-    public ResponseEntity<Map<String, Object>> getSkillGapAnalysis(
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> getSkillGapAnalysis(
             @RequestBody Map<String, String> request,
             Authentication authentication) {
-        try {
-            User jobSeeker = (User) authentication.getPrincipal();
-            String targetRole = request.get("targetRole");
-            String industry = request.getOrDefault("industry", "Technology");
-
-            // Get user's current skills
-            List<Skill> currentSkills = profileService.getUserSkills(jobSeeker);
-
-            // Generate AI analysis
-            String prompt = String.format(
-                    "Analyze skill gaps for a job seeker transitioning to %s role in %s industry. " +
-                            "Current skills: %s. " +
-                            "Provide: 1) Missing critical skills, 2) Skills to improve, 3) Learning recommendations, " +
-                            "4) Estimated timeline for skill development.",
-                    targetRole, industry, currentSkills.stream()
-                            .map(Skill::getName)
-                            .reduce((a, b) -> a + ", " + b)
-                            .orElse("None specified"));
-
-            AiResponseDto analysis = mistralAiService.generateText(prompt, "Skill Gap Analysis");
-
-            Map<String, Object> result = new HashMap<>();
-            result.put("targetRole", targetRole);
-            result.put("industry", industry);
-            result.put("currentSkills", currentSkills);
-            result.put("analysis", analysis.getContent());
-            result.put("generatedAt", new java.util.Date());
-
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
-        }
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User jobSeeker = (User) authentication.getPrincipal();
+                String targetRole = request.get("targetRole");
+                String industry = request.getOrDefault("industry", "Technology");
+
+                // Get user's current skills
+                List<Skill> currentSkills = profileService.getUserSkills(jobSeeker);
+
+                // Generate AI analysis
+                String prompt = String.format(
+                        "Analyze skill gaps for a job seeker transitioning to %s role in %s industry. " +
+                                "Current skills: %s. " +
+                                "Provide: 1) Missing critical skills, 2) Skills to improve, 3) Learning recommendations, " +
+                                "4) Estimated timeline for skill development.",
+                        targetRole, industry, currentSkills.stream()
+                                .map(Skill::getName)
+                                .reduce((a, b) -> a + ", " + b)
+                                .orElse("None specified"));
+
+                AiResponseDto analysis = mistralAiService.generateText(prompt, "Skill Gap Analysis");
+
+                Map<String, Object> result = new HashMap<>();
+                result.put("targetRole", targetRole);
+                result.put("industry", industry);
+                result.put("currentSkills", currentSkills);
+                result.put("analysis", analysis.getContent());
+                result.put("generatedAt", new java.util.Date());
+
+                return ResponseEntity.ok(result);
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError().build();
+            }
+        });
     }
 
     // Get interview preparation tips
     @PostMapping("/interview/preparation")
     @PreAuthorize("hasRole('JOB_SEEKER')")
-    public ResponseEntity<AiResponseDto> getInterviewPreparation(
+    public CompletableFuture<ResponseEntity<AiResponseDto>> getInterviewPreparation(
             @RequestBody Map<String, Object> request,
             Authentication authentication) {
-        try {
-            User jobSeeker = (User) authentication.getPrincipal();
-            Integer jobId = (Integer) request.get("jobId");
-            String interviewType = (String) request.getOrDefault("interviewType", "general");
-
-            JobPost job = null;
-            if (jobId != null) {
-                job = jobService.getJob(jobId);
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User jobSeeker = (User) authentication.getPrincipal();
+                Integer jobId = (Integer) request.get("jobId");
+                String interviewType = (String) request.getOrDefault("interviewType", "general");
+
+                JobPost job = null;
+                if (jobId != null) {
+                    job = jobService.getJob(jobId);
+                }
+
+                String prompt = String.format(
+                        "Generate interview preparation guide for %s %s. " +
+                                "Job details: %s. " +
+                                "Candidate background: %s. " +
+                                "Include: 1) Common questions, 2) Technical questions (if applicable), " +
+                                "3) Company research tips, 4) Questions to ask interviewer, 5) Presentation tips.",
+                        interviewType,
+                        job != null ? "for " + (job.getTitle() != null ? job.getTitle() : job.getPostProfile())
+                                : "interview",
+                        job != null ? job.getDescription() : "General position",
+                        String.format("%s %s with background in %s",
+                                jobSeeker.getFirstName(), jobSeeker.getLastName(),
+                                jobSeeker.getBio() != null ? jobSeeker.getBio() : "various fields"));
+
+                AiResponseDto preparation = mistralAiService.generateText(prompt, "Interview Preparation");
+
+                return ResponseEntity.ok(preparation);
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError().build();
             }
-
-            String prompt = String.format(
-                    "Generate interview preparation guide for %s %s. " +
-                            "Job details: %s. " +
-                            "Candidate background: %s. " +
-                            "Include: 1) Common questions, 2) Technical questions (if applicable), " +
-                            "3) Company research tips, 4) Questions to ask interviewer, 5) Presentation tips.",
-                    interviewType,
-                    job != null ? "for " + (job.getTitle() != null ? job.getTitle() : job.getPostProfile())
-                            : "interview",
-                    job != null ? job.getDescription() : "General position",
-                    String.format("%s %s with background in %s",
-                            jobSeeker.getFirstName(), jobSeeker.getLastName(),
-                            jobSeeker.getBio() != null ? jobSeeker.getBio() : "various fields"));
-
-            AiResponseDto preparation = mistralAiService.generateText(prompt, "Interview Preparation");
-
-            return ResponseEntity.ok(preparation);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
-        }
+        });
     }
 
     // Career advice and guidance
     @PostMapping("/career/advice")
     @PreAuthorize("hasRole('JOB_SEEKER')")
-    public ResponseEntity<AiResponseDto> getCareerAdvice(
+    public CompletableFuture<ResponseEntity<AiResponseDto>> getCareerAdvice(
             @RequestBody Map<String, String> request,
             Authentication authentication) {
-        try {
-            User jobSeeker = (User) authentication.getPrincipal();
-            String careerGoal = request.get("careerGoal");
-            String currentLevel = request.getOrDefault("currentLevel", "entry");
-            String timeframe = request.getOrDefault("timeframe", "1 year");
-
-            String prompt = String.format(
-                    "Provide personalized career advice for: %s %s. " +
-                            "Career goal: %s. Current level: %s. Timeframe: %s. " +
-                            "Background: %s. " +
-                            "Include: 1) Career roadmap, 2) Skill development priorities, " +
-                            "3) Networking strategies, 4) Industry insights, 5) Next steps.",
-                    jobSeeker.getFirstName(), jobSeeker.getLastName(),
-                    careerGoal, currentLevel, timeframe,
-                    jobSeeker.getBio() != null ? jobSeeker.getBio() : "Professional seeking growth");
-
-            AiResponseDto advice = mistralAiService.generateText(prompt, "Career Advice");
-
-            return ResponseEntity.ok(advice);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
-        }
+        return aiTaskExecutor.submit(() -> {
+            try {
+                User jobSeeker = (User) authentication.getPrincipal();
+                String careerGoal = request.get("careerGoal");
+                String currentLevel = request.getOrDefault("currentLevel", "entry");
+                String timeframe = request.getOrDefault("timeframe", "1 year");
+
+                String prompt = String.format(
+                        "Provide personalized career advice for: %s %s. " +
+                                "Career goal: %s. Current level: %s. Timeframe: %s. " +
+                                "Background: %s. " +
+                                "Include: 1) Career roadmap, 2) Skill development priorities, " +
+                                "3) Networking strategies, 4) Industry insights, 5) Next steps.",
+                        jobSeeker.getFirstName(), jobSeeker.getLastName(),
+                        careerGoal, currentLevel, timeframe,
+                        jobSeeker.getBio() != null ? jobSeeker.getBio() : "Professional seeking growth");
+
+                AiResponseDto advice = mistralAiService.generateText(prompt, "Career Advice");
+
+                return ResponseEntity.ok(advice);
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError().build();
+            }
+        });
     }
 
     // Delete resume
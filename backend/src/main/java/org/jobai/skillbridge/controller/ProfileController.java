@@ -1,5 +1,6 @@
 package org.jobai.skillbridge.controller;
 
+import org.jobai.skillbridge.event.ProfileChangedEvent;
 import org.jobai.skillbridge.model.*;
 import org.jobai.skillbridge.repo.EducationRepository;
 import org.jobai.skillbridge.repo.ExperienceRepository;
@@ -9,6 +10,7 @@ import org.jobai.skillbridge.service.ProfileService;
 import org.jobai.skillbridge.service.UserService;
 import org.jobai.skillbridge.util.ReflectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -38,6 +40,9 @@ public class ProfileController {
     @Autowired
     private PortfolioRepository portfolioRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Main profile endpoints
     @GetMapping("/{userId}")
     public ResponseEntity<Profile> getUserProfile(@PathVariable Long userId) {
@@ -81,6 +86,7 @@ public class ProfileController {
             if (profileData.getBio() != null) {
                 user.setBio(profileData.getBio());
                 userService.saveUser(user);
+                eventPublisher.publishEvent(new ProfileChangedEvent(userId, ProfileChangedEvent.Section.PROFILE));
             }
 
             // Return updated profile
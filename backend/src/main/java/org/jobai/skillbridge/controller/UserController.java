@@ -2,10 +2,12 @@ package org.jobai.skillbridge.controller;
 
 import org.jobai.skillbridge.dto.AuthResponse;
 import org.jobai.skillbridge.dto.UserDTO;
+import org.jobai.skillbridge.event.ProfileChangedEvent;
 import org.jobai.skillbridge.model.User;
 import org.jobai.skillbridge.service.UserService;
 import org.jobai.skillbridge.util.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -37,6 +39,9 @@ public class UserController {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @PostMapping("/register")
     public ResponseEntity<?> registerUser(@RequestBody User user, HttpServletResponse response) {
         try {
@@ -168,6 +173,7 @@ public class UserController {
         }
 
         User updatedUser = userService.saveUser(currentUser);
+        eventPublisher.publishEvent(new ProfileChangedEvent(updatedUser.getId(), ProfileChangedEvent.Section.PROFILE));
         return ResponseEntity.ok(updatedUser);
     }
 
@@ -239,6 +245,7 @@ public class UserController {
         user.setActive(userDetails.isActive());
 
         User updatedUser = userService.saveUser(user);
+        eventPublisher.publishEvent(new ProfileChangedEvent(updatedUser.getId(), ProfileChangedEvent.Section.PROFILE));
         return ResponseEntity.ok(updatedUser);
     }
 
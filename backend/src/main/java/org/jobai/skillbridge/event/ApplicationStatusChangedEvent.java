@@ -0,0 +1,44 @@
+package org.jobai.skillbridge.event;
+
+/**
+ * Published after the status of a job application has changed, e.g. from
+ * INTERVIEW to ACCEPTED. A new application is published as a change from a
+ * null status to APPLIED.
+ */
+public class ApplicationStatusChangedEvent {
+
+    private final Long applicationId;
+    private final Integer jobId;
+    private final Long userId;
+    private final String previousStatus;
+    private final String status;
+
+    public ApplicationStatusChangedEvent(Long applicationId, Integer jobId, Long userId, String previousStatus,
+            String status) {
+        this.applicationId = applicationId;
+        this.jobId = jobId;
+        this.userId = userId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public Integer getJobId() {
+        return jobId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,23 @@
+package org.jobai.skillbridge.event;
+
+/**
+ * Published after a job post has been created, updated or deleted.
+ */
+public class JobPostChangedEvent {
+
+    private final Integer jobId;
+    private final boolean deleted;
+
+    public JobPostChangedEvent(Integer jobId, boolean deleted) {
+        this.jobId = jobId;
+        this.deleted = deleted;
+    }
+
+    public Integer getJobId() {
+        return jobId;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+}
@@ -0,0 +1,28 @@
+package org.jobai.skillbridge.event;
+
+/**
+ * Published after part of a user's profile (skills, experience, education or
+ * basic details) has been created, updated or deleted.
+ */
+public class ProfileChangedEvent {
+
+    public enum Section {
+        SKILLS, EXPERIENCE, EDUCATION, PROFILE
+    }
+
+    private final Long userId;
+    private final Section section;
+
+    public ProfileChangedEvent(Long userId, Section section) {
+        this.userId = userId;
+        this.section = section;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Section getSection() {
+        return section;
+    }
+}
@@ -0,0 +1,15 @@
+package org.jobai.skillbridge.exception;
+
+/**
+ * Thrown when an AI task could not get a concurrency permit in time, or was
+ * interrupted while waiting for one; clients should retry later.
+ */
+public class AiCapacityExceededException extends AiServiceException {
+    public AiCapacityExceededException(String message) {
+        super(message);
+    }
+
+    public AiCapacityExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package org.jobai.skillbridge.exception;
+
+/**
+ * Thrown when background processing has no room for more work; clients
+ * should retry later.
+ */
+public class IngestionQueueFullException extends RuntimeException {
+    public IngestionQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package org.jobai.skillbridge.exception;
+
+/**
+ * Thrown when processing a document stopped for a reason unrelated to its
+ * content, such as a timeout, an interruption or a shutdown; the same
+ * document may well succeed when tried again.
+ */
+public class TransientProcessingException extends AiServiceException {
+    public TransientProcessingException(String message) {
+        super(message);
+    }
+
+    public TransientProcessingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,47 @@
+package org.jobai.skillbridge.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compact matching projection of a job seeker's profile. Recomputed whenever
+ * the user's skills, experience, education or basic details change, so
+ * matching reads one small row per candidate instead of their full profile.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "candidate_features")
+public class CandidateFeatures {
+
+    public static final int DEGREE_NONE = 0;
+    public static final int DEGREE_BACHELOR = 1;
+    public static final int DEGREE_MASTER = 2;
+    public static final int DEGREE_DOCTORATE = 3;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    private int skillCount;
+
+    // Normalized skill terms, newline separated; skill ids are only stable within one process
+    @Column(name = "skill_terms", length = 4000)
+    private String skillTerms;
+
+    private int experienceCount;
+    private int totalExperienceYears;
+
+    private int educationCount;
+    private int degreeLevel; // DEGREE_NONE, DEGREE_BACHELOR, DEGREE_MASTER, DEGREE_DOCTORATE
+
+    private String city; // lower-case
+    private String region; // lower-case last comma-separated part of the city, if any
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,47 @@
+package org.jobai.skillbridge.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One of the top scored candidates of a job. The table is kept current by
+ * {@code JobCandidateMatchRefresher}, so recommendation reads do not rescore
+ * the candidate pool.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "job_candidate_match",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "job_id", "user_id" }),
+        indexes = {
+                @Index(name = "idx_job_candidate_match_job_score", columnList = "job_id, compatibility_score"),
+                @Index(name = "idx_job_candidate_match_user", columnList = "user_id")
+        })
+public class JobCandidateMatch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Integer jobId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @JsonIgnore
+    private User candidate;
+
+    @Column(name = "compatibility_score")
+    private double compatibilityScore;
+
+    private double skillMatchScore;
+    private double experienceMatchScore;
+    private double locationMatchScore;
+
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,46 @@
+package org.jobai.skillbridge.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of a job seeker's precomputed recommendation feed, maintained by
+ * {@code JobRecommendationFeedService}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "job_recommendation",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "user_id", "job_id" }),
+        indexes = {
+                @Index(name = "idx_job_recommendation_user_score", columnList = "user_id, match_score"),
+                @Index(name = "idx_job_recommendation_job", columnList = "job_id")
+        })
+public class JobRecommendation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // Plain column rather than an association so deleting a job is never blocked by its feed entries
+    @Column(name = "job_id", nullable = false)
+    private Integer jobId;
+
+    @Column(name = "match_score")
+    private double matchScore;
+
+    // Scored without the AI rerank; replaced by the next full refresh of the feed
+    private boolean provisional;
+
+    @Column(length = 1000)
+    private String matchingReasons; // newline separated
+
+    private LocalDateTime recommendedAt;
+}
@@ -0,0 +1,36 @@
+package org.jobai.skillbridge.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Requirements extracted from a job post's description and requirement
+ * lines. Computed once when the job is saved, so matching does not rerun the
+ * extraction for every candidate.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "job_requirement_features")
+public class JobRequirementFeatures {
+
+    @Id
+    @Column(name = "job_id")
+    private Integer jobId;
+
+    // Normalized required skill terms, newline separated; skill ids are only stable within one process
+    @Column(name = "required_skill_terms", length = 4000)
+    private String requiredSkillTerms;
+
+    private int minExperienceYears; // 0 when the job states no requirement
+
+    private boolean educationRequired;
+    private int requiredDegreeLevel; // CandidateFeatures.DEGREE_*; DEGREE_NONE for other education requirements
+
+    private LocalDateTime updatedAt;
+}
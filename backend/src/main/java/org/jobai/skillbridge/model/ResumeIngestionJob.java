@@ -0,0 +1,65 @@
+package org.jobai.skillbridge.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * An uploaded resume waiting for, or done with, background ingestion
+ * (storage upload, text extraction and parsing) by
+ * {@code ResumeIngestionService}. The file itself is kept in
+ * {@link ResumeIngestionPayload} until the job finishes, so queued work
+ * survives a restart.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "resume_ingestion_job",
+        indexes = {
+                @Index(name = "idx_resume_ingestion_job_status_created", columnList = "status, created_at"),
+                @Index(name = "idx_resume_ingestion_job_user", columnList = "user_id")
+        })
+public class ResumeIngestionJob {
+
+    public enum Status {
+        QUEUED, PROCESSING, COMPLETED, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    private String fileName;
+    private String originalFileName;
+    private String contentType;
+    private long fileSize;
+
+    private int attempts;
+
+    // Set once the file is in storage, so a retried job does not upload it again
+    private Long fileStorageId;
+
+    // ParsedResumeData as JSON, once completed
+    @Column(columnDefinition = "text")
+    private String result;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,26 @@
+package org.jobai.skillbridge.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * File content of a pending {@link ResumeIngestionJob}. Kept apart from the
+ * job row so status polling never loads the file, and deleted once the job
+ * completes or fails.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "resume_ingestion_payload")
+public class ResumeIngestionPayload {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(nullable = false)
+    private byte[] content;
+}
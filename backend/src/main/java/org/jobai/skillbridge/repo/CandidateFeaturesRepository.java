@@ -0,0 +1,25 @@
+package org.jobai.skillbridge.repo;
+
+import org.jobai.skillbridge.model.CandidateFeatures;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CandidateFeaturesRepository extends JpaRepository<CandidateFeatures, Long> {
+    List<CandidateFeatures> findByUserIdIn(Collection<Long> userIds);
+
+    // Backfill a row unless another reader inserted it first; returns 0 in that case
+    @Modifying
+    @Query(value = "INSERT INTO candidate_features (user_id, skill_count, skill_terms, experience_count, "
+            + "total_experience_years, education_count, degree_level, city, region, updated_at) "
+            + "VALUES (:#{#f.userId}, :#{#f.skillCount}, :#{#f.skillTerms}, :#{#f.experienceCount}, "
+            + ":#{#f.totalExperienceYears}, :#{#f.educationCount}, :#{#f.degreeLevel}, :#{#f.city}, "
+            + ":#{#f.region}, :#{#f.updatedAt}) ON CONFLICT (user_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("f") CandidateFeatures features);
+}
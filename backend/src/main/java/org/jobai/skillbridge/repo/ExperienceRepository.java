@@ -5,9 +5,11 @@ import org.jobai.skillbridge.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ExperienceRepository extends JpaRepository<Experience, Long> {
     List<Experience> findByUser(User user);
+    List<Experience> findByUserIdIn(Collection<Long> userIds);
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ import org.jobai.skillbridge.model.JobApplication;
 import org.jobai.skillbridge.model.JobPost;
 import org.jobai.skillbridge.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +15,7 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     List<JobApplication> findByUser(User user);
     List<JobApplication> findByJobPost(JobPost jobPost);
     JobApplication findByUserAndJobPost(User user, JobPost jobPost);
+
+    @Query("SELECT a.jobPost.id FROM JobApplication a WHERE a.user.id = :userId")
+    List<Integer> findJobPostIdsByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
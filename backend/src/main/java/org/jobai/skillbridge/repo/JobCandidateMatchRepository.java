@@ -0,0 +1,33 @@
+package org.jobai.skillbridge.repo;
+
+import org.jobai.skillbridge.model.JobCandidateMatch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobCandidateMatchRepository extends JpaRepository<JobCandidateMatch, Long> {
+
+    // Best matches of a job with their candidates, served from the (job_id, compatibility_score) index
+    @Query("SELECT m FROM JobCandidateMatch m JOIN FETCH m.candidate WHERE m.jobId = :jobId "
+            + "ORDER BY m.compatibilityScore DESC")
+    List<JobCandidateMatch> findTopByJobId(@Param("jobId") Integer jobId, Pageable pageable);
+
+    List<JobCandidateMatch> findByJobId(Integer jobId);
+
+    @Query("SELECT m.jobId FROM JobCandidateMatch m WHERE m.candidate.id = :userId")
+    List<Integer> findJobIdsByCandidateId(@Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT m.jobId FROM JobCandidateMatch m")
+    List<Integer> findMaterializedJobIds();
+
+    // Bulk delete, executed immediately so the job's new rows can be inserted in the same transaction
+    @Modifying
+    @Query("DELETE FROM JobCandidateMatch m WHERE m.jobId = :jobId")
+    void deleteByJobId(@Param("jobId") Integer jobId);
+}
@@ -0,0 +1,42 @@
+package org.jobai.skillbridge.repo;
+
+import org.jobai.skillbridge.model.JobRecommendation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JobRecommendationRepository extends JpaRepository<JobRecommendation, Long> {
+
+    // (recommendation, job) pairs of a user's feed, best first, skipping jobs applied to since the feed was built
+    @Query("SELECT r, j FROM JobRecommendation r, JobPost j WHERE j.id = r.jobId AND r.userId = :userId "
+            + "AND NOT EXISTS (SELECT a.id FROM JobApplication a WHERE a.user.id = :userId AND a.jobPost.id = r.jobId) "
+            + "ORDER BY r.matchScore DESC, r.jobId")
+    List<Object[]> findFeed(@Param("userId") Long userId, Pageable pageable);
+
+    List<JobRecommendation> findByUserId(Long userId);
+
+    @Query("SELECT r.userId FROM JobRecommendation r WHERE r.jobId = :jobId")
+    List<Long> findUserIdsByJobId(@Param("jobId") Integer jobId);
+
+    @Query("SELECT DISTINCT r.userId FROM JobRecommendation r")
+    List<Long> findAllUserIds();
+
+    @Query("SELECT DISTINCT r.userId FROM JobRecommendation r WHERE r.userId IN :userIds")
+    List<Long> findUsersWithFeed(@Param("userIds") Collection<Long> userIds);
+
+    // Bulk deletes, executed immediately so replacement rows can be inserted in the same transaction
+    @Modifying
+    @Query("DELETE FROM JobRecommendation r WHERE r.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM JobRecommendation r WHERE r.jobId = :jobId")
+    void deleteByJobId(@Param("jobId") Integer jobId);
+}
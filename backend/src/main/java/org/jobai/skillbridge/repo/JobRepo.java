@@ -1,7 +1,9 @@
 package org.jobai.skillbridge.repo;
 
 import org.jobai.skillbridge.model.JobPost;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +19,13 @@ public interface JobRepo extends JpaRepository<JobPost, Integer> {
             String title, String description, String company);
 
     public List<JobPost> findByEmployerId(Integer employerId);
+
+    public List<JobPost> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    // (job id, requirement) pairs for every job, used to build the skill index
+    @Query("SELECT j.id, r FROM JobPost j JOIN j.requirements r")
+    public List<Object[]> findAllRequirements();
+
+    @Query("SELECT j.id FROM JobPost j")
+    public List<Integer> findAllIds();
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package org.jobai.skillbridge.repo;
+
+import org.jobai.skillbridge.model.JobRequirementFeatures;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobRequirementFeaturesRepository extends JpaRepository<JobRequirementFeatures, Integer> {
+
+    // Backfill a row unless another reader inserted it first; returns 0 in that case
+    @Modifying
+    @Query(value = "INSERT INTO job_requirement_features (job_id, required_skill_terms, min_experience_years, "
+            + "education_required, required_degree_level, updated_at) "
+            + "VALUES (:#{#f.jobId}, :#{#f.requiredSkillTerms}, :#{#f.minExperienceYears}, "
+            + ":#{#f.educationRequired}, :#{#f.requiredDegreeLevel}, :#{#f.updatedAt}) "
+            + "ON CONFLICT (job_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("f") JobRequirementFeatures features);
+}
@@ -0,0 +1,43 @@
+package org.jobai.skillbridge.repo;
+
+import org.jobai.skillbridge.model.ResumeIngestionJob;
+import org.jobai.skillbridge.model.ResumeIngestionJob.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ResumeIngestionJobRepository extends JpaRepository<ResumeIngestionJob, Long> {
+
+    // Oldest queued jobs first
+    @Query("SELECT j.id FROM ResumeIngestionJob j WHERE j.status = :status ORDER BY j.createdAt")
+    List<Long> findIdsByStatus(@Param("status") Status status, Pageable pageable);
+
+    // Take a queued job; returns 0 if another worker or instance got there first
+    @Modifying
+    @Query("UPDATE ResumeIngestionJob j SET j.status = :processing, j.startedAt = :now, j.attempts = j.attempts + 1 "
+            + "WHERE j.id = :id AND j.status = :queued")
+    int claim(@Param("id") Long id, @Param("queued") Status queued, @Param("processing") Status processing,
+            @Param("now") LocalDateTime now);
+
+    // Jobs left PROCESSING by an instance that stopped mid-way, with attempts to spare
+    @Modifying
+    @Query("UPDATE ResumeIngestionJob j SET j.status = :queued "
+            + "WHERE j.status = :processing AND j.startedAt < :cutoff AND j.attempts < :maxAttempts")
+    int requeueStale(@Param("queued") Status queued, @Param("processing") Status processing,
+            @Param("cutoff") LocalDateTime cutoff, @Param("maxAttempts") int maxAttempts);
+
+    // Abandoned jobs out of attempts: the document likely hangs or crashes whoever processes it
+    @Modifying
+    @Query("UPDATE ResumeIngestionJob j SET j.status = :failed, j.errorMessage = :error, j.completedAt = :now "
+            + "WHERE j.status = :processing AND j.startedAt < :cutoff AND j.attempts >= :maxAttempts")
+    int failStale(@Param("failed") Status failed, @Param("processing") Status processing,
+            @Param("cutoff") LocalDateTime cutoff, @Param("maxAttempts") int maxAttempts,
+            @Param("error") String error, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,22 @@
+package org.jobai.skillbridge.repo;
+
+import org.jobai.skillbridge.model.ResumeIngestionJob.Status;
+import org.jobai.skillbridge.model.ResumeIngestionPayload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ResumeIngestionPayloadRepository extends JpaRepository<ResumeIngestionPayload, Long> {
+
+    // Payloads of the jobs ResumeIngestionJobRepository.failStale is about to fail
+    @Modifying
+    @Query("DELETE FROM ResumeIngestionPayload p WHERE p.jobId IN (SELECT j.id FROM ResumeIngestionJob j "
+            + "WHERE j.status = :processing AND j.startedAt < :cutoff AND j.attempts >= :maxAttempts)")
+    int deleteStale(@Param("processing") Status processing, @Param("cutoff") LocalDateTime cutoff,
+            @Param("maxAttempts") int maxAttempts);
+}
@@ -3,12 +3,20 @@ package org.jobai.skillbridge.repo;
 import org.jobai.skillbridge.model.Skill;
 import org.jobai.skillbridge.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface SkillRepository extends JpaRepository<Skill, Long> {
     List<Skill> findByUser(User user);
     List<Skill> findByNameContainingIgnoreCase(String name);
+    List<Skill> findByUserId(Long userId);
+    List<Skill> findByUserIdIn(Collection<Long> userIds);
+
+    // (user id, skill name) pairs for every skill, used to build the skill index
+    @Query("SELECT s.user.id, s.name FROM Skill s WHERE s.user IS NOT NULL")
+    List<Object[]> findAllUserSkillNames();
 }
\ No newline at end of file
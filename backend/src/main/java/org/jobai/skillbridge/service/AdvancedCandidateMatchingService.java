@@ -1,10 +1,14 @@
 package org.jobai.skillbridge.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.jobai.skillbridge.dto.AiResponseDto;
 import org.jobai.skillbridge.model.*;
+import org.jobai.skillbridge.service.CandidateProfileLoader.CandidateProfile;
 import org.jobai.skillbridge.repo.*;
+import org.jobai.skillbridge.util.ScoreColumns;
+import org.jobai.skillbridge.util.SkillVector;
+import org.jobai.skillbridge.util.WeightedScoringKernel;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -20,25 +24,55 @@ public class AdvancedCandidateMatchingService {
     private JobApplicationRepository jobApplicationRepository;
 
     @Autowired
-    private SkillRepository skillRepository;
+    private JobRepo jobRepo;
 
     @Autowired
-    private ExperienceRepository experienceRepository;
+    private SkillIndex skillIndex;
 
     @Autowired
-    private EducationRepository educationRepository;
+    private CandidateProfileLoader candidateProfileLoader;
 
     @Autowired
-    private MistralAiService mistralAiService;
+    private CandidateFeaturesService candidateFeaturesService;
 
     @Autowired
-    private ResumeParsingService resumeParsingService;
+    private JobRequirementFeaturesService jobRequirementFeaturesService;
 
     @Autowired
-    private ObjectMapper objectMapper;
+    private BatchSemanticScorer batchSemanticScorer;
+
+    @Autowired
+    private SemanticIndexService semanticIndexService;
+
+    // "llm" scores the shortlist with batched prompts, "embedding" with the local semantic index
+    @Value("${matching.semantic.scorer:llm}")
+    private String semanticScorer;
+
+    @Value("${matching.ai.rerank-factor:3}")
+    private int rerankFactor;
+
+    @Value("${matching.feed.recent-jobs:100}")
+    private int recentJobsFallback;
+
+    @Autowired
+    private ParallelScoringEngine parallelScoringEngine;
+
+    @Autowired
+    private MatchingWeights matchingWeights;
+
+    private static final double NO_THRESHOLD = Double.NEGATIVE_INFINITY;
 
     /**
-     * Find best matching candidates for a job posting
+     * Find best matching candidates for a job posting.
+     * 
+     * Ranking runs in two phases: every candidate first gets the cheap
+     * skills/experience/education/location scores, computed from their
+     * precomputed {@link CandidateFeatures} row, then only the best
+     * {@code matching.ai.rerank-factor} x maxResults of them are sent to the AI
+     * for semantic reranking, so the number of AI calls per request stays
+     * bounded regardless of how many job seekers there are. Component scores
+     * are kept in {@link ScoreColumns}; result objects are only built for the
+     * shortlist.
      * 
      * @param jobPost    The job posting
      * @param maxResults Maximum number of candidates to return
@@ -48,20 +82,61 @@ public class AdvancedCandidateMatchingService {
         // Get all job seekers who haven't applied to this job yet
         List<User> jobSeekers = getAvailableJobSeekers(jobPost);
 
-        List<CandidateMatchResult> matchResults = new ArrayList<>();
+        // One compact features row per candidate; full profiles are only read for the shortlist
+        Map<Long, CandidateFeatures> features = candidateFeaturesService.load(jobSeekers);
+        JobRequirementFeatures jobFeatures = jobRequirementFeaturesService.load(jobPost);
+
+        // Phase 1: cheap scores for everyone, keep a shortlist for the AI rerank
+        ScoreColumns columns = scorePool(jobSeekers, features, jobPost, jobFeatures);
+        int[] shortlistRows = parallelScoringEngine.selectTop(columns, matchingWeights.get(), NO_THRESHOLD,
+                shortlistSize(maxResults));
+        List<User> shortlist = new ArrayList<>(shortlistRows.length);
+        for (int row : shortlistRows) {
+            shortlist.add(jobSeekers.get(row));
+        }
+
+        // Phase 2: semantic scoring of the shortlist, from embeddings or in a few batched AI calls
+        double[] aiScores;
+        if (useEmbeddings()) {
+            aiScores = semanticIndexService.scoreCandidates(jobPost, shortlist.stream()
+                    .map(User::getId)
+                    .collect(Collectors.toList()));
+        } else {
+            Map<Long, CandidateProfile> profiles = candidateProfileLoader.load(shortlist);
+            List<String> candidateProfiles = shortlist.stream()
+                    .map(candidate -> buildCandidateProfile(candidate, profiles.get(candidate.getId())))
+                    .collect(Collectors.toList());
+            aiScores = batchSemanticScorer.scoreCandidates(jobPost.getDescription(), candidateProfiles);
+        }
 
-        for (User candidate : jobSeekers) {
-            CandidateMatchResult matchResult = evaluateCandidate(candidate, jobPost);
-            if (matchResult.getOverallScore() > 0.3) { // Only include candidates with reasonable match
-                matchResults.add(matchResult);
-            }
+        // Best matches by overall score; only candidates with a reasonable match
+        ScoreColumns reranked = columns.select(shortlistRows);
+        System.arraycopy(aiScores, 0, reranked.column(ScoreColumns.AI), 0, aiScores.length);
+        List<CandidateMatchResult> matchResults = new ArrayList<>();
+        for (int row : parallelScoringEngine.selectTop(reranked, matchingWeights.get(), 0.3, maxResults)) {
+            CandidateMatchResult matchResult = toResult(shortlist.get(row), jobPost, reranked, row);
+            applyAiScore(matchResult, aiScores[row]);
+            matchResults.add(matchResult);
         }
+        return matchResults;
+    }
 
-        // Sort by overall score descending and limit results
-        return matchResults.stream()
-                .sorted((a, b) -> Double.compare(b.getOverallScore(), a.getOverallScore()))
-                .limit(maxResults)
-                .collect(Collectors.toList());
+    /**
+     * Compute the cheap, non-AI component scores of a whole candidate pool,
+     * in parallel for large pools. The AI column holds a neutral score.
+     * 
+     * @param candidates  The candidates
+     * @param features    Precomputed features per user ID
+     * @param jobPost     The job posting
+     * @param jobFeatures Precomputed requirement features of the job
+     * @return Score columns with one row per candidate, in input order
+     */
+    public ScoreColumns scorePool(List<User> candidates, Map<Long, CandidateFeatures> features, JobPost jobPost,
+            JobRequirementFeatures jobFeatures) {
+        ScoreColumns columns = new ScoreColumns(candidates.size());
+        parallelScoringEngine.forEach(candidates.size(), row -> scoreComponents(columns, row,
+                features.get(candidates.get(row).getId()), jobPost, jobFeatures));
+        return columns;
     }
 
     /**
@@ -72,41 +147,108 @@ public class AdvancedCandidateMatchingService {
      * @return Detailed match evaluation
      */
     public CandidateMatchResult evaluateCandidate(User candidate, JobPost jobPost) {
+        CandidateMatchResult result = scoreWithoutAi(candidate, candidateFeaturesService.load(candidate), jobPost,
+                jobRequirementFeaturesService.load(jobPost));
+        CandidateProfile profile = candidateProfileLoader.load(candidate);
+        applyAiScore(result, calculateAISemanticMatch(candidate, profile, jobPost));
+        return result;
+    }
+
+    /**
+     * Component scores of a candidate/job pair, as used to learn the matching
+     * weights. The semantic component comes from the local embedding index,
+     * so no AI call is made.
+     * 
+     * @param candidate The candidate
+     * @param jobPost   The job posting
+     * @return Score per component, indexed like {@link ScoreColumns}
+     */
+    public double[] componentScores(User candidate, JobPost jobPost) {
+        ScoreColumns columns = new ScoreColumns(1);
+        scoreComponents(columns, 0, candidateFeaturesService.load(candidate), jobPost,
+                jobRequirementFeaturesService.load(jobPost));
+        columns.set(0, ScoreColumns.AI, semanticIndexService.scoreCandidates(jobPost,
+                List.of(candidate.getId()))[0]);
+
+        double[] scores = new double[ScoreColumns.COUNT];
+        for (int c = 0; c < ScoreColumns.COUNT; c++) {
+            scores[c] = columns.get(0, c);
+        }
+        return scores;
+    }
+
+    /**
+     * Compute the cheap, non-AI scores for a candidate. The overall score is
+     * provisional, assuming a neutral AI score, and is only used for
+     * shortlisting.
+     * 
+     * @param candidate   The candidate to evaluate
+     * @param features    Precomputed features of the candidate
+     * @param jobPost     The job posting
+     * @param jobFeatures Precomputed requirement features of the job
+     * @return Partially filled match evaluation
+     */
+    private CandidateMatchResult scoreWithoutAi(User candidate, CandidateFeatures features, JobPost jobPost,
+            JobRequirementFeatures jobFeatures) {
+        ScoreColumns columns = new ScoreColumns(1);
+        scoreComponents(columns, 0, features, jobPost, jobFeatures);
+        return toResult(candidate, jobPost, columns, 0);
+    }
+
+    /**
+     * Write the cheap component scores of one candidate/job pair into a row,
+     * with a neutral AI score
+     * 
+     * @param columns     Score columns of the pool
+     * @param row         Row of the pair
+     * @param features    Precomputed features of the candidate
+     * @param jobPost     The job posting
+     * @param jobFeatures Precomputed requirement features of the job
+     */
+    private void scoreComponents(ScoreColumns columns, int row, CandidateFeatures features, JobPost jobPost,
+            JobRequirementFeatures jobFeatures) {
+        columns.set(row, ScoreColumns.SKILLS, calculateSkillsMatch(features, jobFeatures));
+        columns.set(row, ScoreColumns.EXPERIENCE, calculateExperienceMatch(features, jobFeatures));
+        columns.set(row, ScoreColumns.EDUCATION, calculateEducationMatch(features, jobFeatures));
+        columns.set(row, ScoreColumns.LOCATION, calculateLocationMatch(features, jobPost));
+        columns.set(row, ScoreColumns.AI, BatchSemanticScorer.DEFAULT_SCORE);
+    }
+
+    private CandidateMatchResult toResult(User candidate, JobPost jobPost, ScoreColumns columns, int row) {
         CandidateMatchResult result = new CandidateMatchResult();
         result.setCandidate(candidate);
         result.setJobPost(jobPost);
         result.setEvaluatedAt(new Date());
+        result.setSkillsScore(columns.get(row, ScoreColumns.SKILLS));
+        result.setExperienceScore(columns.get(row, ScoreColumns.EXPERIENCE));
+        result.setEducationScore(columns.get(row, ScoreColumns.EDUCATION));
+        result.setLocationScore(columns.get(row, ScoreColumns.LOCATION));
+        result.setAiSemanticScore(columns.get(row, ScoreColumns.AI));
+        result.setOverallScore(WeightedScoringKernel.weightedTotal(columns, row, matchingWeights.get()));
+        return result;
+    }
 
-        // Calculate individual scores
-        double skillsScore = calculateSkillsMatch(candidate, jobPost);
-        double experienceScore = calculateExperienceMatch(candidate, jobPost);
-        double educationScore = calculateEducationMatch(candidate, jobPost);
-        double locationScore = calculateLocationMatch(candidate, jobPost);
-
-        // AI-powered semantic matching
-        double aiScore = calculateAISemanticMatch(candidate, jobPost);
-
-        // Set individual scores
-        result.setSkillsScore(skillsScore);
-        result.setExperienceScore(experienceScore);
-        result.setEducationScore(educationScore);
-        result.setLocationScore(locationScore);
+    /**
+     * Complete a match evaluation with its AI semantic score
+     * 
+     * @param result  Evaluation from {@link #scoreWithoutAi}
+     * @param aiScore AI semantic match score
+     */
+    private void applyAiScore(CandidateMatchResult result, double aiScore) {
         result.setAiSemanticScore(aiScore);
 
         // Calculate weighted overall score
-        double overallScore = calculateOverallScore(skillsScore, experienceScore,
-                educationScore, locationScore, aiScore);
-        result.setOverallScore(overallScore);
+        result.setOverallScore(calculateOverallScore(result.getSkillsScore(), result.getExperienceScore(),
+                result.getEducationScore(), result.getLocationScore(), aiScore));
 
         // Generate matching reasons
-        result.setMatchingReasons(generateMatchingReasons(result, candidate, jobPost));
-        result.setMismatchReasons(generateMismatchReasons(result, candidate, jobPost));
-
-        return result;
+        result.setMatchingReasons(generateMatchingReasons(result, result.getCandidate(), result.getJobPost()));
+        result.setMismatchReasons(generateMismatchReasons(result, result.getCandidate(), result.getJobPost()));
     }
 
     /**
-     * Get job recommendations for a candidate
+     * Get job recommendations for a candidate, using the same two-phase
+     * ranking as {@link #findBestCandidates}
      * 
      * @param candidate  The candidate
      * @param maxResults Maximum number of jobs to return
@@ -116,27 +258,102 @@ public class AdvancedCandidateMatchingService {
         // Get all available job postings
         List<JobPost> availableJobs = getAvailableJobs(candidate);
 
-        List<JobMatchResult> jobMatches = new ArrayList<>();
+        // Phase 1: cheap scores for every job, keep a shortlist for the AI rerank
+        ScoreColumns columns = scoreJobs(candidate, availableJobs);
+        int[] shortlistRows = parallelScoringEngine.selectTop(columns, matchingWeights.get(), NO_THRESHOLD,
+                shortlistSize(maxResults));
+        List<JobPost> shortlist = new ArrayList<>(shortlistRows.length);
+        for (int row : shortlistRows) {
+            shortlist.add(availableJobs.get(row));
+        }
 
-        for (JobPost job : availableJobs) {
-            CandidateMatchResult candidateMatch = evaluateCandidate(candidate, job);
+        // Phase 2: semantic scoring of the shortlist, from embeddings or in a few batched AI calls
+        double[] aiScores;
+        if (useEmbeddings()) {
+            aiScores = semanticIndexService.scoreJobs(candidate.getId(), shortlist);
+        } else {
+            CandidateProfile profile = candidateProfileLoader.load(candidate);
+            List<String> jobDescriptions = shortlist.stream()
+                    .map(JobPost::getDescription)
+                    .collect(Collectors.toList());
+            aiScores = batchSemanticScorer.scoreJobs(buildCandidateProfile(candidate, profile), jobDescriptions);
+        }
 
-            JobMatchResult jobMatch = new JobMatchResult();
-            jobMatch.setJob(job);
-            jobMatch.setMatchScore(candidateMatch.getOverallScore());
-            jobMatch.setMatchingReasons(candidateMatch.getMatchingReasons());
-            jobMatch.setRecommendedAt(new Date());
+        // Best matches by match score; only reasonably good matches are recommended
+        ScoreColumns reranked = columns.select(shortlistRows);
+        System.arraycopy(aiScores, 0, reranked.column(ScoreColumns.AI), 0, aiScores.length);
+        List<JobMatchResult> jobMatches = new ArrayList<>();
+        for (int row : parallelScoringEngine.selectTop(reranked, matchingWeights.get(), 0.4, maxResults)) {
+            CandidateMatchResult candidateMatch = toResult(candidate, shortlist.get(row), reranked, row);
+            applyAiScore(candidateMatch, aiScores[row]);
+            jobMatches.add(toJobMatch(candidateMatch));
+        }
+        return jobMatches;
+    }
 
-            if (jobMatch.getMatchScore() > 0.4) { // Only recommend reasonably good matches
-                jobMatches.add(jobMatch);
-            }
+    /**
+     * Provisional job recommendations for a candidate: only the cheap first
+     * phase of {@link #getJobRecommendations}, with a neutral semantic score
+     * and no AI calls
+     * 
+     * @param candidate  The candidate
+     * @param maxResults Maximum number of jobs to return
+     * @return List of recommended jobs, best first
+     */
+    public List<JobMatchResult> previewJobRecommendations(User candidate, int maxResults) {
+        List<JobPost> availableJobs = getAvailableJobs(candidate);
+        ScoreColumns columns = scoreJobs(candidate, availableJobs);
+
+        List<JobMatchResult> jobMatches = new ArrayList<>();
+        for (int row : parallelScoringEngine.selectTop(columns, matchingWeights.get(), 0.4, maxResults)) {
+            CandidateMatchResult candidateMatch = toResult(candidate, availableJobs.get(row), columns, row);
+            applyAiScore(candidateMatch, BatchSemanticScorer.DEFAULT_SCORE);
+            jobMatches.add(toJobMatch(candidateMatch));
         }
+        return jobMatches;
+    }
 
-        // Sort by match score descending and limit results
-        return jobMatches.stream()
-                .sorted((a, b) -> Double.compare(b.getMatchScore(), a.getMatchScore()))
-                .limit(maxResults)
-                .collect(Collectors.toList());
+    // Cheap component scores of a candidate against each job, with a neutral AI score
+    private ScoreColumns scoreJobs(User candidate, List<JobPost> jobs) {
+        CandidateFeatures features = candidateFeaturesService.load(candidate);
+        Map<Integer, JobRequirementFeatures> jobFeatures = jobRequirementFeaturesService.load(jobs);
+
+        ScoreColumns columns = new ScoreColumns(jobs.size());
+        parallelScoringEngine.forEach(jobs.size(), row -> scoreComponents(columns, row, features,
+                jobs.get(row), jobFeatures.get(jobs.get(row).getId())));
+        return columns;
+    }
+
+    /**
+     * Provisional recommendation of one job, scored without the AI (a
+     * neutral semantic score is assumed)
+     * 
+     * @param candidate   The candidate
+     * @param features    Precomputed features of the candidate
+     * @param jobPost     The job posting
+     * @param jobFeatures Precomputed requirement features of the job
+     * @return The recommendation, or null if the job is not a reasonable match
+     */
+    public JobMatchResult previewJobMatch(User candidate, CandidateFeatures features, JobPost jobPost,
+            JobRequirementFeatures jobFeatures) {
+        CandidateMatchResult candidateMatch = scoreWithoutAi(candidate, features, jobPost, jobFeatures);
+        applyAiScore(candidateMatch, BatchSemanticScorer.DEFAULT_SCORE);
+
+        JobMatchResult jobMatch = toJobMatch(candidateMatch);
+        return jobMatch.getMatchScore() > 0.4 ? jobMatch : null;
+    }
+
+    private JobMatchResult toJobMatch(CandidateMatchResult candidateMatch) {
+        JobMatchResult jobMatch = new JobMatchResult();
+        jobMatch.setJob(candidateMatch.getJobPost());
+        jobMatch.setMatchScore(candidateMatch.getOverallScore());
+        jobMatch.setMatchingReasons(candidateMatch.getMatchingReasons());
+        jobMatch.setRecommendedAt(new Date());
+        return jobMatch;
+    }
+
+    private int shortlistSize(int maxResults) {
+        return Math.max(maxResults, maxResults * Math.max(1, rerankFactor));
     }
 
     private List<User> getAvailableJobSeekers(JobPost jobPost) {
@@ -156,57 +373,43 @@ public class AdvancedCandidateMatchingService {
     }
 
     private List<JobPost> getAvailableJobs(User candidate) {
-        // This would typically get jobs from JobRepository - for now using a
-        // placeholder
-        // You would inject JobRepository and use it here
-        return new ArrayList<>(); // Placeholder
+        // Jobs sharing at least one skill term with the candidate; candidates
+        // without indexed skills get the most recent jobs instead of a full scan
+        Set<Integer> jobIds = skillIndex.findJobIds(candidate.getId());
+        List<JobPost> jobs = jobIds.isEmpty()
+                ? jobRepo.findAllByOrderByCreatedAtDesc(PageRequest.of(0, Math.max(1, recentJobsFallback)))
+                : jobRepo.findAllById(jobIds);
+
+        // Skip jobs the candidate already applied to
+        Set<Integer> appliedJobIds = new HashSet<>(jobApplicationRepository.findJobPostIdsByUserId(candidate.getId()));
+        return jobs.stream()
+                .filter(job -> !appliedJobIds.contains(job.getId()))
+                .collect(Collectors.toList());
     }
 
-    private double calculateSkillsMatch(User candidate, JobPost jobPost) {
-        List<Skill> candidateSkills = skillRepository.findByUser(candidate);
-
-        if (candidateSkills.isEmpty()) {
+    private double calculateSkillsMatch(CandidateFeatures features, JobRequirementFeatures jobFeatures) {
+        if (features == null || features.getSkillCount() == 0) {
             return 0.0;
         }
 
-        String jobRequiredSkills = extractRequiredSkills(jobPost);
-        if (jobRequiredSkills == null || jobRequiredSkills.isEmpty()) {
+        SkillVector jobSkills = jobRequirementFeaturesService.skillVector(jobFeatures);
+        if (jobSkills.isEmpty()) {
             return 0.5; // Neutral score if job doesn't specify skills
         }
 
-        Set<String> jobSkillsSet = Arrays.stream(jobRequiredSkills.toLowerCase().split("[,;\\n]"))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.toSet());
-
-        Set<String> candidateSkillsSet = candidateSkills.stream()
-                .map(skill -> skill.getName().toLowerCase())
-                .collect(Collectors.toSet());
-
-        // Calculate Jaccard similarity
-        Set<String> intersection = new HashSet<>(candidateSkillsSet);
-        intersection.retainAll(jobSkillsSet);
-
-        Set<String> union = new HashSet<>(candidateSkillsSet);
-        union.addAll(jobSkillsSet);
-
-        return union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
+        // Jaccard similarity over interned skill ids
+        return candidateFeaturesService.skillVector(features).jaccard(jobSkills);
     }
 
-    private double calculateExperienceMatch(User candidate, JobPost jobPost) {
-        List<Experience> candidateExperience = experienceRepository.findByUser(candidate);
-
-        if (candidateExperience.isEmpty()) {
+    private double calculateExperienceMatch(CandidateFeatures features, JobRequirementFeatures jobFeatures) {
+        if (features == null || features.getExperienceCount() == 0) {
             return 0.2; // Low score for no experience
         }
 
-        // Calculate total years of experience
-        int totalYearsOfExperience = candidateExperience.stream()
-                .mapToInt(exp -> calculateYearsOfExperience(exp))
-                .sum();
+        int totalYearsOfExperience = features.getTotalExperienceYears();
 
-        // Extract required experience from job description
-        int requiredExperience = extractRequiredExperience(jobPost);
+        // Required experience extracted when the job was saved
+        int requiredExperience = jobFeatures != null ? jobFeatures.getMinExperienceYears() : 0;
 
         if (requiredExperience == 0) {
             return 0.7; // Default score if no specific requirement
@@ -220,68 +423,59 @@ public class AdvancedCandidateMatchingService {
         }
     }
 
-    private double calculateEducationMatch(User candidate, JobPost jobPost) {
-        List<Education> candidateEducation = educationRepository.findByUser(candidate);
-
-        if (candidateEducation.isEmpty()) {
+    private double calculateEducationMatch(CandidateFeatures features, JobRequirementFeatures jobFeatures) {
+        if (features == null || features.getEducationCount() == 0) {
             return 0.3; // Low score for no education
         }
 
         // Simple education matching - can be enhanced
-        String requiredEducation = extractRequiredEducation(jobPost);
-
-        if (requiredEducation == null || requiredEducation.isEmpty()) {
+        if (jobFeatures == null || !jobFeatures.isEducationRequired()) {
             return 0.7; // Neutral score if no specific requirement
         }
 
-        // Check for degree level matches
-        boolean hasBachelor = candidateEducation.stream()
-                .anyMatch(edu -> edu.getDegree().toLowerCase().contains("bachelor"));
-        boolean hasMaster = candidateEducation.stream()
-                .anyMatch(edu -> edu.getDegree().toLowerCase().contains("master"));
-        boolean hasPhD = candidateEducation.stream()
-                .anyMatch(edu -> edu.getDegree().toLowerCase().contains("phd") ||
-                        edu.getDegree().toLowerCase().contains("doctorate"));
-
-        String reqLower = requiredEducation.toLowerCase();
+        // Highest degree level across the candidate's educations
+        int degreeLevel = features.getDegreeLevel();
+        int requiredLevel = jobFeatures.getRequiredDegreeLevel();
 
-        if (reqLower.contains("phd") || reqLower.contains("doctorate")) {
-            return hasPhD ? 1.0 : (hasMaster ? 0.7 : (hasBachelor ? 0.5 : 0.2));
-        } else if (reqLower.contains("master")) {
-            return hasMaster || hasPhD ? 1.0 : (hasBachelor ? 0.7 : 0.3);
-        } else if (reqLower.contains("bachelor")) {
-            return hasBachelor || hasMaster || hasPhD ? 1.0 : 0.4;
+        if (requiredLevel == CandidateFeatures.DEGREE_DOCTORATE) {
+            return degreeLevel >= CandidateFeatures.DEGREE_DOCTORATE ? 1.0
+                    : (degreeLevel == CandidateFeatures.DEGREE_MASTER ? 0.7
+                            : (degreeLevel == CandidateFeatures.DEGREE_BACHELOR ? 0.5 : 0.2));
+        } else if (requiredLevel == CandidateFeatures.DEGREE_MASTER) {
+            return degreeLevel >= CandidateFeatures.DEGREE_MASTER ? 1.0
+                    : (degreeLevel == CandidateFeatures.DEGREE_BACHELOR ? 0.7 : 0.3);
+        } else if (requiredLevel == CandidateFeatures.DEGREE_BACHELOR) {
+            return degreeLevel >= CandidateFeatures.DEGREE_BACHELOR ? 1.0 : 0.4;
         }
 
         return 0.6; // Default for other education requirements
     }
 
-    private double calculateLocationMatch(User candidate, JobPost jobPost) {
-        String candidateLocation = candidate.getCity();
+    private double calculateLocationMatch(CandidateFeatures features, JobPost jobPost) {
+        String candidateLocation = features != null ? features.getCity() : null;
         String jobLocation = jobPost.getLocation();
 
         if (candidateLocation == null || jobLocation == null) {
             return 0.5; // Neutral score if location info is missing
         }
 
+        String jobLower = jobLocation.toLowerCase(Locale.ROOT);
+
         // Check for remote work options
-        if (jobLocation.toLowerCase().contains("remote")) {
+        if (jobLower.contains("remote")) {
             return 1.0;
         }
 
         // Simple location matching - can be enhanced with geography APIs
-        if (candidateLocation.equalsIgnoreCase(jobLocation)) {
+        if (candidateLocation.equals(jobLower)) {
             return 1.0;
         }
 
         // Check if same state/region (basic implementation)
-        String[] candidateParts = candidateLocation.split(",");
-        String[] jobParts = jobLocation.split(",");
-
-        if (candidateParts.length > 1 && jobParts.length > 1) {
-            String candidateRegion = candidateParts[candidateParts.length - 1].trim();
+        String[] jobParts = jobLower.split(",");
+        if (features.getRegion() != null && jobParts.length > 1) {
             String jobRegion = jobParts[jobParts.length - 1].trim();
-            if (candidateRegion.equalsIgnoreCase(jobRegion)) {
+            if (features.getRegion().equals(jobRegion)) {
                 return 0.7;
             }
         }
@@ -289,29 +483,13 @@ public class AdvancedCandidateMatchingService {
         return 0.2; // Different locations
     }
 
-    private double calculateAISemanticMatch(User candidate, JobPost jobPost) {
+    private double calculateAISemanticMatch(User candidate, CandidateProfile profile, JobPost jobPost) {
+        if (useEmbeddings()) {
+            return semanticIndexService.scoreCandidates(jobPost, List.of(candidate.getId()))[0];
+        }
         try {
-            String candidateProfile = buildCandidateProfile(candidate);
-            String jobDescription = jobPost.getDescription();
-
-            String prompt = String.format(
-                    "Analyze the semantic match between this job description and candidate profile. " +
-                            "Rate the compatibility on a scale of 0.0 to 1.0 based on skills alignment, " +
-                            "experience relevance, and overall fit. Return only the numeric score.\n\n" +
-                            "Job Description:\n%s\n\nCandidate Profile:\n%s\n\n" +
-                            "Compatibility Score (0.0-1.0):",
-                    jobDescription, candidateProfile);
-
-            AiResponseDto response = mistralAiService.generateText(prompt, "Candidate Matching");
-            String content = response.getContent().trim();
-
-            // Extract numeric score from response
-            try {
-                return Double.parseDouble(content.replaceAll("[^0-9.]", ""));
-            } catch (NumberFormatException e) {
-                return 0.5; // Default score if parsing fails
-            }
-
+            String candidateProfile = buildCandidateProfile(candidate, profile);
+            return batchSemanticScorer.scoreCandidates(jobPost.getDescription(), List.of(candidateProfile))[0];
         } catch (Exception e) {
             return 0.5; // Default score if AI call fails
         }
@@ -319,18 +497,9 @@ public class AdvancedCandidateMatchingService {
 
     private double calculateOverallScore(double skillsScore, double experienceScore,
             double educationScore, double locationScore, double aiScore) {
-        // Weighted average - you can adjust these weights based on importance
-        double skillsWeight = 0.35;
-        double experienceWeight = 0.25;
-        double educationWeight = 0.15;
-        double locationWeight = 0.10;
-        double aiWeight = 0.15;
-
-        return (skillsScore * skillsWeight) +
-                (experienceScore * experienceWeight) +
-                (educationScore * educationWeight) +
-                (locationScore * locationWeight) +
-                (aiScore * aiWeight);
+        // Weighted average, weights from the matching.*-weight properties
+        return WeightedScoringKernel.weightedTotal(matchingWeights.get(), skillsScore, experienceScore,
+                educationScore, locationScore, aiScore);
     }
 
     private List<String> generateMatchingReasons(CandidateMatchResult result, User candidate, JobPost jobPost) {
@@ -374,70 +543,12 @@ public class AdvancedCandidateMatchingService {
         return reasons;
     }
 
-    // Helper methods
-    private String extractRequiredSkills(JobPost jobPost) {
-        String description = jobPost.getDescription();
-        if (description == null)
-            return "";
-
-        // Simple extraction - look for skills section
-        String lower = description.toLowerCase();
-        int skillsIndex = lower.indexOf("skills");
-        if (skillsIndex != -1) {
-            // Try to extract next paragraph or bullet points
-            return description.substring(skillsIndex, Math.min(description.length(), skillsIndex + 500));
-        }
-
-        return ""; // Fallback - JobPost doesn't have structured requiredSkills field
+    private boolean useEmbeddings() {
+        return "embedding".equalsIgnoreCase(semanticScorer);
     }
 
-    private int extractRequiredExperience(JobPost jobPost) {
-        String description = jobPost.getDescription();
-        if (description == null)
-            return 0;
-
-        // Look for experience requirements like "3+ years", "5 years", etc.
-        String[] patterns = { "(\\d+)\\+?\\s*years?", "(\\d+)\\+?\\s*yrs?" };
-
-        for (String pattern : patterns) {
-            java.util.regex.Pattern p = java.util.regex.Pattern.compile(pattern,
-                    java.util.regex.Pattern.CASE_INSENSITIVE);
-            java.util.regex.Matcher m = p.matcher(description);
-            if (m.find()) {
-                return Integer.parseInt(m.group(1));
-            }
-        }
-
-        return 0; // No specific experience requirement found
-    }
-
-    private String extractRequiredEducation(JobPost jobPost) {
-        String description = jobPost.getDescription();
-        if (description == null)
-            return "";
-
-        // Look for education section
-        String lower = description.toLowerCase();
-        int educationIndex = Math.max(
-                lower.indexOf("education"),
-                Math.max(lower.indexOf("degree"), lower.indexOf("qualification")));
-
-        if (educationIndex != -1) {
-            return description.substring(educationIndex, Math.min(description.length(), educationIndex + 300));
-        }
-
-        return "";
-    }
-
-    private int calculateYearsOfExperience(Experience experience) {
-        // Simple calculation - you might want to enhance this
-        if (experience.getStartDate() != null && experience.getEndDate() != null) {
-            return experience.getEndDate().getYear() - experience.getStartDate().getYear();
-        }
-        return 1; // Default assumption
-    }
-
-    private String buildCandidateProfile(User candidate) {
+    // Helper methods
+    static String buildCandidateProfile(User candidate, CandidateProfile candidateProfile) {
         StringBuilder profile = new StringBuilder();
 
         profile.append("Name: ").append(candidate.getFirstName()).append(" ").append(candidate.getLastName())
@@ -448,7 +559,7 @@ public class AdvancedCandidateMatchingService {
         }
 
         // Add skills
-        List<Skill> skills = skillRepository.findByUser(candidate);
+        List<Skill> skills = candidateProfile.getSkills();
         if (!skills.isEmpty()) {
             profile.append("Skills: ");
             profile.append(skills.stream().map(Skill::getName).collect(Collectors.joining(", ")));
@@ -456,7 +567,7 @@ public class AdvancedCandidateMatchingService {
         }
 
         // Add experience
-        List<Experience> experiences = experienceRepository.findByUser(candidate);
+        List<Experience> experiences = candidateProfile.getExperiences();
         if (!experiences.isEmpty()) {
             profile.append("Experience:\n");
             for (Experience exp : experiences) {
@@ -1,14 +1,21 @@
 package org.jobai.skillbridge.service;
 
+import org.jobai.skillbridge.model.CandidateFeatures;
 import org.jobai.skillbridge.model.JobPost;
 import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.model.UserRole;
 import org.jobai.skillbridge.repo.JobRepo;
 import org.jobai.skillbridge.repo.UserRepository;
+import org.jobai.skillbridge.util.ScoreColumns;
+import org.jobai.skillbridge.util.WeightedScoringKernel;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.DoubleConsumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,54 +27,114 @@ public class AdvancedJobMatchingService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private SkillIndex skillIndex;
+
+    @Autowired
+    private ParallelScoringEngine parallelScoringEngine;
+
+    @Autowired
+    private CandidateFeaturesService candidateFeaturesService;
+
+    @Autowired
+    private MatchingWeights matchingWeights;
+
+    // Only include matches above 30%
+    private static final double MIN_COMPATIBILITY = 0.3;
+
+    // This scorer has no education or AI component
+    private static final int COMPONENTS = MatchingWeights.components(ScoreColumns.SKILLS, ScoreColumns.EXPERIENCE,
+            ScoreColumns.LOCATION);
+
     /**
-     * Find matching candidates for a job with advanced scoring
+     * Find matching candidates for a job with advanced scoring. This scores
+     * the candidate pool from scratch; recommendation reads are served from
+     * the materialized matches of {@link JobCandidateMatchService}.
      * 
      * @param jobId The job ID
      * @param limit Maximum number of candidates to return
      * @return List of candidates with compatibility scores
      */
     public List<AdvancedCandidateMatch> findMatchingCandidates(Long jobId, int limit) {
-        List<AdvancedCandidateMatch> matches = new ArrayList<>();
-
         try {
             // Get the job
             JobPost job = jobRepo.findById(jobId.intValue()).orElse(null);
             if (job == null) {
-                return matches;
+                return new ArrayList<>();
             }
+            return rankCandidates(job, limit);
 
-            // Get all users and filter by role
-            List<User> allUsers = userRepository.findAll();
-            List<User> candidates = allUsers.stream()
-                    .filter(user -> user.getRole() != null && user.getRole().name().equals("JOB_SEEKER"))
+        } catch (Exception e) {
+            System.err.println("Error in findMatchingCandidates: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Rank the candidate pool of a job. Unlike {@link #findMatchingCandidates},
+     * failures are thrown rather than answered with an empty ranking, so
+     * callers that store the result can tell the two apart.
+     * 
+     * @param job   The job
+     * @param limit Maximum number of candidates to return
+     * @return Candidates with compatibility scores, best first
+     */
+    public List<AdvancedCandidateMatch> rankCandidates(JobPost job, int limit) {
+        // Only job seekers sharing at least one skill term with the job are
+        // considered; jobs without indexed requirements fall back to all seekers
+        List<User> candidates;
+        if (skillIndex.getJobTerms(job.getId()).isEmpty()) {
+            candidates = userRepository.findByRole(UserRole.JOB_SEEKER);
+        } else {
+            Set<Long> candidateIds = skillIndex.findCandidateIds(job.getId());
+            candidates = userRepository.findAllById(candidateIds).stream()
+                    .filter(user -> user.getRole() == UserRole.JOB_SEEKER)
                     .collect(Collectors.toList());
+        }
 
-            // Calculate compatibility scores for each candidate
-            for (User candidate : candidates) {
-                double compatibilityScore = calculateCandidateCompatibility(job, candidate);
-                if (compatibilityScore > 0.3) { // Only include candidates with >30% match
-                    AdvancedCandidateMatch match = new AdvancedCandidateMatch();
-                    match.setCandidate(candidate);
-                    match.setJob(job);
-                    match.setCompatibilityScore(compatibilityScore);
-                    match.setSkillMatchScore(calculateSkillMatch(job, candidate));
-                    match.setExperienceMatchScore(calculateExperienceMatch(job, candidate));
-                    match.setLocationMatchScore(calculateLocationMatch(job, candidate));
-                    matches.add(match);
-                }
-            }
+        // Precomputed feature rows are loaded up front; scoring runs on worker
+        // threads without access to this thread's persistence context
+        Map<Long, CandidateFeatures> features = candidateFeaturesService.load(candidates);
 
-            // Sort by compatibility score and limit results
-            return matches.stream()
-                    .sorted((a, b) -> Double.compare(b.getCompatibilityScore(), a.getCompatibilityScore()))
-                    .limit(limit)
-                    .collect(Collectors.toList());
+        // Component scores for each candidate, then weighted totals for the whole pool at once
+        ScoreColumns columns = new ScoreColumns(candidates.size());
+        parallelScoringEngine.forEach(candidates.size(), row -> scoreComponents(columns, row, job,
+                candidates.get(row), features.get(candidates.get(row).getId())));
 
-        } catch (Exception e) {
-            System.err.println("Error in findMatchingCandidates: " + e.getMessage());
-            return matches;
+        List<AdvancedCandidateMatch> matches = new ArrayList<>();
+        double[] weights = matchingWeights.get(COMPONENTS);
+        for (int row : parallelScoringEngine.selectTop(columns, weights, MIN_COMPATIBILITY, limit)) {
+            AdvancedCandidateMatch match = new AdvancedCandidateMatch();
+            match.setCandidate(candidates.get(row));
+            match.setJob(job);
+            copyScores(columns, row, weights, match::setCompatibilityScore, match::setSkillMatchScore,
+                    match::setExperienceMatchScore, match::setLocationMatchScore);
+            matches.add(match);
+        }
+        return matches;
+    }
+
+    /**
+     * Score one candidate against a job
+     * 
+     * @param job       The job
+     * @param candidate The candidate
+     * @param features  Precomputed features of the candidate
+     * @return The match, or null if the candidate matches 30% or less
+     */
+    public AdvancedCandidateMatch scoreCandidate(JobPost job, User candidate, CandidateFeatures features) {
+        ScoreColumns columns = new ScoreColumns(1);
+        scoreComponents(columns, 0, job, candidate, features);
+        double[] weights = matchingWeights.get(COMPONENTS);
+        if (WeightedScoringKernel.weightedTotal(columns, 0, weights) <= MIN_COMPATIBILITY) {
+            return null;
         }
+        AdvancedCandidateMatch match = new AdvancedCandidateMatch();
+        match.setCandidate(candidate);
+        match.setJob(job);
+        copyScores(columns, 0, weights, match::setCompatibilityScore, match::setSkillMatchScore,
+                match::setExperienceMatchScore, match::setLocationMatchScore);
+        return match;
     }
 
     /**
@@ -87,29 +154,30 @@ public class AdvancedJobMatchingService {
                 return matches;
             }
 
-            // Get all active jobs
-            List<JobPost> jobs = jobRepo.findAll();
-
-            // Calculate compatibility scores for each job
-            for (JobPost job : jobs) {
-                double compatibilityScore = calculateJobCompatibility(user, job);
-                if (compatibilityScore > 0.3) { // Only include jobs with >30% match
-                    AdvancedJobMatch match = new AdvancedJobMatch();
-                    match.setUser(user);
-                    match.setJob(job);
-                    match.setCompatibilityScore(compatibilityScore);
-                    match.setSkillMatchScore(calculateSkillMatch(job, user));
-                    match.setExperienceMatchScore(calculateExperienceMatch(job, user));
-                    match.setLocationMatchScore(calculateLocationMatch(job, user));
-                    matches.add(match);
-                }
+            // Only jobs sharing at least one skill term with the user are
+            // considered; users without indexed skills fall back to all jobs
+            List<JobPost> jobs = skillIndex.getUserTerms(user.getId()).isEmpty()
+                    ? jobRepo.findAll()
+                    : jobRepo.findAllById(skillIndex.findJobIds(user.getId()));
+
+            // Load the user's features here; scoring runs on worker threads
+            CandidateFeatures features = candidateFeaturesService.load(user);
+
+            // Component scores for each job, then weighted totals for all jobs at once
+            ScoreColumns columns = new ScoreColumns(jobs.size());
+            parallelScoringEngine.forEach(jobs.size(),
+                    row -> scoreComponents(columns, row, jobs.get(row), user, features));
+
+            double[] weights = matchingWeights.get(COMPONENTS);
+            for (int row : parallelScoringEngine.selectTop(columns, weights, MIN_COMPATIBILITY, limit)) {
+                AdvancedJobMatch match = new AdvancedJobMatch();
+                match.setUser(user);
+                match.setJob(jobs.get(row));
+                copyScores(columns, row, weights, match::setCompatibilityScore, match::setSkillMatchScore,
+                        match::setExperienceMatchScore, match::setLocationMatchScore);
+                matches.add(match);
             }
-
-            // Sort by compatibility score and limit results
-            return matches.stream()
-                    .sorted((a, b) -> Double.compare(b.getCompatibilityScore(), a.getCompatibilityScore()))
-                    .limit(limit)
-                    .collect(Collectors.toList());
+            return matches;
 
         } catch (Exception e) {
             System.err.println("Error in findMatchingJobs: " + e.getMessage());
@@ -117,57 +185,46 @@ public class AdvancedJobMatchingService {
         }
     }
 
-    /**
-     * Update learning models based on successful placement
-     * 
-     * @param jobId  Job ID
-     * @param userId User ID
-     */
-    public void updateLearningModels(Long jobId, Long userId) {
-        // Implementation for machine learning model updates
-        // This would typically involve updating weights and preferences
-        // based on successful job placements
-        System.out.println("Updating learning models for job " + jobId + " and user " + userId);
-    }
-
     // Private helper methods for scoring
-    private double calculateCandidateCompatibility(JobPost job, User candidate) {
-        double skillScore = calculateSkillMatch(job, candidate);
-        double experienceScore = calculateExperienceMatch(job, candidate);
-        double locationScore = calculateLocationMatch(job, candidate);
-
-        // Weighted average
-        return (skillScore * 0.5) + (experienceScore * 0.3) + (locationScore * 0.2);
+    private void scoreComponents(ScoreColumns columns, int row, JobPost job, User candidate,
+            CandidateFeatures features) {
+        columns.set(row, ScoreColumns.SKILLS, calculateSkillMatch(job, candidate));
+        columns.set(row, ScoreColumns.EXPERIENCE, calculateExperienceMatch(job, features));
+        columns.set(row, ScoreColumns.LOCATION, calculateLocationMatch(job, features));
     }
 
-    private double calculateJobCompatibility(User user, JobPost job) {
-        return calculateCandidateCompatibility(job, user);
+    private void copyScores(ScoreColumns columns, int row, double[] weights, DoubleConsumer compatibility,
+            DoubleConsumer skill, DoubleConsumer experience, DoubleConsumer location) {
+        // Weighted average of the components
+        compatibility.accept(WeightedScoringKernel.weightedTotal(columns, row, weights));
+        skill.accept(columns.get(row, ScoreColumns.SKILLS));
+        experience.accept(columns.get(row, ScoreColumns.EXPERIENCE));
+        location.accept(columns.get(row, ScoreColumns.LOCATION));
     }
 
     private double calculateSkillMatch(JobPost job, User candidate) {
-        // Simplified skill matching - in a real implementation, this would be more
-        // sophisticated
-        if (job.getRequirements() == null || candidate.getSkills() == null) {
+        if (job.getRequirements() == null) {
             return 0.5; // Default score when data is incomplete
         }
 
-        // Basic keyword matching
-        String jobRequirements = String.join(" ", job.getRequirements()).toLowerCase();
-        long matchingSkills = candidate.getSkills().stream()
-                .mapToLong(skill -> jobRequirements.contains(skill.getName().toLowerCase()) ? 1 : 0)
-                .sum();
+        // Fraction of the candidate's skill terms found among the job's requirement terms
+        Set<String> jobTerms = skillIndex.getJobTerms(job.getId());
+        Set<String> candidateTerms = skillIndex.getUserTerms(candidate.getId());
+        long matchingSkills = candidateTerms.stream()
+                .filter(jobTerms::contains)
+                .count();
 
-        return Math.min(1.0, (double) matchingSkills / Math.max(1, candidate.getSkills().size()));
+        return Math.min(1.0, (double) matchingSkills / Math.max(1, candidateTerms.size()));
     }
 
-    private double calculateExperienceMatch(JobPost job, User candidate) {
+    private double calculateExperienceMatch(JobPost job, CandidateFeatures features) {
         // Simplified experience matching
-        if (candidate.getExperiences() == null || candidate.getExperiences().isEmpty()) {
+        if (features == null || features.getExperienceCount() == 0) {
             return 0.3; // Low score for no experience
         }
 
         // Calculate total years of experience
-        int totalExperience = candidate.getExperiences().size() * 2; // Assume 2 years per experience entry
+        int totalExperience = features.getExperienceCount() * 2; // Assume 2 years per experience entry
 
         if (job.getTitle() != null && job.getTitle().toLowerCase().contains("senior")) {
             return totalExperience >= 5 ? 0.9 : 0.4;
@@ -178,8 +235,8 @@ public class AdvancedJobMatchingService {
         return 0.7; // Default for mid-level positions
     }
 
-    private double calculateLocationMatch(JobPost job, User candidate) {
-        if (job.getLocation() == null || candidate.getCity() == null) {
+    private double calculateLocationMatch(JobPost job, CandidateFeatures features) {
+        if (job.getLocation() == null || features == null || features.getCity() == null) {
             return 0.8; // Default score when location data is incomplete
         }
 
@@ -189,7 +246,7 @@ public class AdvancedJobMatchingService {
         }
 
         String jobLocation = job.getLocation().toLowerCase();
-        String candidateLocation = candidate.getCity().toLowerCase();
+        String candidateLocation = features.getCity();
 
         return jobLocation.contains(candidateLocation) || candidateLocation.contains(jobLocation) ? 1.0 : 0.3;
     }
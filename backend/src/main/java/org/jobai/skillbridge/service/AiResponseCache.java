@@ -0,0 +1,259 @@
+package org.jobai.skillbridge.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Content-addressed cache for LLM completions.
+ *
+ * Entries are keyed by a SHA-256 hash of (model, temperature, prompt), so an
+ * identical prompt sent with identical sampling settings is answered without a
+ * round trip to Mistral. The in-memory store is a bounded LRU; each entry
+ * expires after the TTL configured for its feature
+ * ({@code ai.cache.ttl-seconds.<feature>}, falling back to
+ * {@code ai.cache.ttl-seconds.default}). When {@code ai.cache.redis.enabled}
+ * is set, entries are also written to Redis so they survive restarts and are
+ * shared between instances; an entry read from Redis is kept locally only for
+ * the time it has left there.
+ */
+@Service
+public class AiResponseCache {
+
+    @Value("${ai.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${ai.cache.ttl-seconds.default:1800}")
+    private long defaultTtlSeconds;
+
+    @Value("${ai.cache.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${ai.cache.redis.key-prefix:ai:response:}")
+    private String redisKeyPrefix;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Map<String, CacheEntry> entries;
+    private Counter hits;
+    private Counter misses;
+    private Counter evictions;
+
+    @PostConstruct
+    public void initialize() {
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        hits = Counter.builder("ai.cache.requests").tag("result", "hit")
+                .description("AI response cache lookups").register(meterRegistry);
+        misses = Counter.builder("ai.cache.requests").tag("result", "miss")
+                .description("AI response cache lookups").register(meterRegistry);
+        evictions = Counter.builder("ai.cache.evictions")
+                .description("AI responses evicted to respect the size bound").register(meterRegistry);
+        Gauge.builder("ai.cache.size", this, AiResponseCache::size)
+                .description("AI responses held in memory").register(meterRegistry);
+    }
+
+    /**
+     * Build the cache key for a completion request
+     *
+     * @param model       Model name
+     * @param temperature Sampling temperature
+     * @param prompt      Prompt text
+     * @return Hex encoded SHA-256 hash
+     */
+    public String key(String model, double temperature, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(model).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(Double.toString(temperature).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Look up a cached response
+     *
+     * @param key     Cache key from {@link #key}
+     * @param feature Feature the response belongs to
+     * @return Cached response, or null when absent or expired
+     */
+    public String get(String key, String feature) {
+        if (!enabled) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CacheEntry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt > now) {
+                    hits.increment();
+                    return entry.value;
+                }
+                entries.remove(key);
+            }
+        }
+
+        String value = getFromRedis(key);
+        if (value != null) {
+            Duration remaining = remainingRedisTtl(key, ttlFor(feature));
+            if (remaining.isPositive()) {
+                storeLocally(key, value, remaining);
+            }
+            hits.increment();
+            return value;
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Store a response
+     *
+     * @param key     Cache key from {@link #key}
+     * @param feature Feature the response belongs to
+     * @param value   Response to cache
+     */
+    public void put(String key, String feature, String value) {
+        Duration ttl = ttlFor(feature);
+        if (!enabled || value == null || ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+
+        storeLocally(key, value, ttl);
+
+        StringRedisTemplate redis = redisTemplate();
+        if (redis != null) {
+            try {
+                redis.opsForValue().set(redisKeyPrefix + key, value, ttl);
+            } catch (Exception e) {
+                System.err.println("Failed to write AI response to Redis: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Resolve the time-to-live for a feature
+     *
+     * @param feature Feature name, e.g. "Suggest relevant skills"
+     * @return Configured TTL
+     */
+    public Duration ttlFor(String feature) {
+        long seconds = defaultTtlSeconds;
+        String normalized = normalizeFeature(feature);
+        if (!normalized.isEmpty()) {
+            seconds = environment.getProperty("ai.cache.ttl-seconds." + normalized, Long.class, defaultTtlSeconds);
+        }
+        return Duration.ofSeconds(seconds);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Turn a free-form feature description into a property-friendly name
+     * ("Suggest relevant skills" becomes "suggest-relevant-skills")
+     */
+    static String normalizeFeature(String feature) {
+        if (feature == null) {
+            return "";
+        }
+        String normalized = feature.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-")
+                .replaceAll("^-|-$", "");
+        // Long values are prompts rather than feature names; use the default TTL
+        return normalized.length() > 64 ? "" : normalized;
+    }
+
+    private void storeLocally(String key, String value, Duration ttl) {
+        synchronized (entries) {
+            entries.put(key, new CacheEntry(value, System.currentTimeMillis() + ttl.toMillis()));
+        }
+    }
+
+    private String getFromRedis(String key) {
+        StringRedisTemplate redis = redisTemplate();
+        if (redis == null) {
+            return null;
+        }
+        try {
+            return redis.opsForValue().get(redisKeyPrefix + key);
+        } catch (Exception e) {
+            System.err.println("Failed to read AI response from Redis: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Time the Redis entry has left, at most the feature's TTL; zero when unknown
+    private Duration remainingRedisTtl(String key, Duration ttl) {
+        try {
+            Long millis = redisTemplate().getExpire(redisKeyPrefix + key, TimeUnit.MILLISECONDS);
+            if (millis == null || millis <= 0) {
+                // -1: written without an expiry by someone else; -2: expired since the read
+                return millis != null && millis == -1 ? ttl : Duration.ZERO;
+            }
+            return Duration.ofMillis(Math.min(millis, ttl.toMillis()));
+        } catch (Exception e) {
+            System.err.println("Failed to read AI response TTL from Redis: " + e.getMessage());
+            return Duration.ZERO;
+        }
+    }
+
+    private StringRedisTemplate redisTemplate() {
+        return redisEnabled ? redisTemplateProvider.getIfAvailable() : null;
+    }
+
+    private static class CacheEntry {
+        private final String value;
+        private final long expiresAt;
+
+        CacheEntry(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
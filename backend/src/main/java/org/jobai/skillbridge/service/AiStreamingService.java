@@ -0,0 +1,82 @@
+package org.jobai.skillbridge.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Relays streamed AI output to the browser as Server-Sent Events.
+ *
+ * The generation runs on the {@link AiTaskExecutor}; every text fragment is
+ * sent as a "token" event, followed by a single "done" event carrying the
+ * final result (or an "error" event if generation failed).
+ */
+@Service
+public class AiStreamingService {
+
+    @Value("${ai.streaming.timeout:120000}")
+    private long streamTimeoutMs;
+
+    @Autowired
+    private AiTaskExecutor aiTaskExecutor;
+
+    /**
+     * Start a streamed generation
+     *
+     * @param generation Function that performs the generation, feeding each
+     *                   fragment to the supplied callback and returning the
+     *                   final result
+     * @return Emitter to return from the controller
+     */
+    public <T> SseEmitter stream(Function<Consumer<String>, T> generation) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+
+        aiTaskExecutor.execute(() -> relay(emitter, generation))
+                .exceptionally(e -> {
+                    // Rejected before the generation started (e.g. no AI capacity)
+                    sendError(emitter, e.getCause() != null ? e.getCause() : e);
+                    return null;
+                });
+
+        return emitter;
+    }
+
+    private <T> void relay(SseEmitter emitter, Function<Consumer<String>, T> generation) {
+        try {
+            T result = generation.apply(token -> send(emitter, "token", Map.of("content", token)));
+            emitter.send(SseEmitter.event().name("done").data(result, MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (Exception e) {
+            sendError(emitter, e);
+        }
+    }
+
+    private void send(SseEmitter emitter, String eventName, Object data) {
+        try {
+            // Fragments are sent as JSON so line breaks inside them cannot break SSE framing
+            emitter.send(SseEmitter.event().name(eventName).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            // Client went away; abort the generation so the upstream stream is closed
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void sendError(SseEmitter emitter, Throwable e) {
+        try {
+            emitter.send(SseEmitter.event().name("error")
+                    .data(Map.of("message", String.valueOf(e.getMessage())), MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (Exception ignored) {
+            // Connection already closed
+            emitter.completeWithError(e);
+        }
+    }
+}
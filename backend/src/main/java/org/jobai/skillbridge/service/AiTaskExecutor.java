@@ -0,0 +1,162 @@
+package org.jobai.skillbridge.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.jobai.skillbridge.exception.AiCapacityExceededException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs AI work off the servlet container threads.
+ *
+ * In "async" mode every task gets its own virtual thread and the number of
+ * tasks talking to the LLM at once is capped by a semaphore, so a burst of
+ * resume generations queues up cheaply instead of exhausting the Tomcat pool.
+ * In "sync" mode tasks run inline on the caller thread (the previous behaviour).
+ * A task that finds no permit within the queue timeout fails with
+ * {@link AiCapacityExceededException}, which clients receive as 503.
+ *
+ * A task that fans out further AI calls must not wait for permits while
+ * holding its own: run the calls with {@link #callWithPermit} and wait for
+ * them inside {@link #awaitWithoutPermit}, which lends the caller's permit
+ * out while it blocks.
+ */
+@Service
+public class AiTaskExecutor {
+
+    @Value("${ai.execution.mode:async}")
+    private String mode;
+
+    @Value("${ai.execution.max-concurrency:64}")
+    private int maxConcurrency;
+
+    @Value("${ai.execution.queue-timeout:30000}")
+    private long queueTimeoutMs;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ExecutorService executor;
+    private Semaphore permits;
+    // Whether the current thread is running a task that holds a permit
+    private final ThreadLocal<Boolean> holdsPermit = ThreadLocal.withInitial(() -> false);
+
+    @PostConstruct
+    public void initialize() {
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ai-task-", 0).factory());
+        permits = new Semaphore(maxConcurrency, true);
+
+        Gauge.builder("ai.execution.active", permits, p -> maxConcurrency - p.availablePermits())
+                .description("AI tasks currently holding a concurrency permit")
+                .register(meterRegistry);
+        Gauge.builder("ai.execution.waiting", permits, Semaphore::getQueueLength)
+                .description("AI tasks waiting for a concurrency permit")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Submit an AI task
+     *
+     * @param task The work to run
+     * @return Future completed with the task result
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (!isAsync()) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return CompletableFuture.supplyAsync(() -> runWithPermit(task), executor);
+    }
+
+    /**
+     * Run a task on the AI executor without returning a value
+     *
+     * @param task The work to run
+     * @return Future completed when the task finishes
+     */
+    public CompletableFuture<Void> execute(Runnable task) {
+        return submit(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run an AI call on the current thread under a concurrency permit; a
+     * thread that already holds one runs it straight away
+     *
+     * @param task The AI call
+     * @return The task result
+     */
+    public <T> T callWithPermit(Supplier<T> task) {
+        if (!isAsync() || holdsPermit.get()) {
+            return task.get();
+        }
+        return runWithPermit(task);
+    }
+
+    /**
+     * Wait for other AI work while giving up the current thread's permit, so
+     * the work waited for can use it; the permit is taken back afterwards
+     *
+     * @param wait Blocks until the work is done
+     * @return The result of the wait
+     */
+    public <T> T awaitWithoutPermit(Supplier<T> wait) {
+        if (!isAsync() || !holdsPermit.get()) {
+            return wait.get();
+        }
+        permits.release();
+        holdsPermit.set(false);
+        try {
+            return wait.get();
+        } finally {
+            permits.acquireUninterruptibly();
+            holdsPermit.set(true);
+        }
+    }
+
+    public boolean isAsync() {
+        return "async".equalsIgnoreCase(mode);
+    }
+
+    private <T> T runWithPermit(Supplier<T> task) {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiCapacityExceededException("Interrupted while waiting for AI capacity", e);
+        }
+
+        if (!acquired) {
+            throw new AiCapacityExceededException("AI service is busy. Please try again shortly.");
+        }
+
+        holdsPermit.set(true);
+        try {
+            return task.get();
+        } finally {
+            holdsPermit.set(false);
+            permits.release();
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package org.jobai.skillbridge.service;
 
+import org.jobai.skillbridge.event.ApplicationStatusChangedEvent;
 import org.jobai.skillbridge.model.JobApplication;
 import org.jobai.skillbridge.model.JobPost;
 import org.jobai.skillbridge.model.User;
 import org.jobai.skillbridge.repo.JobApplicationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.lang.reflect.Method;
@@ -16,6 +18,9 @@ public class ApplicationService {
     
     @Autowired
     private JobApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     
     /**
      * Helper method to set field value using reflection
@@ -57,14 +62,24 @@ public class ApplicationService {
         setFieldValue(application, "coverLetter", coverLetter);
         setFieldValue(application, "resumeUrl", resumeUrl);
         
-        return applicationRepository.save(application);
+        JobApplication saved = applicationRepository.save(application);
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(saved.getId(), saved.getJobId(),
+                saved.getUserId(), null, saved.getStatus()));
+        return saved;
     }
     
     public JobApplication updateApplicationStatus(Long applicationId, String status) {
         JobApplication application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new RuntimeException("Application not found"));
+        String previousStatus = application.getStatus();
         setFieldValue(application, "status", status);
-        return applicationRepository.save(application);
+        JobApplication saved = applicationRepository.save(application);
+
+        if (status != null && !status.equals(previousStatus)) {
+            eventPublisher.publishEvent(new ApplicationStatusChangedEvent(saved.getId(), saved.getJobId(),
+                    saved.getUserId(), previousStatus, status));
+        }
+        return saved;
     }
     
     public void deleteApplication(Long id) {
@@ -0,0 +1,200 @@
+package org.jobai.skillbridge.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.jobai.skillbridge.dto.AiResponseDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Scores many profiles against one reference text with as few AI calls as
+ * possible.
+ *
+ * Items are packed into prompts of {@code matching.ai.batch-size} entries and
+ * the model is asked for a JSON array with one score per entry. Batches are
+ * sent in parallel on virtual threads, so ranking a few hundred candidates
+ * costs a handful of concurrent round trips instead of one sequential call
+ * per candidate. Each batch takes an {@link AiTaskExecutor} permit only for
+ * its AI call, and a caller already running as an AI task lends its permit
+ * out while it waits, so callers and batches never hold permits waiting on
+ * each other.
+ */
+@Service
+public class BatchSemanticScorer {
+
+    static final double DEFAULT_SCORE = 0.5;
+
+    @Value("${matching.ai.batch-size:20}")
+    private int batchSize;
+
+    @Value("${matching.ai.max-item-chars:1500}")
+    private int maxItemChars;
+
+    @Autowired
+    private MistralAiService mistralAiService;
+
+    @Autowired
+    private AiTaskExecutor aiTaskExecutor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void initialize() {
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("semantic-batch-", 0).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Score candidate profiles against a job description
+     *
+     * @param jobDescription    The job description
+     * @param candidateProfiles Candidate profiles, one per candidate
+     * @return Scores between 0.0 and 1.0, in the same order as the profiles
+     */
+    public double[] scoreCandidates(String jobDescription, List<String> candidateProfiles) {
+        return score("Job Description", jobDescription, "Candidate", candidateProfiles);
+    }
+
+    /**
+     * Score job descriptions against a candidate profile
+     *
+     * @param candidateProfile The candidate profile
+     * @param jobDescriptions  Job descriptions, one per job
+     * @return Scores between 0.0 and 1.0, in the same order as the jobs
+     */
+    public double[] scoreJobs(String candidateProfile, List<String> jobDescriptions) {
+        return score("Candidate Profile", candidateProfile, "Job", jobDescriptions);
+    }
+
+    private double[] score(String referenceLabel, String reference, String itemLabel, List<String> items) {
+        double[] scores = new double[items.size()];
+        if (items.isEmpty()) {
+            return scores;
+        }
+
+        int size = Math.max(1, batchSize);
+        List<CompletableFuture<double[]>> batches = new ArrayList<>();
+        for (int start = 0; start < items.size(); start += size) {
+            List<String> batch = items.subList(start, Math.min(items.size(), start + size));
+            batches.add(CompletableFuture.supplyAsync(() -> aiTaskExecutor.callWithPermit(
+                    () -> scoreBatch(referenceLabel, reference, itemLabel, batch)), executor));
+        }
+
+        aiTaskExecutor.awaitWithoutPermit(() -> CompletableFuture.allOf(batches.toArray(new CompletableFuture[0]))
+                .handle((ignored, e) -> null).join());
+        for (int i = 0; i < batches.size(); i++) {
+            int offset = i * size;
+            int length = Math.min(size, items.size() - offset);
+            double[] batchScores;
+            try {
+                batchScores = batches.get(i).join();
+            } catch (Exception e) {
+                System.err.println("Batch semantic scoring failed: " + e.getMessage());
+                batchScores = defaultScores(length);
+            }
+            System.arraycopy(batchScores, 0, scores, offset, length);
+        }
+
+        return scores;
+    }
+
+    private double[] scoreBatch(String referenceLabel, String reference, String itemLabel, List<String> items) {
+        String prompt = buildPrompt(referenceLabel, reference, itemLabel, items);
+        AiResponseDto response = mistralAiService.generateText(prompt, "Candidate Matching");
+
+        if (response == null || !response.isSuccess() || response.getContent() == null) {
+            return defaultScores(items.size());
+        }
+        return parseScores(response.getContent(), items.size());
+    }
+
+    private String buildPrompt(String referenceLabel, String reference, String itemLabel, List<String> items) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("Analyze the semantic match between the ").append(referenceLabel.toLowerCase())
+                .append(" and each numbered ").append(itemLabel.toLowerCase()).append(" below. ")
+                .append("Rate each compatibility on a scale of 0.0 to 1.0 based on skills alignment, ")
+                .append("experience relevance, and overall fit.\n")
+                .append("Return only a JSON array of exactly ").append(items.size())
+                .append(" numbers, one per ").append(itemLabel.toLowerCase())
+                .append(", in the order given. Example: [0.8, 0.35]\n\n");
+
+        prompt.append(referenceLabel).append(":\n").append(truncate(reference)).append("\n\n");
+
+        for (int i = 0; i < items.size(); i++) {
+            prompt.append(itemLabel).append(" ").append(i + 1).append(":\n")
+                    .append(truncate(items.get(i))).append("\n\n");
+        }
+
+        prompt.append("Scores:");
+        return prompt.toString();
+    }
+
+    /**
+     * Parse a score vector from a model response. Missing or malformed
+     * entries fall back to a neutral score.
+     *
+     * @param content  Model response
+     * @param expected Number of scores expected
+     * @return Parsed scores
+     */
+    double[] parseScores(String content, int expected) {
+        double[] scores = defaultScores(expected);
+
+        int start = content.indexOf('[');
+        int end = content.lastIndexOf(']');
+        if (start == -1 || end <= start) {
+            return scores;
+        }
+
+        try {
+            JsonNode array = objectMapper.readTree(content.substring(start, end + 1));
+            for (int i = 0; i < expected && i < array.size(); i++) {
+                JsonNode value = array.get(i);
+                double score = value.isNumber() ? value.asDouble() : parseNumber(value.asText());
+                scores[i] = Math.max(0.0, Math.min(1.0, score));
+            }
+        } catch (Exception e) {
+            System.err.println("Could not parse batch scores: " + e.getMessage());
+        }
+
+        return scores;
+    }
+
+    private double parseNumber(String text) {
+        try {
+            return Double.parseDouble(text.replaceAll("[^0-9.]", ""));
+        } catch (NumberFormatException e) {
+            return DEFAULT_SCORE;
+        }
+    }
+
+    private String truncate(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.length() > maxItemChars ? text.substring(0, maxItemChars) + "..." : text;
+    }
+
+    private static double[] defaultScores(int length) {
+        double[] scores = new double[length];
+        Arrays.fill(scores, DEFAULT_SCORE);
+        return scores;
+    }
+}
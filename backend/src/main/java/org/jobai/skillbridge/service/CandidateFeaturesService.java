@@ -0,0 +1,286 @@
+package org.jobai.skillbridge.service;
+
+import org.jobai.skillbridge.event.ProfileChangedEvent;
+import org.jobai.skillbridge.model.CandidateFeatures;
+import org.jobai.skillbridge.model.Education;
+import org.jobai.skillbridge.model.Experience;
+import org.jobai.skillbridge.model.Skill;
+import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.repo.CandidateFeaturesRepository;
+import org.jobai.skillbridge.repo.UserRepository;
+import org.jobai.skillbridge.service.CandidateProfileLoader.CandidateProfile;
+import org.jobai.skillbridge.util.SkillVector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maintains the {@link CandidateFeatures} row of every job seeker.
+ *
+ * Rows are recomputed from the full profile only when a
+ * {@link ProfileChangedEvent} is published for the user; matching then reads
+ * the compact rows in bulk. Users without a row yet (e.g. created before this
+ * table existed) are backfilled on first read. Cached skill bitsets are
+ * evicted once the recomputed row has committed.
+ */
+@Service
+public class CandidateFeaturesService {
+
+    static final int MAX_SKILL_TERMS_LENGTH = 4000;
+
+    @Value("${matching.profile-loader.chunk-size:1000}")
+    private int chunkSize;
+
+    @Autowired
+    private CandidateFeaturesRepository candidateFeaturesRepository;
+
+    @Autowired
+    private CandidateProfileLoader candidateProfileLoader;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    // Skill bitsets per user, rebuilt from the stored terms after a change or restart
+    private final Map<Long, SkillVector> skillVectors = new ConcurrentHashMap<>();
+
+    @EventListener
+    @Transactional
+    public void onProfileChanged(ProfileChangedEvent event) {
+        Long userId = event.getUserId();
+        skillVectors.remove(userId);
+        userRepository.findById(userId).ifPresent(user -> {
+            CandidateProfile profile = candidateProfileLoader.load(user);
+            candidateFeaturesRepository.save(compute(user, profile));
+        });
+        // Until the new row commits, a concurrent reader can cache the old bitset again
+        evictAfterCommit(userId);
+    }
+
+    private void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            skillVectors.remove(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                skillVectors.remove(userId);
+            }
+        });
+    }
+
+    /**
+     * Load the features of many candidates, computing missing rows
+     *
+     * @param candidates The candidates
+     * @return Features per user ID; every candidate with an ID has an entry
+     */
+    @Transactional
+    public Map<Long, CandidateFeatures> load(Collection<User> candidates) {
+        Map<Long, User> usersById = new HashMap<>();
+        for (User candidate : candidates) {
+            if (candidate.getId() != null) {
+                usersById.putIfAbsent(candidate.getId(), candidate);
+            }
+        }
+
+        Map<Long, CandidateFeatures> features = new HashMap<>();
+        findRows(new ArrayList<>(usersById.keySet()), features);
+
+        List<User> missing = new ArrayList<>();
+        for (Map.Entry<Long, User> entry : usersById.entrySet()) {
+            if (!features.containsKey(entry.getKey())) {
+                missing.add(entry.getValue());
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, CandidateProfile> profiles = candidateProfileLoader.load(missing);
+            List<Long> missingIds = new ArrayList<>();
+            int inserted = 0;
+            for (User user : missing) {
+                // Concurrent first reads may backfill the same user; the first insert wins
+                inserted += candidateFeaturesRepository.insertIfAbsent(compute(user, profiles.get(user.getId())));
+                missingIds.add(user.getId());
+            }
+            findRows(missingIds, features);
+            System.out.println("Backfilled candidate features for " + inserted + " users");
+        }
+
+        return features;
+    }
+
+    private void findRows(List<Long> userIds, Map<Long, CandidateFeatures> features) {
+        int size = Math.max(1, chunkSize);
+        for (int start = 0; start < userIds.size(); start += size) {
+            for (CandidateFeatures row : candidateFeaturesRepository
+                    .findByUserIdIn(userIds.subList(start, Math.min(userIds.size(), start + size)))) {
+                features.put(row.getUserId(), row);
+            }
+        }
+    }
+
+    /**
+     * Load the features of a single candidate
+     *
+     * @param candidate The candidate
+     * @return Features of the candidate
+     */
+    @Transactional
+    public CandidateFeatures load(User candidate) {
+        return load(Collections.singletonList(candidate)).get(candidate.getId());
+    }
+
+    /**
+     * Skill bitset of a candidate
+     *
+     * @param features The candidate's features
+     * @return Vector of interned skill ids
+     */
+    public SkillVector skillVector(CandidateFeatures features) {
+        if (features == null) {
+            return SkillVector.EMPTY;
+        }
+        return skillVectors.computeIfAbsent(features.getUserId(),
+                id -> skillDictionary.vectorOf(skillTerms(features)));
+    }
+
+    /**
+     * Compute the features of a user from their full profile
+     *
+     * @param user    The user
+     * @param profile Preloaded profile data of the user
+     * @return Features row, not yet saved
+     */
+    static CandidateFeatures compute(User user, CandidateProfile profile) {
+        CandidateFeatures features = new CandidateFeatures();
+        features.setUserId(user.getId());
+        features.setUpdatedAt(LocalDateTime.now());
+
+        if (profile == null) {
+            profile = new CandidateProfile();
+        }
+
+        Set<String> terms = new LinkedHashSet<>();
+        for (Skill skill : profile.getSkills()) {
+            String term = SkillIndex.normalize(skill.getName());
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        features.setSkillCount(profile.getSkills().size());
+        features.setSkillTerms(joinTerms(terms));
+
+        int totalYears = 0;
+        for (Experience experience : profile.getExperiences()) {
+            totalYears += yearsOf(experience);
+        }
+        features.setExperienceCount(profile.getExperiences().size());
+        features.setTotalExperienceYears(totalYears);
+
+        int degreeLevel = CandidateFeatures.DEGREE_NONE;
+        for (Education education : profile.getEducations()) {
+            degreeLevel = Math.max(degreeLevel, degreeLevel(education.getDegree()));
+        }
+        features.setEducationCount(profile.getEducations().size());
+        features.setDegreeLevel(degreeLevel);
+
+        String city = user.getCity();
+        if (city != null) {
+            features.setCity(city.toLowerCase(Locale.ROOT));
+            String[] parts = city.split(",");
+            if (parts.length > 1) {
+                features.setRegion(parts[parts.length - 1].trim().toLowerCase(Locale.ROOT));
+            }
+        }
+
+        return features;
+    }
+
+    /**
+     * Highest degree level named in a degree title
+     *
+     * @param degree Degree title, e.g. "Master of Science"
+     * @return One of the {@code CandidateFeatures.DEGREE_*} levels
+     */
+    static int degreeLevel(String degree) {
+        if (degree == null) {
+            return CandidateFeatures.DEGREE_NONE;
+        }
+        String lower = degree.toLowerCase(Locale.ROOT);
+        if (lower.contains("phd") || lower.contains("doctorate")) {
+            return CandidateFeatures.DEGREE_DOCTORATE;
+        }
+        if (lower.contains("master")) {
+            return CandidateFeatures.DEGREE_MASTER;
+        }
+        if (lower.contains("bachelor")) {
+            return CandidateFeatures.DEGREE_BACHELOR;
+        }
+        return CandidateFeatures.DEGREE_NONE;
+    }
+
+    static List<String> skillTerms(CandidateFeatures features) {
+        return splitTerms(features.getSkillTerms());
+    }
+
+    /**
+     * Split a stored term list
+     *
+     * @param terms Newline separated terms, may be null
+     * @return The terms
+     */
+    static List<String> splitTerms(String terms) {
+        if (terms == null || terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(terms.split("\n"));
+    }
+
+    /**
+     * Join terms for storage in a text column
+     *
+     * @param terms Normalized terms
+     * @return Newline separated terms, truncated to {@link #MAX_SKILL_TERMS_LENGTH}
+     */
+    static String joinTerms(Collection<String> terms) {
+        StringBuilder joined = new StringBuilder();
+        for (String term : terms) {
+            // Stay within the column; a profile with that many skills loses only its tail
+            if (joined.length() + term.length() + 1 > MAX_SKILL_TERMS_LENGTH) {
+                break;
+            }
+            if (joined.length() > 0) {
+                joined.append('\n');
+            }
+            joined.append(term);
+        }
+        return joined.toString();
+    }
+
+    private static int yearsOf(Experience experience) {
+        if (experience.getStartDate() != null && experience.getEndDate() != null) {
+            return experience.getEndDate().getYear() - experience.getStartDate().getYear();
+        }
+        return 1; // Default assumption
+    }
+}
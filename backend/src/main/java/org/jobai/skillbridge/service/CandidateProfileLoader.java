@@ -0,0 +1,112 @@
+package org.jobai.skillbridge.service;
+
+import org.jobai.skillbridge.model.Education;
+import org.jobai.skillbridge.model.Experience;
+import org.jobai.skillbridge.model.Skill;
+import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.repo.EducationRepository;
+import org.jobai.skillbridge.repo.ExperienceRepository;
+import org.jobai.skillbridge.repo.SkillRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Loads the skills, experiences and educations of many candidates with one
+ * query per table (per chunk of ids) instead of three queries per candidate.
+ */
+@Service
+public class CandidateProfileLoader {
+
+    @Value("${matching.profile-loader.chunk-size:1000}")
+    private int chunkSize;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private EducationRepository educationRepository;
+
+    /**
+     * Load profile snapshots for a set of candidates
+     *
+     * @param candidates The candidates
+     * @return Snapshot per user ID; every candidate has an entry
+     */
+    public Map<Long, CandidateProfile> load(Collection<User> candidates) {
+        Map<Long, CandidateProfile> profiles = new HashMap<>();
+        List<Long> userIds = new ArrayList<>();
+        for (User candidate : candidates) {
+            if (candidate.getId() != null && profiles.putIfAbsent(candidate.getId(), new CandidateProfile()) == null) {
+                userIds.add(candidate.getId());
+            }
+        }
+
+        int size = Math.max(1, chunkSize);
+        for (int start = 0; start < userIds.size(); start += size) {
+            List<Long> chunk = userIds.subList(start, Math.min(userIds.size(), start + size));
+
+            group(skillRepository.findByUserIdIn(chunk), Skill::getUser, profiles, CandidateProfile::getSkills);
+            group(experienceRepository.findByUserIdIn(chunk), Experience::getUser, profiles,
+                    CandidateProfile::getExperiences);
+            group(educationRepository.findByUserIdIn(chunk), Education::getUser, profiles,
+                    CandidateProfile::getEducations);
+        }
+
+        return profiles;
+    }
+
+    /**
+     * Load the profile snapshot of a single candidate
+     *
+     * @param candidate The candidate
+     * @return Profile snapshot
+     */
+    public CandidateProfile load(User candidate) {
+        return load(Collections.singletonList(candidate))
+                .getOrDefault(candidate.getId(), new CandidateProfile());
+    }
+
+    private static <E> void group(List<E> entities, Function<E, User> owner, Map<Long, CandidateProfile> profiles,
+            Function<CandidateProfile, List<E>> target) {
+        for (E entity : entities) {
+            // Reading the id of a lazy association does not initialize it
+            CandidateProfile profile = profiles.get(owner.apply(entity).getId());
+            if (profile != null) {
+                target.apply(profile).add(entity);
+            }
+        }
+    }
+
+    /**
+     * Preassembled profile data of one candidate
+     */
+    public static class CandidateProfile {
+        private final List<Skill> skills = new ArrayList<>();
+        private final List<Experience> experiences = new ArrayList<>();
+        private final List<Education> educations = new ArrayList<>();
+
+        public List<Skill> getSkills() {
+            return skills;
+        }
+
+        public List<Experience> getExperiences() {
+            return experiences;
+        }
+
+        public List<Education> getEducations() {
+            return educations;
+        }
+    }
+}
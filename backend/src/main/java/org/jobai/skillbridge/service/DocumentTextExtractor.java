@@ -0,0 +1,273 @@
+package org.jobai.skillbridge.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.tika.exception.WriteLimitReachedException;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.parser.Parser;
+import org.apache.tika.sax.BodyContentHandler;
+import org.apache.tika.sax.ContentHandlerDecorator;
+import org.jobai.skillbridge.exception.AiServiceException;
+import org.jobai.skillbridge.exception.TransientProcessingException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.xml.sax.SAXException;
+
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.concurrent.*;
+
+/**
+ * Extracts plain text from uploaded documents (PDF, DOC, DOCX, ...) with Tika.
+ *
+ * One {@link AutoDetectParser} is built at startup and shared, since parser
+ * discovery through the service loader is expensive and the parser itself
+ * is thread-safe. Each document is parsed on its own virtual thread under a
+ * wall-clock timeout: the caller gives up when it expires, and the parse is
+ * interrupted and stopped at the next chunk of text it emits. Text beyond
+ * {@code document.extraction.max-characters} is dropped and the parse ends there.
+ *
+ * CPU-bound parser work that emits no text cannot be stopped from outside,
+ * so at most {@code document.extraction.max-concurrent} parses run at once.
+ * A parse keeps its slot until its thread actually exits, even after the
+ * caller has given up; pathological files that keep running therefore use
+ * up slots instead of piling up threads, and new documents wait for a slot
+ * within their own timeout.
+ *
+ * Latency is recorded in the {@code document.extraction} timer, tagged by
+ * MIME type and outcome.
+ */
+@Service
+public class DocumentTextExtractor {
+
+    @Value("${document.extraction.timeout:20000}")
+    private long timeoutMs;
+
+    @Value("${document.extraction.max-characters:200000}")
+    private int maxCharacters;
+
+    @Value("${document.extraction.max-concurrent:0}")
+    private int maxConcurrent;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private AutoDetectParser parser;
+    private ExecutorService executor;
+    // One permit per parse thread still running, including parses the caller gave up on
+    private Semaphore permits;
+    private int concurrency;
+
+    @PostConstruct
+    public void initialize() {
+        parser = new AutoDetectParser();
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("document-extract-", 0).factory());
+        concurrency = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+        permits = new Semaphore(concurrency);
+
+        Gauge.builder("document.extraction.active", permits, p -> concurrency - p.availablePermits())
+                .description("Document parses running, including ones past their timeout")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Extract the text of a document
+     *
+     * @param inputStream Document content; not closed
+     * @param contentType MIME type reported by the client, used for metrics
+     * @return Extracted text, trimmed, cut at the character limit
+     * @throws AiServiceException          If the document cannot be parsed
+     * @throws TransientProcessingException If the parse timed out, was interrupted,
+     *                                      found no free slot in time or the
+     *                                      extractor is shutting down
+     */
+    public String extractText(InputStream inputStream, String contentType) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        Deadline deadline = new Deadline(start + TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+        ExtractionTask task = null;
+        try {
+            if (!permits.tryAcquire(deadline.remainingNanos(), TimeUnit.NANOSECONDS)) {
+                outcome = "busy";
+                throw new TransientProcessingException("No capacity to extract text from document within "
+                        + timeoutMs + " ms");
+            }
+            task = new ExtractionTask(inputStream, deadline);
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                throw new TransientProcessingException("Document extraction is shutting down", e);
+            }
+
+            Extraction extraction = task.result.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+            outcome = extraction.truncated ? "truncated" : "success";
+            if (extraction.truncated) {
+                System.out.println("Document text cut at " + maxCharacters + " characters (" + contentType + ")");
+            }
+            return extraction.text;
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+            task.cancel();
+            throw new TransientProcessingException(
+                    "Timed out extracting text from document after " + timeoutMs + " ms");
+        } catch (InterruptedException e) {
+            if (task != null) {
+                task.cancel();
+            }
+            Thread.currentThread().interrupt();
+            throw new TransientProcessingException("Interrupted while extracting text from document", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new AiServiceException("Failed to extract text from document: " + cause.getMessage(), cause);
+        } finally {
+            Timer.builder("document.extraction")
+                    .description("Time to extract text from an uploaded document")
+                    .tag("type", mimeType(contentType))
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // Parse on a thread of its own; the permit goes back only when that thread is done with the document
+    private class ExtractionTask implements Runnable {
+        private final CompletableFuture<Extraction> result = new CompletableFuture<>();
+        private final InputStream inputStream;
+        private final Deadline deadline;
+        private volatile Thread thread;
+
+        ExtractionTask(InputStream inputStream, Deadline deadline) {
+            this.inputStream = inputStream;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+            try {
+                if (deadline.expired()) {
+                    throw new TimeoutException("Document extraction deadline exceeded");
+                }
+                result.complete(parse(inputStream, deadline));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                thread = null;
+                permits.release();
+            }
+        }
+
+        // The caller gave up: stop at the next chunk of text, and wake blocking reads
+        void cancel() {
+            deadline.cancel();
+            Thread running = thread;
+            if (running != null) {
+                running.interrupt();
+            }
+        }
+    }
+
+    private Extraction parse(InputStream inputStream, Deadline deadline) throws Exception {
+        BodyContentHandler body = new BodyContentHandler(maxCharacters);
+        ParseContext context = new ParseContext();
+        context.set(Parser.class, parser); // embedded documents go through the shared parser too
+        try {
+            parser.parse(inputStream, new DeadlineContentHandler(body, deadline), new Metadata(), context);
+            return new Extraction(body.toString().trim(), false);
+        } catch (Exception e) {
+            if (WriteLimitReachedException.isWriteLimitReached(e)) {
+                return new Extraction(body.toString().trim(), true);
+            }
+            throw e;
+        }
+    }
+
+    // Bounded tag values: "application/pdf; charset=..." and unexpected types collapse
+    static String mimeType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return "unknown";
+        }
+        String type = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        switch (type) {
+            case "application/pdf":
+            case "application/msword":
+            case "application/vnd.openxmlformats-officedocument.wordprocessingml.document":
+            case "text/plain":
+                return type;
+            default:
+                return "other";
+        }
+    }
+
+    private static class Extraction {
+        private final String text;
+        private final boolean truncated;
+
+        Extraction(String text, boolean truncated) {
+            this.text = text;
+            this.truncated = truncated;
+        }
+    }
+
+    private static class Deadline {
+        private final long nanos;
+        private volatile boolean cancelled;
+
+        Deadline(long nanos) {
+            this.nanos = nanos;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        long remainingNanos() {
+            return Math.max(0, nanos - System.nanoTime());
+        }
+
+        boolean expired() {
+            return cancelled || System.nanoTime() - nanos > 0 || Thread.currentThread().isInterrupted();
+        }
+    }
+
+    // Stops the parser at the next chunk of text once the caller has given up
+    private static class DeadlineContentHandler extends ContentHandlerDecorator {
+        private final Deadline deadline;
+
+        DeadlineContentHandler(BodyContentHandler handler, Deadline deadline) {
+            super(handler);
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) throws SAXException {
+            check();
+            super.characters(ch, start, length);
+        }
+
+        @Override
+        public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+            check();
+            super.ignorableWhitespace(ch, start, length);
+        }
+
+        private void check() throws SAXException {
+            if (deadline.expired()) {
+                throw new SAXException("Document extraction deadline exceeded");
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.jobai.skillbridge.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns text into a dense vector for semantic similarity search.
+ *
+ * The active implementation is chosen with {@code ai.embedding.provider}.
+ * Vectors of one provider are only comparable with each other, so the
+ * {@link SemanticIndexService} rebuilds its index whenever it starts.
+ */
+public interface EmbeddingProvider {
+
+    /**
+     * @return Provider name, for logging
+     */
+    String getName();
+
+    /**
+     * @return Length of every vector returned by {@link #embed}
+     */
+    int getDimensions();
+
+    /**
+     * Embed one text
+     *
+     * @param text The text; null is treated as empty
+     * @return Vector of {@link #getDimensions()} values
+     */
+    float[] embed(String text);
+
+    /**
+     * Embed many texts; providers backed by a remote API override this to
+     * send them in as few requests as possible
+     *
+     * @param texts The texts
+     * @return One vector per text, in the same order
+     */
+    default List<float[]> embedAll(List<String> texts) {
+        List<float[]> vectors = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            vectors.add(embed(text));
+        }
+        return vectors;
+    }
+}
@@ -0,0 +1,108 @@
+package org.jobai.skillbridge.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local, deterministic embedder: signed feature hashing of word unigrams and
+ * bigrams with sublinear term frequency, L2-normalized.
+ *
+ * It needs no network access and always returns the same vector for the same
+ * text, so it is the default provider and the one used in tests. Texts that
+ * share vocabulary ("spring boot", "kubernetes") end up close together.
+ */
+@Service
+@ConditionalOnProperty(name = "ai.embedding.provider", havingValue = "hashing", matchIfMissing = true)
+public class HashingEmbeddingProvider implements EmbeddingProvider {
+
+    static final int DEFAULT_DIMENSIONS = 512;
+
+    // Keep "c++", "c#" and "node.js" together as single tokens
+    private static final Pattern TOKEN = Pattern.compile("[a-z0-9][a-z0-9+#.]*");
+
+    private final int dimensions;
+
+    public HashingEmbeddingProvider(@Value("${ai.embedding.dimensions:512}") int dimensions) {
+        this.dimensions = dimensions > 0 ? dimensions : DEFAULT_DIMENSIONS;
+    }
+
+    @Override
+    public String getName() {
+        return "hashing";
+    }
+
+    @Override
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        Map<String, Integer> counts = new HashMap<>();
+        String previous = null;
+        if (text != null) {
+            Matcher matcher = TOKEN.matcher(text.toLowerCase(Locale.ROOT));
+            while (matcher.find()) {
+                String token = trimDots(matcher.group());
+                if (token.isEmpty()) {
+                    continue;
+                }
+                counts.merge(token, 1, Integer::sum);
+                if (previous != null) {
+                    counts.merge(previous + " " + token, 1, Integer::sum);
+                }
+                previous = token;
+            }
+        }
+
+        float[] vector = new float[dimensions];
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            int hash = hash(entry.getKey());
+            int bucket = Math.floorMod(hash, dimensions);
+            // A second bit of the hash decides the sign, so collisions cancel out on average
+            float sign = (hash & 0x40000000) == 0 ? 1f : -1f;
+            vector[bucket] += sign * (float) (1.0 + Math.log(entry.getValue()));
+        }
+
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm > 0) {
+            float scale = (float) (1.0 / Math.sqrt(norm));
+            for (int i = 0; i < dimensions; i++) {
+                vector[i] *= scale;
+            }
+        }
+        return vector;
+    }
+
+    private static String trimDots(String token) {
+        int end = token.length();
+        while (end > 0 && token.charAt(end - 1) == '.') {
+            end--;
+        }
+        return token.substring(0, end);
+    }
+
+    /**
+     * 32-bit FNV-1a over UTF-8 bytes; unlike String.hashCode it mixes short
+     * tokens well enough to spread them across buckets
+     */
+    static int hash(String term) {
+        int hash = 0x811c9dc5;
+        for (byte b : term.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x01000193;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,221 @@
+package org.jobai.skillbridge.service;
+
+import org.jobai.skillbridge.event.JobPostChangedEvent;
+import org.jobai.skillbridge.event.ProfileChangedEvent;
+import org.jobai.skillbridge.model.CandidateFeatures;
+import org.jobai.skillbridge.model.JobCandidateMatch;
+import org.jobai.skillbridge.model.JobPost;
+import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.model.UserRole;
+import org.jobai.skillbridge.repo.JobCandidateMatchRepository;
+import org.jobai.skillbridge.repo.JobRepo;
+import org.jobai.skillbridge.repo.UserRepository;
+import org.jobai.skillbridge.service.AdvancedJobMatchingService.AdvancedCandidateMatch;
+import org.jobai.skillbridge.util.DirtySet;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the {@code job_candidate_match} table current.
+ *
+ * Job and profile changes only mark the affected job or candidate as dirty;
+ * a scheduled task then recomputes just those rows in the background. A
+ * changed job is rescored against the candidate pool, while a changed
+ * candidate is only rescored against the jobs they currently rank for or
+ * share a skill term with. A refresh that fails is rolled back and the job
+ * or candidate stays dirty for the next run. When the learned matching
+ * weights move to a new generation, every stored job is rescored.
+ */
+@Service
+public class JobCandidateMatchRefresher {
+
+    private static final Comparator<JobCandidateMatch> BEST_FIRST = Comparator
+            .comparingDouble(JobCandidateMatch::getCompatibilityScore).reversed()
+            .thenComparing(match -> match.getCandidate().getId());
+
+    @Value("${matching.max-candidates:50}")
+    private int topN;
+
+    @Autowired
+    private JobCandidateMatchRepository jobCandidateMatchRepository;
+
+    @Autowired
+    private AdvancedJobMatchingService advancedJobMatchingService;
+
+    @Autowired
+    private CandidateFeaturesService candidateFeaturesService;
+
+    @Autowired
+    private SkillIndex skillIndex;
+
+    @Autowired
+    private JobRepo jobRepo;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MatchingWeights matchingWeights;
+
+    private final DirtySet<Integer> dirtyJobs = new DirtySet<>("candidate matches of job");
+    private final DirtySet<Long> dirtyCandidates = new DirtySet<>("candidate matches of user");
+
+    // Jobs whose matches were computed by this process, including jobs without any match
+    private final Set<Integer> refreshedJobs = ConcurrentHashMap.newKeySet();
+
+    // Weights generation the stored matches were computed with
+    private long weightsGeneration;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleMissingJobs() {
+        Set<Integer> missing = new HashSet<>(jobRepo.findAllIds());
+        missing.removeAll(jobCandidateMatchRepository.findMaterializedJobIds());
+        dirtyJobs.addAll(missing);
+        System.out.println("Scheduled candidate matching for " + missing.size() + " jobs");
+    }
+
+    @EventListener
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        dirtyJobs.add(event.getJobId());
+    }
+
+    @EventListener
+    public void onProfileChanged(ProfileChangedEvent event) {
+        dirtyCandidates.add(event.getUserId());
+    }
+
+    /**
+     * Recompute the matches of every job and candidate marked dirty since the
+     * last run
+     */
+    @Scheduled(fixedDelayString = "${matching.materialized.refresh-interval-ms:2000}")
+    public void refreshDirty() {
+        long generation = matchingWeights.getGeneration();
+        if (generation != weightsGeneration) {
+            dirtyJobs.addAll(jobCandidateMatchRepository.findMaterializedJobIds());
+            dirtyJobs.addAll(refreshedJobs);
+            weightsGeneration = generation;
+        }
+
+        // Called on this instance, so the transaction is opened here rather than by the proxy
+        dirtyJobs.drain(jobId -> transactionTemplate.executeWithoutResult(status -> refreshJob(jobId)));
+        dirtyCandidates.drain(userId -> transactionTemplate.executeWithoutResult(
+                status -> refreshCandidate(userId)));
+    }
+
+    public boolean isRefreshed(Integer jobId) {
+        return refreshedJobs.contains(jobId);
+    }
+
+    /**
+     * Have the matches of a job computed by the next background run
+     *
+     * @param jobId The job ID
+     */
+    public void scheduleJob(Integer jobId) {
+        dirtyJobs.add(jobId);
+    }
+
+    /**
+     * Replace the stored matches of a job with a fresh ranking. A failed
+     * ranking is thrown, leaving the stored matches as they were.
+     *
+     * @param jobId The job ID
+     */
+    @Transactional
+    public void refreshJob(Integer jobId) {
+        JobPost job = jobRepo.findById(jobId).orElse(null);
+        if (job == null) {
+            jobCandidateMatchRepository.deleteByJobId(jobId);
+            refreshedJobs.remove(jobId);
+            return;
+        }
+
+        List<JobCandidateMatch> rows = new ArrayList<>();
+        for (AdvancedCandidateMatch match : advancedJobMatchingService.rankCandidates(job, topN)) {
+            JobCandidateMatch row = new JobCandidateMatch();
+            row.setJobId(jobId);
+            row.setCandidate(match.getCandidate());
+            copyScores(match, row);
+            rows.add(row);
+        }
+        jobCandidateMatchRepository.deleteByJobId(jobId);
+        jobCandidateMatchRepository.saveAll(rows);
+        refreshedJobs.add(jobId);
+    }
+
+    /**
+     * Rescore one candidate against the jobs they may rank for
+     *
+     * @param userId The candidate's user ID
+     */
+    @Transactional
+    public void refreshCandidate(Long userId) {
+        Set<Integer> jobIds = new HashSet<>(jobCandidateMatchRepository.findJobIdsByCandidateId(userId));
+        jobIds.addAll(skillIndex.findJobIds(userId));
+        if (jobIds.isEmpty()) {
+            return;
+        }
+
+        User candidate = userRepository.findById(userId)
+                .filter(user -> user.getRole() == UserRole.JOB_SEEKER)
+                .orElse(null);
+        CandidateFeatures features = candidate != null ? candidateFeaturesService.load(candidate) : null;
+
+        for (JobPost job : jobRepo.findAllById(jobIds)) {
+            AdvancedCandidateMatch match = candidate != null
+                    ? advancedJobMatchingService.scoreCandidate(job, candidate, features)
+                    : null;
+            updateJob(job.getId(), userId, candidate, match);
+        }
+    }
+
+    private void updateJob(Integer jobId, Long userId, User candidate, AdvancedCandidateMatch match) {
+        TopNRows.update(jobCandidateMatchRepository, jobCandidateMatchRepository.findByJobId(jobId),
+                row -> row.getCandidate().getId().equals(userId),
+                () -> {
+                    JobCandidateMatch row = new JobCandidateMatch();
+                    row.setJobId(jobId);
+                    row.setCandidate(candidate);
+                    return row;
+                },
+                match != null ? row -> copyScores(match, row) : null,
+                BEST_FIRST, topN);
+    }
+
+    /**
+     * Rows that fall outside the top N once ranked best first
+     *
+     * @param rows Rows of one job
+     * @param topN Number of rows to keep
+     * @return Rows to remove
+     */
+    static List<JobCandidateMatch> evicted(List<JobCandidateMatch> rows, int topN) {
+        return TopNRows.overflow(rows, BEST_FIRST, topN);
+    }
+
+    private static void copyScores(AdvancedCandidateMatch match, JobCandidateMatch row) {
+        row.setCompatibilityScore(match.getCompatibilityScore());
+        row.setSkillMatchScore(match.getSkillMatchScore());
+        row.setExperienceMatchScore(match.getExperienceMatchScore());
+        row.setLocationMatchScore(match.getLocationMatchScore());
+        row.setComputedAt(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,85 @@
+package org.jobai.skillbridge.service;
+
+import org.jobai.skillbridge.model.JobCandidateMatch;
+import org.jobai.skillbridge.model.JobPost;
+import org.jobai.skillbridge.repo.JobCandidateMatchRepository;
+import org.jobai.skillbridge.repo.JobRepo;
+import org.jobai.skillbridge.service.AdvancedJobMatchingService.AdvancedCandidateMatch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serves candidate recommendations from the materialized
+ * {@code job_candidate_match} table maintained by
+ * {@link JobCandidateMatchRefresher}. A job that has not been materialized
+ * yet is queued for the refresher and served a one-off ranking meanwhile,
+ * so reads never write the table themselves.
+ */
+@Service
+public class JobCandidateMatchService {
+
+    @Value("${matching.max-candidates:50}")
+    private int topN;
+
+    @Autowired
+    private JobCandidateMatchRepository jobCandidateMatchRepository;
+
+    @Autowired
+    private JobCandidateMatchRefresher jobCandidateMatchRefresher;
+
+    @Autowired
+    private AdvancedJobMatchingService advancedJobMatchingService;
+
+    @Autowired
+    private JobRepo jobRepo;
+
+    /**
+     * Best matching candidates of a job
+     *
+     * @param jobId The job ID
+     * @param limit Maximum number of candidates to return
+     * @return Candidates with compatibility scores, best first
+     */
+    public List<AdvancedCandidateMatch> findTopCandidates(Long jobId, int limit) {
+        if (limit > topN) {
+            // Only the top matching.max-candidates are stored
+            return advancedJobMatchingService.findMatchingCandidates(jobId, limit);
+        }
+
+        JobPost job = jobRepo.findById(jobId.intValue()).orElse(null);
+        if (job == null || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        List<JobCandidateMatch> rows = jobCandidateMatchRepository.findTopByJobId(job.getId(),
+                PageRequest.of(0, limit));
+        if (rows.isEmpty() && !jobCandidateMatchRefresher.isRefreshed(job.getId())) {
+            // Not materialized yet (e.g. right after startup); stored in the background
+            jobCandidateMatchRefresher.scheduleJob(job.getId());
+            try {
+                return advancedJobMatchingService.rankCandidates(job, limit);
+            } catch (Exception e) {
+                System.err.println("Failed to rank candidates for job " + job.getId() + ": " + e.getMessage());
+                return new ArrayList<>();
+            }
+        }
+
+        List<AdvancedCandidateMatch> matches = new ArrayList<>();
+        for (JobCandidateMatch row : rows) {
+            AdvancedCandidateMatch match = new AdvancedCandidateMatch();
+            match.setCandidate(row.getCandidate());
+            match.setJob(job);
+            match.setCompatibilityScore(row.getCompatibilityScore());
+            match.setSkillMatchScore(row.getSkillMatchScore());
+            match.setExperienceMatchScore(row.getExperienceMatchScore());
+            match.setLocationMatchScore(row.getLocationMatchScore());
+            matches.add(match);
+        }
+        return matches;
+    }
+}
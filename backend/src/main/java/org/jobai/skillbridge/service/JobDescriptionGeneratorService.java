@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 public class JobDescriptionGeneratorService {
@@ -38,6 +39,33 @@ public class JobDescriptionGeneratorService {
         }
     }
 
+    /**
+     * Generate a job description, relaying the raw text to the caller while the
+     * model is still writing it
+     * 
+     * @param request  Job description generation request
+     * @param employer The employer requesting the job description
+     * @param onToken  Callback receiving each generated text fragment
+     * @return Generated job description, parsed once the stream has finished
+     */
+    public JobDescriptionResult streamJobDescription(JobDescriptionRequest request, User employer,
+            Consumer<String> onToken) {
+        try {
+            String prompt = buildJobDescriptionPrompt(request, employer);
+            AiResponseDto aiResponse = mistralAiService.generateTextStream(prompt, "Job Description Generation",
+                    onToken);
+
+            if (!aiResponse.isSuccess()) {
+                throw new RuntimeException(aiResponse.getMessage());
+            }
+
+            return parseJobDescriptionResponse(aiResponse.getContent(), request);
+
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to generate job description: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Generate job description from basic requirements
      * 
@@ -0,0 +1,322 @@
+package org.jobai.skillbridge.service;
+
+import org.jobai.skillbridge.event.ApplicationStatusChangedEvent;
+import org.jobai.skillbridge.event.JobPostChangedEvent;
+import org.jobai.skillbridge.event.ProfileChangedEvent;
+import org.jobai.skillbridge.model.CandidateFeatures;
+import org.jobai.skillbridge.model.JobPost;
+import org.jobai.skillbridge.model.JobRecommendation;
+import org.jobai.skillbridge.model.JobRequirementFeatures;
+import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.model.JobApplication;
+import org.jobai.skillbridge.model.UserRole;
+import org.jobai.skillbridge.repo.JobApplicationRepository;
+import org.jobai.skillbridge.repo.JobRecommendationRepository;
+import org.jobai.skillbridge.repo.JobRepo;
+import org.jobai.skillbridge.repo.UserRepository;
+import org.jobai.skillbridge.service.AdvancedCandidateMatchingService.JobMatchResult;
+import org.jobai.skillbridge.util.DirtySet;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed, paginated job recommendation feed of every job seeker.
+ *
+ * A feed holds the best {@code matching.feed.size} jobs of a user, ranked by
+ * {@link AdvancedCandidateMatchingService#getJobRecommendations} over the jobs
+ * the skill index links to the user (never a scan of every job). Jobs the
+ * user has applied to are left out: applying rebuilds the feed so the slot
+ * goes to the next best job, and reads skip applications made since.
+ *
+ * Feeds are refreshed incrementally in the background: a profile change
+ * rebuilds that user's feed, while a job change only rescores that job for
+ * the users sharing a skill term with it, without the AI rerank, until their
+ * next full refresh. A user without a feed yet is queued for a rebuild and
+ * served the cheap first-phase ranking meanwhile, so reads never wait on AI
+ * calls. When the learned matching weights move to a new generation, every
+ * feed is rebuilt.
+ */
+@Service
+public class JobRecommendationFeedService {
+
+    private static final Comparator<JobRecommendation> BEST_FIRST = Comparator
+            .comparingDouble(JobRecommendation::getMatchScore).reversed()
+            .thenComparing(JobRecommendation::getJobId);
+
+    @Value("${matching.feed.size:50}")
+    private int feedSize;
+
+    @Autowired
+    private JobRecommendationRepository jobRecommendationRepository;
+
+    @Autowired
+    private AdvancedCandidateMatchingService candidateMatchingService;
+
+    @Autowired
+    private CandidateFeaturesService candidateFeaturesService;
+
+    @Autowired
+    private JobRequirementFeaturesService jobRequirementFeaturesService;
+
+    @Autowired
+    private SkillIndex skillIndex;
+
+    @Autowired
+    private JobRepo jobRepo;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MatchingWeights matchingWeights;
+
+    private final DirtySet<Long> dirtyUsers = new DirtySet<>("job recommendations of user");
+    private final DirtySet<Integer> dirtyJobs = new DirtySet<>("job recommendations of job");
+
+    // Users whose feed was built by this process, including empty feeds
+    private final Set<Long> refreshedUsers = ConcurrentHashMap.newKeySet();
+
+    // Weights generation the stored feeds were built with
+    private long weightsGeneration;
+
+    /**
+     * One page of a user's recommendation feed
+     *
+     * @param user The job seeker
+     * @param page Zero-based page number
+     * @param size Page size
+     * @return Recommended jobs, best first
+     */
+    public List<JobMatchResult> getFeed(User user, int page, int size) {
+        List<JobMatchResult> results = new ArrayList<>();
+        if (user == null || user.getId() == null || page < 0 || size <= 0) {
+            return results;
+        }
+
+        List<Object[]> rows = jobRecommendationRepository.findFeed(user.getId(), PageRequest.of(page, size));
+        if (rows.isEmpty() && !refreshedUsers.contains(user.getId())) {
+            // No feed yet (new user or first read after startup); built in the background
+            dirtyUsers.add(user.getId());
+            return preview(user, page, size);
+        }
+
+        for (Object[] row : rows) {
+            JobRecommendation recommendation = (JobRecommendation) row[0];
+            JobMatchResult result = new JobMatchResult();
+            result.setJob((JobPost) row[1]);
+            result.setMatchScore(recommendation.getMatchScore());
+            result.setMatchingReasons(splitReasons(recommendation.getMatchingReasons()));
+            result.setRecommendedAt(Date.from(recommendation.getRecommendedAt()
+                    .atZone(ZoneId.systemDefault()).toInstant()));
+            results.add(result);
+        }
+        return results;
+    }
+
+    @EventListener
+    public void onProfileChanged(ProfileChangedEvent event) {
+        dirtyUsers.add(event.getUserId());
+    }
+
+    @EventListener
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        dirtyJobs.add(event.getJobId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        if (event.getPreviousStatus() == null && event.getUserId() != null) {
+            // A new application frees its slot for the next best job
+            dirtyUsers.add(event.getUserId());
+        }
+    }
+
+    /**
+     * Apply the job and profile changes recorded since the last run
+     */
+    @Scheduled(fixedDelayString = "${matching.feed.refresh-interval-ms:5000}")
+    public void refreshDirty() {
+        long generation = matchingWeights.getGeneration();
+        if (generation != weightsGeneration) {
+            dirtyUsers.addAll(jobRecommendationRepository.findAllUserIds());
+            dirtyUsers.addAll(refreshedUsers);
+            weightsGeneration = generation;
+        }
+
+        dirtyJobs.drain(this::refreshJob);
+        dirtyUsers.drain(this::refreshUser);
+    }
+
+    /**
+     * Rebuild a user's feed, including the AI rerank
+     *
+     * @param userId The user ID
+     */
+    public void refreshUser(Long userId) {
+        User user = userRepository.findById(userId)
+                .filter(candidate -> candidate.getRole() == UserRole.JOB_SEEKER)
+                .orElse(null);
+
+        // Scoring (and its AI calls) runs outside the transaction
+        List<JobRecommendation> rows = new ArrayList<>();
+        if (user != null) {
+            Set<Integer> applied = new HashSet<>(jobApplicationRepository.findJobPostIdsByUserId(userId));
+            for (JobMatchResult match : candidateMatchingService.getJobRecommendations(user,
+                    feedSize + applied.size())) {
+                if (rows.size() == feedSize) {
+                    break;
+                }
+                if (applied.contains(match.getJob().getId())) {
+                    continue;
+                }
+                JobRecommendation row = new JobRecommendation();
+                row.setUserId(userId);
+                row.setJobId(match.getJob().getId());
+                copy(match, row, false);
+                rows.add(row);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jobRecommendationRepository.deleteByUserId(userId);
+            jobRecommendationRepository.saveAll(rows);
+        });
+        refreshedUsers.add(userId);
+    }
+
+    /**
+     * Rescore a changed job for the users whose feed it may enter or leave
+     *
+     * @param jobId The job ID
+     */
+    public void refreshJob(Integer jobId) {
+        JobPost job = jobRepo.findById(jobId).orElse(null);
+        if (job == null) {
+            transactionTemplate.executeWithoutResult(status -> jobRecommendationRepository.deleteByJobId(jobId));
+            return;
+        }
+
+        // Users already recommended the job, plus users with a feed who share a skill term with it
+        Set<Long> affected = new HashSet<>(jobRecommendationRepository.findUserIdsByJobId(jobId));
+        Set<Long> sharingTerms = skillIndex.findCandidateIds(jobId);
+        if (!sharingTerms.isEmpty()) {
+            affected.addAll(jobRecommendationRepository.findUsersWithFeed(sharingTerms));
+            for (Long userId : sharingTerms) {
+                if (refreshedUsers.contains(userId)) {
+                    affected.add(userId);
+                }
+            }
+        }
+        if (affected.isEmpty()) {
+            return;
+        }
+
+        List<User> users = userRepository.findAllById(affected);
+        Map<Long, CandidateFeatures> features = candidateFeaturesService.load(users);
+        JobRequirementFeatures jobFeatures = jobRequirementFeaturesService.load(job);
+        Set<Long> applicants = new HashSet<>();
+        for (JobApplication application : jobApplicationRepository.findByJobPost(job)) {
+            applicants.add(application.getUserId());
+        }
+
+        for (User user : users) {
+            JobMatchResult match = user.getRole() == UserRole.JOB_SEEKER && !applicants.contains(user.getId())
+                    ? candidateMatchingService.previewJobMatch(user, features.get(user.getId()), job, jobFeatures)
+                    : null;
+            transactionTemplate.executeWithoutResult(status -> updateFeed(user.getId(), jobId, match));
+        }
+    }
+
+    // Cheap ranking without the AI rerank, until the user's feed has been built
+    private List<JobMatchResult> preview(User user, int page, int size) {
+        List<JobMatchResult> ranked = new ArrayList<>();
+        try {
+            Set<Integer> applied = new HashSet<>(jobApplicationRepository.findJobPostIdsByUserId(user.getId()));
+            for (JobMatchResult match : candidateMatchingService.previewJobRecommendations(user,
+                    feedSize + applied.size())) {
+                if (ranked.size() < feedSize && !applied.contains(match.getJob().getId())) {
+                    ranked.add(match);
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Failed to preview job recommendations for " + user.getId() + ": " + e.getMessage());
+            return new ArrayList<>();
+        }
+        long from = (long) page * size;
+        if (from >= ranked.size()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(ranked.subList((int) from, (int) Math.min(ranked.size(), from + size)));
+    }
+
+    private void updateFeed(Long userId, Integer jobId, JobMatchResult match) {
+        TopNRows.update(jobRecommendationRepository, jobRecommendationRepository.findByUserId(userId),
+                row -> row.getJobId().equals(jobId),
+                () -> {
+                    JobRecommendation row = new JobRecommendation();
+                    row.setUserId(userId);
+                    row.setJobId(jobId);
+                    return row;
+                },
+                match != null ? row -> copy(match, row, true) : null,
+                BEST_FIRST, feedSize);
+    }
+
+    /**
+     * Rows that no longer fit in a feed once ranked best first
+     *
+     * @param rows     Rows of one feed
+     * @param feedSize Number of rows to keep
+     * @return Rows to remove
+     */
+    static List<JobRecommendation> overflow(List<JobRecommendation> rows, int feedSize) {
+        return TopNRows.overflow(rows, BEST_FIRST, feedSize);
+    }
+
+    private static void copy(JobMatchResult match, JobRecommendation row, boolean provisional) {
+        row.setMatchScore(match.getMatchScore());
+        row.setProvisional(provisional);
+        row.setMatchingReasons(joinReasons(match.getMatchingReasons()));
+        row.setRecommendedAt(LocalDateTime.now());
+    }
+
+    private static String joinReasons(List<String> reasons) {
+        if (reasons == null || reasons.isEmpty()) {
+            return null;
+        }
+        String joined = String.join("\n", reasons);
+        return joined.length() > 1000 ? joined.substring(0, 1000) : joined;
+    }
+
+    private static List<String> splitReasons(String reasons) {
+        if (reasons == null || reasons.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(reasons.split("\n")));
+    }
+}
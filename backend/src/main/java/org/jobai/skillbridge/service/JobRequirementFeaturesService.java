@@ -0,0 +1,273 @@
+package org.jobai.skillbridge.service;
+
+import org.jobai.skillbridge.event.JobPostChangedEvent;
+import org.jobai.skillbridge.model.CandidateFeatures;
+import org.jobai.skillbridge.model.JobPost;
+import org.jobai.skillbridge.model.JobRequirementFeatures;
+import org.jobai.skillbridge.repo.JobRepo;
+import org.jobai.skillbridge.repo.JobRequirementFeaturesRepository;
+import org.jobai.skillbridge.util.SkillVector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the {@link JobRequirementFeatures} row of every job post.
+ *
+ * Required skills, minimum years of experience and the required degree are
+ * extracted when a job is created or updated (every save goes through
+ * {@link JobService#saveJob}, which publishes a {@link JobPostChangedEvent})
+ * and reused by all matching code. Jobs without a row yet are backfilled on
+ * first read. Cached skill bitsets are evicted once the recomputed row has
+ * committed.
+ */
+@Service
+public class JobRequirementFeaturesService {
+
+    static final int SKILLS_SECTION_CHARS = 500;
+    static final int EDUCATION_SECTION_CHARS = 300;
+
+    // "3+ years", "5 years", "2 yrs"
+    private static final Pattern YEARS = Pattern.compile("\\b(\\d{1,2})\\+?\\s*years?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern YRS = Pattern.compile("\\b(\\d{1,2})\\+?\\s*yrs?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SKILL_SEPARATORS = Pattern.compile("[,;\\n]");
+
+    @Autowired
+    private JobRequirementFeaturesRepository jobRequirementFeaturesRepository;
+
+    @Autowired
+    private JobRepo jobRepo;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    // Required-skill bitsets per job, rebuilt from the stored terms after a change or restart
+    private final Map<Integer, SkillVector> skillVectors = new ConcurrentHashMap<>();
+
+    @EventListener
+    @Transactional
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        Integer jobId = event.getJobId();
+        skillVectors.remove(jobId);
+        JobPost job = event.isDeleted() ? null : jobRepo.findById(event.getJobId()).orElse(null);
+        if (job == null) {
+            if (jobRequirementFeaturesRepository.existsById(event.getJobId())) {
+                jobRequirementFeaturesRepository.deleteById(event.getJobId());
+            }
+        } else {
+            jobRequirementFeaturesRepository.save(compute(job));
+        }
+        // Until the new row commits, a concurrent reader can cache the old bitset again
+        evictAfterCommit(jobId);
+    }
+
+    private void evictAfterCommit(Integer jobId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            skillVectors.remove(jobId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                skillVectors.remove(jobId);
+            }
+        });
+    }
+
+    /**
+     * Load the requirement features of many jobs, computing missing rows
+     *
+     * @param jobs The jobs
+     * @return Features per job ID; every saved job has an entry
+     */
+    @Transactional
+    public Map<Integer, JobRequirementFeatures> load(Collection<JobPost> jobs) {
+        Map<Integer, JobPost> jobsById = new HashMap<>();
+        for (JobPost job : jobs) {
+            if (job.getId() != null) {
+                jobsById.putIfAbsent(job.getId(), job);
+            }
+        }
+
+        Map<Integer, JobRequirementFeatures> features = new HashMap<>();
+        for (JobRequirementFeatures row : jobRequirementFeaturesRepository.findAllById(jobsById.keySet())) {
+            features.put(row.getJobId(), row);
+        }
+
+        List<Integer> missing = new ArrayList<>();
+        for (Integer jobId : jobsById.keySet()) {
+            if (!features.containsKey(jobId)) {
+                missing.add(jobId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            int inserted = 0;
+            // Reloaded here: the callers' instances may be detached, and requirements are lazy
+            for (JobPost job : jobRepo.findAllById(missing)) {
+                // Concurrent first reads may backfill the same job; the first insert wins
+                inserted += jobRequirementFeaturesRepository.insertIfAbsent(compute(job));
+            }
+            for (JobRequirementFeatures row : jobRequirementFeaturesRepository.findAllById(missing)) {
+                features.put(row.getJobId(), row);
+            }
+            System.out.println("Backfilled requirement features for " + inserted + " jobs");
+        }
+
+        return features;
+    }
+
+    /**
+     * Load the requirement features of a single job. Unsaved jobs are
+     * computed without being stored.
+     *
+     * @param job The job
+     * @return Features of the job
+     */
+    @Transactional
+    public JobRequirementFeatures load(JobPost job) {
+        if (job.getId() == null) {
+            return compute(job);
+        }
+        return load(Collections.singletonList(job)).get(job.getId());
+    }
+
+    /**
+     * Required-skill bitset of a job
+     *
+     * @param features The job's features
+     * @return Vector of interned skill ids
+     */
+    public SkillVector skillVector(JobRequirementFeatures features) {
+        if (features == null) {
+            return SkillVector.EMPTY;
+        }
+        List<String> terms = CandidateFeaturesService.splitTerms(features.getRequiredSkillTerms());
+        if (features.getJobId() == null) {
+            return skillDictionary.vectorOf(terms);
+        }
+        return skillVectors.computeIfAbsent(features.getJobId(), id -> skillDictionary.vectorOf(terms));
+    }
+
+    /**
+     * Extract the requirement features of a job
+     *
+     * @param job The job
+     * @return Features row, not yet saved
+     */
+    static JobRequirementFeatures compute(JobPost job) {
+        JobRequirementFeatures features = new JobRequirementFeatures();
+        features.setJobId(job.getId());
+        features.setUpdatedAt(LocalDateTime.now());
+
+        List<String> requirements = job.getRequirements() != null ? job.getRequirements() : Collections.emptyList();
+
+        features.setRequiredSkillTerms(CandidateFeaturesService.joinTerms(requiredSkillTerms(job.getDescription(),
+                requirements)));
+
+        // The description wins; requirement lines are only used when it states nothing
+        int years = requiredYears(job.getDescription());
+        for (int i = 0; years == 0 && i < requirements.size(); i++) {
+            years = requiredYears(requirements.get(i));
+        }
+        features.setMinExperienceYears(years);
+
+        String education = educationSection(job.getDescription());
+        for (int i = 0; education.isEmpty() && i < requirements.size(); i++) {
+            education = educationSection(requirements.get(i));
+        }
+        features.setEducationRequired(!education.isEmpty());
+        features.setRequiredDegreeLevel(CandidateFeaturesService.degreeLevel(education));
+
+        return features;
+    }
+
+    /**
+     * Skill terms from the "skills" section of a description, or from the
+     * requirement lines when the description has no such section
+     */
+    static Set<String> requiredSkillTerms(String description, List<String> requirements) {
+        Set<String> terms = new LinkedHashSet<>();
+        int start = indexOfFirst(description, "skills");
+        List<String> fragments = requirements;
+        if (start != -1) {
+            // Skip the "skills" heading itself so it does not stick to the first skill
+            start += "skills".length();
+            int end = Math.min(description.length(), start + SKILLS_SECTION_CHARS);
+            fragments = List.of(SKILL_SEPARATORS.split(description.substring(start, end)));
+        }
+        for (String fragment : fragments) {
+            String term = SkillIndex.normalize(fragment);
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Years of experience asked for in a text
+     *
+     * @param text Description or requirement line
+     * @return Required years, or 0 if none are stated
+     */
+    static int requiredYears(String text) {
+        if (text == null) {
+            return 0;
+        }
+        Matcher years = YEARS.matcher(text);
+        if (years.find()) {
+            return Integer.parseInt(years.group(1));
+        }
+        Matcher yrs = YRS.matcher(text);
+        if (yrs.find()) {
+            return Integer.parseInt(yrs.group(1));
+        }
+        return 0;
+    }
+
+    /**
+     * Education requirement of a text: from the start of the line naming
+     * education, a degree or a qualification, as in "Master's degree in CS"
+     */
+    static String educationSection(String text) {
+        int index = indexOfFirst(text, "education", "degree", "qualification");
+        if (index == -1) {
+            return "";
+        }
+        int lineStart = text.lastIndexOf('\n', index) + 1;
+        return text.substring(lineStart, Math.min(text.length(), index + EDUCATION_SECTION_CHARS));
+    }
+
+    // Position of the earliest of the given keywords, ignoring case
+    private static int indexOfFirst(String text, String... keywords) {
+        if (text == null) {
+            return -1;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int index = -1;
+        for (String keyword : keywords) {
+            int found = lower.indexOf(keyword);
+            if (found != -1 && (index == -1 || found < index)) {
+                index = found;
+            }
+        }
+        return index;
+    }
+}
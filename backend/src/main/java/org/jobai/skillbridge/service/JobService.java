@@ -1,8 +1,10 @@
 package org.jobai.skillbridge.service;
 
+import org.jobai.skillbridge.event.JobPostChangedEvent;
 import org.jobai.skillbridge.model.JobPost;
 import org.jobai.skillbridge.repo.JobRepo;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -12,6 +14,9 @@ public class JobService {
     @Autowired
     public JobRepo repo;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public List<JobPost> getJobs() {
         return repo.findAll();
     }
@@ -21,19 +26,22 @@ public class JobService {
     }
 
     public JobPost saveJob(JobPost job) {
-        return repo.save(job);
+        JobPost saved = repo.save(job);
+        eventPublisher.publishEvent(new JobPostChangedEvent(saved.getId(), false));
+        return saved;
     }
 
     public void addJob(JobPost job) {
-        repo.save(job);
+        saveJob(job);
     }
 
     public void updateJob(JobPost job) {
-        repo.save(job);
+        saveJob(job);
     }
 
     public void deleteJob(int id) {
         repo.deleteById(id);
+        eventPublisher.publishEvent(new JobPostChangedEvent(id, true));
     }
 
     public List<JobPost> searchJobsByKeyword(String keyword) {
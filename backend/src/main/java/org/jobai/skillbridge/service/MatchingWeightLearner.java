@@ -0,0 +1,137 @@
+package org.jobai.skillbridge.service;
+
+import jakarta.annotation.PostConstruct;
+import org.jobai.skillbridge.event.ApplicationStatusChangedEvent;
+import org.jobai.skillbridge.model.JobPost;
+import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.repo.JobRepo;
+import org.jobai.skillbridge.repo.UserRepository;
+import org.jobai.skillbridge.util.OnlineLogisticRegression;
+import org.jobai.skillbridge.util.ScoreColumns;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Learns the matching weights from hiring outcomes.
+ *
+ * Every application that is accepted or rejected is one training example: the
+ * component scores of the candidate/job pair, labelled hired or not. A
+ * logistic regression over those scores is updated online and its
+ * coefficients, clamped to a minimum weight and normalized, are published
+ * to {@link MatchingWeights} after every update. The model starts from the
+ * configured weights and lives in memory, so a restart returns to them.
+ *
+ * Outcomes are learned once the status change has committed, on the AI
+ * executor: scoring the pair may call the LLM, which must not hold up the
+ * request that changed the status.
+ */
+@Service
+public class MatchingWeightLearner {
+
+    // Configured weights sum to 1.0; scaled up so the initial logits span [-2, 2]
+    static final double INITIAL_SCALE = 4.0;
+
+    @Value("${matching.learning.enabled:true}")
+    private boolean enabled;
+
+    @Value("${matching.learning.rate:0.05}")
+    private double learningRate;
+
+    @Value("${matching.learning.regularization:0.01}")
+    private double regularization;
+
+    @Value("${matching.learning.min-weight:0.02}")
+    private double minWeight;
+
+    @Autowired
+    private MatchingWeights matchingWeights;
+
+    @Autowired
+    private AdvancedCandidateMatchingService advancedCandidateMatchingService;
+
+    @Autowired
+    private JobRepo jobRepo;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AiTaskExecutor aiTaskExecutor;
+
+    private OnlineLogisticRegression model;
+
+    @PostConstruct
+    public void initialize() {
+        double[] coefficients = matchingWeights.getConfigured().clone();
+        for (int c = 0; c < coefficients.length; c++) {
+            coefficients[c] *= INITIAL_SCALE;
+        }
+        model = new OnlineLogisticRegression(coefficients, -INITIAL_SCALE / 2, learningRate, regularization);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        String status = event.getStatus();
+        if ("ACCEPTED".equalsIgnoreCase(status) || "REJECTED".equalsIgnoreCase(status)) {
+            boolean hired = "ACCEPTED".equalsIgnoreCase(status);
+            aiTaskExecutor.execute(() -> recordOutcome(event.getJobId(), event.getUserId(), hired))
+                    .exceptionally(e -> {
+                        // Learning must never fail the status update itself
+                        System.err.println("Failed to learn from application " + event.getApplicationId() + ": "
+                                + e.getMessage());
+                        return null;
+                    });
+        }
+    }
+
+    /**
+     * Learn from the outcome of one candidate/job pair
+     *
+     * @param jobId  The job ID
+     * @param userId The candidate's user ID
+     * @param hired  Whether the candidate was hired
+     */
+    public void recordOutcome(Integer jobId, Long userId, boolean hired) {
+        if (!enabled || jobId == null || userId == null) {
+            return;
+        }
+        JobPost job = jobRepo.findById(jobId).orElse(null);
+        User candidate = userRepository.findById(userId).orElse(null);
+        if (job == null || candidate == null) {
+            return;
+        }
+
+        double[] scores = advancedCandidateMatchingService.componentScores(candidate, job);
+        double[] weights;
+        synchronized (this) {
+            model.update(scores, hired);
+            weights = toWeights(model.getCoefficients(), minWeight);
+        }
+        matchingWeights.update(weights);
+    }
+
+    /**
+     * Turn model coefficients into scorer weights: negative coefficients are
+     * clamped so that every component keeps at least {@code minWeight}
+     *
+     * @param coefficients Model coefficient per component
+     * @param minWeight    Smallest share a component may have
+     * @return Normalized weight per component
+     */
+    static double[] toWeights(double[] coefficients, double minWeight) {
+        double[] weights = new double[ScoreColumns.COUNT];
+        double sum = 0;
+        for (int c = 0; c < weights.length; c++) {
+            weights[c] = Math.max(0, coefficients[c]);
+            sum += weights[c];
+        }
+        for (int c = 0; c < weights.length; c++) {
+            double share = sum > 0 ? weights[c] / sum : 1.0 / weights.length;
+            weights[c] = Math.max(minWeight, share);
+        }
+        return MatchingWeights.normalize(weights);
+    }
+}
@@ -0,0 +1,191 @@
+package org.jobai.skillbridge.service;
+
+import jakarta.annotation.PostConstruct;
+import org.jobai.skillbridge.util.ScoreColumns;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Weights of the match score components, initially from the
+ * {@code matching.*-weight} properties and later adjusted by the
+ * {@link MatchingWeightLearner}.
+ *
+ * Weights are normalized to sum to 1.0 over the components a scorer actually
+ * uses, so a scorer without an AI score still produces totals between 0.0
+ * and 1.0. Every subset of components is normalized when the weights are
+ * published, so reading them is a single volatile read: scorers never lock
+ * or allocate, and a pool that is being scored keeps the snapshot it started
+ * with while new weights are swapped in.
+ *
+ * Stored rankings (materialized matches and recommendation feeds) follow the
+ * {@link #getGeneration() generation} rather than every update, so a burst of
+ * hiring outcomes triggers at most one rescore per
+ * {@code matching.learning.rescore-interval-ms}.
+ */
+@Service
+public class MatchingWeights {
+
+    private static final int ALL_COMPONENTS = (1 << ScoreColumns.COUNT) - 1;
+
+    @Value("${matching.skill-weight:0.4}")
+    private double skillWeight;
+
+    @Value("${matching.experience-weight:0.3}")
+    private double experienceWeight;
+
+    @Value("${matching.education-weight:0.1}")
+    private double educationWeight;
+
+    @Value("${matching.location-weight:0.2}")
+    private double locationWeight;
+
+    @Value("${matching.ai-weight:0.15}")
+    private double aiWeight;
+
+    @Value("${matching.learning.rescore-interval-ms:900000}")
+    private long rescoreIntervalMs;
+
+    // Normalized weights per component subset, indexed by component bitmask
+    private final AtomicReference<double[][]> snapshot = new AtomicReference<>();
+
+    private double[] configured;
+
+    private volatile boolean changed;
+    private volatile long generation;
+    private long generationStartedAt = System.currentTimeMillis();
+
+    @PostConstruct
+    public void initialize() {
+        double[] raw = new double[ScoreColumns.COUNT];
+        raw[ScoreColumns.SKILLS] = skillWeight;
+        raw[ScoreColumns.EXPERIENCE] = experienceWeight;
+        raw[ScoreColumns.EDUCATION] = educationWeight;
+        raw[ScoreColumns.LOCATION] = locationWeight;
+        raw[ScoreColumns.AI] = aiWeight;
+        configured = normalize(raw);
+        snapshot.set(subsets(configured));
+    }
+
+    /**
+     * Weights of all components
+     *
+     * @return Weight per component, indexed like {@link ScoreColumns}; do not modify
+     */
+    public double[] get() {
+        return snapshot.get()[ALL_COMPONENTS];
+    }
+
+    /**
+     * Weights for a scorer that only computes some components
+     *
+     * @param components Bitmask from {@link #components}
+     * @return Weights with the other components at zero, renormalized; do not modify
+     */
+    public double[] get(int components) {
+        return snapshot.get()[components];
+    }
+
+    /**
+     * Weights from the properties, before any learning
+     *
+     * @return Weight per component; do not modify
+     */
+    public double[] getConfigured() {
+        return configured;
+    }
+
+    /**
+     * Publish new weights to all scorers
+     *
+     * @param weights Non-negative weight per component
+     */
+    public void update(double[] weights) {
+        snapshot.set(subsets(normalize(weights)));
+        changed = true;
+    }
+
+    /**
+     * Version of the weights for stored rankings: advances when the weights
+     * have changed, at most once per rescore interval. Rows computed under an
+     * older generation should be rescored.
+     *
+     * @return Current generation, starting at 0
+     */
+    public long getGeneration() {
+        if (changed) {
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+                if (changed && now - generationStartedAt >= rescoreIntervalMs) {
+                    changed = false;
+                    generationStartedAt = now;
+                    generation++;
+                }
+            }
+        }
+        return generation;
+    }
+
+    /**
+     * Bitmask of components for {@link #get(int)}
+     *
+     * @param components Component indices from {@link ScoreColumns}
+     * @return Bitmask
+     */
+    public static int components(int... components) {
+        int mask = 0;
+        for (int component : components) {
+            mask |= 1 << component;
+        }
+        return mask;
+    }
+
+    /**
+     * Scale weights to sum to 1.0
+     *
+     * @param weights Non-negative weights
+     * @return Normalized copy
+     */
+    static double[] normalize(double[] weights) {
+        double sum = 0;
+        for (double weight : weights) {
+            if (weight < 0 || Double.isNaN(weight)) {
+                throw new IllegalArgumentException("Matching weights must not be negative");
+            }
+            sum += weight;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("At least one matching weight must be positive");
+        }
+
+        double[] normalized = new double[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            normalized[i] = weights[i] / sum;
+        }
+        return normalized;
+    }
+
+    private static double[][] subsets(double[] weights) {
+        double[][] subsets = new double[ALL_COMPONENTS + 1][];
+        subsets[0] = new double[ScoreColumns.COUNT];
+        for (int mask = 1; mask <= ALL_COMPONENTS; mask++) {
+            double[] subset = new double[ScoreColumns.COUNT];
+            double sum = 0;
+            for (int c = 0; c < ScoreColumns.COUNT; c++) {
+                if ((mask & (1 << c)) != 0) {
+                    subset[c] = weights[c];
+                    sum += weights[c];
+                }
+            }
+            for (int c = 0; c < ScoreColumns.COUNT; c++) {
+                if ((mask & (1 << c)) != 0) {
+                    // Components that all weigh zero share the subset equally
+                    subset[c] = sum > 0 ? subset[c] / sum : 1.0 / Integer.bitCount(mask);
+                }
+            }
+            subsets[mask] = subset;
+        }
+        return subsets;
+    }
+}
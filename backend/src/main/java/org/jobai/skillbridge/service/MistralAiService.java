@@ -2,20 +2,35 @@ package org.jobai.skillbridge.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.jobai.skillbridge.dto.AiResponseDto;
 import org.jobai.skillbridge.exception.AiServiceException;
 import org.jobai.skillbridge.service.McpContextService;
+import org.jobai.skillbridge.util.SingleFlight;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class MistralAiService {
@@ -26,13 +41,49 @@ public class MistralAiService {
     @Value("${mistral.model.name:mistral-tiny}")
     private String modelName;
 
+    @Value("${mistral.api.base-url:https://api.mistral.ai}")
+    private String apiBaseUrl;
+
+    @Value("${mistral.api.timeout:30000}")
+    private long apiTimeoutMs;
+
+    @Value("${ai.service.temperature:0.7}")
+    private double temperature;
+
     @Autowired
     private McpContextService mcpContextService;
 
     @Autowired
     private ObjectMapper objectMapper;
 
-    private static final String MISTRAL_API_URL = "https://api.mistral.ai/v1/chat/completions";
+    @Autowired
+    @Qualifier("mistralRestTemplate")
+    private RestTemplate restTemplate;
+
+    @Autowired
+    @Qualifier("mistralHttpClient")
+    private HttpClient mistralHttpClient;
+
+    @Autowired
+    private AiResponseCache responseCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Concurrent identical prompts share one upstream call
+    private final SingleFlight<String, String> inFlightPrompts = new SingleFlight<>();
+
+    private static final String CHAT_COMPLETIONS_PATH = "/v1/chat/completions";
+
+    @PostConstruct
+    public void registerMetrics() {
+        FunctionCounter.builder("ai.requests.collapsed", inFlightPrompts, SingleFlight::getCollapsedCalls)
+                .description("AI calls answered by an identical request already in flight")
+                .register(meterRegistry);
+        Gauge.builder("ai.requests.in-flight", inFlightPrompts, SingleFlight::getInFlightCount)
+                .description("Distinct AI prompts currently awaiting a response")
+                .register(meterRegistry);
+    }
 
     /**
      * Generate a resume for a user
@@ -48,29 +99,11 @@ public class MistralAiService {
         long startTime = System.currentTimeMillis();
 
         try {
-            // Validate inputs
-            if (userId == null) {
-                throw new AiServiceException("User ID cannot be null");
-            }
-
-            // Get structured context using MCP
-            Map<String, Object> context = mcpContextService.generateUserProfileContext(userId);
-
-            // Validate context
-            if (context == null || context.isEmpty()) {
-                throw new AiServiceException("Unable to generate user profile context");
-            }
-
             // Create prompt for resume generation
-            String prompt = buildResumePrompt(context, jobTitle, format, template);
-
-            // Validate prompt
-            if (prompt == null || prompt.trim().isEmpty()) {
-                throw new AiServiceException("Failed to generate prompt for resume");
-            }
+            String prompt = buildResumePromptForUser(userId, jobTitle, format, template);
 
             // Call Mistral API
-            String resumeContent = callMistralApi(prompt);
+            String resumeContent = callMistralApi(prompt, "resume-generation");
 
             long processingTime = System.currentTimeMillis() - startTime;
 
@@ -105,6 +138,45 @@ public class MistralAiService {
         }
     }
 
+    /**
+     * Generate a resume for a user, relaying tokens to the caller as they are
+     * produced by the model
+     * 
+     * @param userId   The user ID
+     * @param jobTitle Optional job title to tailor the resume for
+     * @param format   Optional resume format (chronological, functional, hybrid)
+     * @param template Optional resume template (professional, creative, executive,
+     *                 etc.)
+     * @param onToken  Callback receiving each generated text fragment
+     * @return Generated resume content once the stream has finished
+     */
+    public AiResponseDto generateResumeStream(Long userId, String jobTitle, String format, String template,
+            Consumer<String> onToken) {
+        long startTime = System.currentTimeMillis();
+
+        try {
+            String prompt = buildResumePromptForUser(userId, jobTitle, format, template);
+            String resumeContent = streamMistralApi(prompt, onToken);
+
+            return new AiResponseDto(
+                    resumeContent,
+                    format,
+                    true,
+                    "Resume generated successfully",
+                    System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            String errorMessage = "Error generating resume: " + e.getMessage();
+            System.err.println(errorMessage);
+
+            return new AiResponseDto(
+                    null,
+                    format,
+                    false,
+                    errorMessage,
+                    System.currentTimeMillis() - startTime);
+        }
+    }
+
     /**
      * Generate a resume for a user (backward compatibility)
      * 
@@ -166,7 +238,7 @@ public class MistralAiService {
             }
 
             // Call Mistral API
-            String optimizedResume = callMistralApi(prompt);
+            String optimizedResume = callMistralApi(prompt, "resume-optimization");
 
             long processingTime = System.currentTimeMillis() - startTime;
 
@@ -218,7 +290,7 @@ public class MistralAiService {
             }
 
             // Call Mistral API
-            String content = callMistralApi(prompt);
+            String content = callMistralApi(prompt, context);
 
             long processingTime = System.currentTimeMillis() - startTime;
 
@@ -254,6 +326,77 @@ public class MistralAiService {
         }
     }
 
+    /**
+     * Generate text using Mistral AI, relaying tokens to the caller as they are
+     * produced by the model
+     * 
+     * @param prompt  The prompt to send to AI
+     * @param context Optional context description
+     * @param onToken Callback receiving each generated text fragment
+     * @return AI response once the stream has finished
+     */
+    public AiResponseDto generateTextStream(String prompt, String context, Consumer<String> onToken) {
+        long startTime = System.currentTimeMillis();
+
+        try {
+            if (prompt == null || prompt.trim().isEmpty()) {
+                throw new AiServiceException("Prompt cannot be empty");
+            }
+
+            String content = streamMistralApi(prompt, onToken);
+
+            return new AiResponseDto(
+                    content,
+                    "text",
+                    true,
+                    context != null ? context + " completed successfully" : "Text generation completed successfully",
+                    System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            String errorMessage = "Error generating text: " + e.getMessage();
+            System.err.println(errorMessage);
+
+            return new AiResponseDto(
+                    null,
+                    "text",
+                    false,
+                    errorMessage,
+                    System.currentTimeMillis() - startTime);
+        }
+    }
+
+    /**
+     * Build the resume prompt for a user from their MCP profile context
+     * 
+     * @param userId   The user ID
+     * @param jobTitle Optional job title
+     * @param format   Optional resume format
+     * @param template Optional resume template
+     * @return Formatted prompt
+     */
+    private String buildResumePromptForUser(Long userId, String jobTitle, String format, String template) {
+        // Validate inputs
+        if (userId == null) {
+            throw new AiServiceException("User ID cannot be null");
+        }
+
+        // Get structured context using MCP
+        Map<String, Object> context = mcpContextService.generateUserProfileContext(userId);
+
+        // Validate context
+        if (context == null || context.isEmpty()) {
+            throw new AiServiceException("Unable to generate user profile context");
+        }
+
+        String prompt = buildResumePrompt(context, jobTitle, format, template);
+
+        // Validate prompt
+        if (prompt == null || prompt.trim().isEmpty()) {
+            throw new AiServiceException("Failed to generate prompt for resume");
+        }
+
+        return prompt;
+    }
+
     /**
      * Build prompt for resume generation
      * 
@@ -672,12 +815,44 @@ public class MistralAiService {
     }
 
     /**
-     * Call Mistral API
+     * Call Mistral API, answering from the response cache when the same prompt
+     * has already been completed with the current model and temperature. If an
+     * identical prompt is already being sent, the caller waits for that call
+     * instead of issuing its own.
+     * 
+     * @param prompt  The prompt to send
+     * @param feature Feature the prompt belongs to, used to pick the cache TTL
+     * @return Generated text response
+     */
+    private String callMistralApi(String prompt, String feature) {
+        if (prompt == null || prompt.trim().isEmpty()) {
+            return requestCompletion(prompt);
+        }
+
+        String cacheKey = responseCache.key(modelName, temperature, prompt);
+        String cached = responseCache.get(cacheKey, feature);
+        if (cached != null) {
+            return cached;
+        }
+
+        return inFlightPrompts.execute(cacheKey, () -> {
+            String content = requestCompletion(prompt);
+
+            // Only successful completions are cached; errors are worth retrying
+            if (content != null && !content.startsWith("Error")) {
+                responseCache.put(cacheKey, feature, content);
+            }
+            return content;
+        });
+    }
+
+    /**
+     * Send a completion request to the Mistral API
      * 
      * @param prompt The prompt to send
      * @return Generated text response
      */
-    private String callMistralApi(String prompt) {
+    private String requestCompletion(String prompt) {
         System.out.println("Mistral API Token: " + (apiToken != null ? "[PROVIDED]" : "[NOT PROVIDED]"));
         try {
             // Validate API token
@@ -695,10 +870,8 @@ public class MistralAiService {
                 return "Error: Prompt cannot be empty.";
             }
 
-            RestTemplate restTemplate = new RestTemplate();
-
             // Construct URL
-            String url = MISTRAL_API_URL;
+            String url = getChatCompletionsUrl();
             System.out.println("Calling Mistral API at URL: " + url);
 
             // Set headers
@@ -707,22 +880,7 @@ public class MistralAiService {
             headers.set("Authorization", "Bearer " + apiToken.trim());
 
             // Create request body for Mistral API
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", modelName);
-
-            // Create messages array
-            List<Map<String, String>> messages = new ArrayList<>();
-            Map<String, String> messageObj = new HashMap<>();
-            messageObj.put("role", "user");
-            messageObj.put("content", prompt);
-            messages.add(messageObj);
-            requestBody.put("messages", messages);
-
-            // Add parameters
-            requestBody.put("temperature", 0.7);
-            requestBody.put("max_tokens", 1000);
-            requestBody.put("top_p", 0.9);
-            requestBody.put("stream", false);
+            Map<String, Object> requestBody = buildRequestBody(prompt, false);
 
             HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
 
@@ -730,7 +888,7 @@ public class MistralAiService {
 
             // Log request body (without sensitive data)
             Map<String, Object> loggedRequestBody = new HashMap<>(requestBody);
-            System.out.println("Request body: " + new ObjectMapper().writeValueAsString(loggedRequestBody));
+            System.out.println("Request body: " + objectMapper.writeValueAsString(loggedRequestBody));
 
             // Make API call
             ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
@@ -804,7 +962,7 @@ public class MistralAiService {
         } catch (HttpClientErrorException.NotFound e) {
             System.err.println("404 Not Found error when calling Mistral API");
             System.err.println("Model: " + modelName);
-            System.err.println("URL: " + MISTRAL_API_URL);
+            System.err.println("URL: " + getChatCompletionsUrl());
             e.printStackTrace();
             return "Error: Model '" + modelName
                     + "' not found (404). Please check the model name in your configuration.";
@@ -829,6 +987,145 @@ public class MistralAiService {
         }
     }
 
+    /**
+     * Call Mistral API in streaming mode. The completion is read as Server-Sent
+     * Events and every content delta is handed to the callback as soon as it
+     * arrives.
+     * 
+     * @param prompt  The prompt to send
+     * @param onToken Callback receiving each generated text fragment
+     * @return The full generated text
+     */
+    private String streamMistralApi(String prompt, Consumer<String> onToken) {
+        if (apiToken == null || apiToken.trim().isEmpty()) {
+            throw new AiServiceException(
+                    "Mistral API token is not configured. Please set MISTRAL_API_TOKEN in your .env file.");
+        }
+
+        if (modelName == null || modelName.trim().isEmpty()) {
+            throw new AiServiceException("Mistral model name is not configured.");
+        }
+
+        if (prompt == null || prompt.trim().isEmpty()) {
+            throw new AiServiceException("Prompt cannot be empty.");
+        }
+
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(getChatCompletionsUrl()))
+                    .timeout(Duration.ofMillis(apiTimeoutMs))
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "text/event-stream")
+                    .header("Authorization", "Bearer " + apiToken.trim())
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            objectMapper.writeValueAsString(buildRequestBody(prompt, true))))
+                    .build();
+
+            HttpResponse<Stream<String>> response = mistralHttpClient.send(request,
+                    HttpResponse.BodyHandlers.ofLines());
+
+            try (Stream<String> lines = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw new AiServiceException(describeErrorStatus(response.statusCode(),
+                            lines.collect(Collectors.joining("\n"))));
+                }
+
+                StringBuilder content = new StringBuilder();
+                Iterator<String> iterator = lines.iterator();
+                while (iterator.hasNext()) {
+                    String line = iterator.next();
+                    if (!line.startsWith("data:")) {
+                        continue;
+                    }
+
+                    String data = line.substring(5).trim();
+                    if (data.equals("[DONE]")) {
+                        break;
+                    }
+                    if (data.isEmpty()) {
+                        continue;
+                    }
+
+                    JsonNode delta = objectMapper.readTree(data)
+                            .path("choices").path(0).path("delta").path("content");
+                    if (delta.isTextual() && !delta.asText().isEmpty()) {
+                        content.append(delta.asText());
+                        onToken.accept(delta.asText());
+                    }
+                }
+
+                return content.toString();
+            }
+        } catch (AiServiceException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiServiceException("Mistral streaming call was interrupted", e);
+        } catch (Exception e) {
+            throw new AiServiceException("Error streaming from Mistral API: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Build the chat completions request body
+     * 
+     * @param prompt The user prompt
+     * @param stream Whether the completion should be streamed
+     * @return Request body map
+     */
+    private Map<String, Object> buildRequestBody(String prompt, boolean stream) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", modelName);
+
+        // Create messages array
+        List<Map<String, String>> messages = new ArrayList<>();
+        Map<String, String> messageObj = new HashMap<>();
+        messageObj.put("role", "user");
+        messageObj.put("content", prompt);
+        messages.add(messageObj);
+        requestBody.put("messages", messages);
+
+        // Add parameters
+        requestBody.put("temperature", temperature);
+        requestBody.put("max_tokens", 1000);
+        requestBody.put("top_p", 0.9);
+        requestBody.put("stream", stream);
+
+        return requestBody;
+    }
+
+    /**
+     * Translate a non-successful Mistral status code into an error message
+     * 
+     * @param statusCode HTTP status code
+     * @param body       Response body
+     * @return Error message
+     */
+    private String describeErrorStatus(int statusCode, String body) {
+        switch (statusCode) {
+            case 401:
+                return "Invalid Mistral API token (401). Please check your MISTRAL_API_TOKEN in .env file.";
+            case 403:
+                return "Access forbidden to Mistral model '" + modelName
+                        + "' (403). This might be due to model permissions or rate limiting.";
+            case 404:
+                return "Model '" + modelName + "' not found (404). Please check the model name in your configuration.";
+            case 429:
+                return "Rate limit exceeded for Mistral API. Please try again later.";
+            default:
+                return "Error calling Mistral API. Status: " + statusCode + ". Response: " + body;
+        }
+    }
+
+    /**
+     * Resolve the chat completions endpoint from the configured base URL
+     * 
+     * @return Absolute chat completions URL
+     */
+    private String getChatCompletionsUrl() {
+        String base = apiBaseUrl.endsWith("/") ? apiBaseUrl.substring(0, apiBaseUrl.length() - 1) : apiBaseUrl;
+        return base + CHAT_COMPLETIONS_PATH;
+    }
+
     /**
      * Generate fallback resume when AI service is not available
      * 
@@ -0,0 +1,133 @@
+package org.jobai.skillbridge.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Embeddings from the Mistral embeddings endpoint ({@code mistral-embed} by
+ * default). Enabled with {@code ai.embedding.provider=mistral}.
+ */
+@Service
+@ConditionalOnProperty(name = "ai.embedding.provider", havingValue = "mistral")
+public class MistralEmbeddingProvider implements EmbeddingProvider {
+
+    private static final String EMBEDDINGS_PATH = "/v1/embeddings";
+
+    @Value("${mistral.api.token}")
+    private String apiToken;
+
+    @Value("${mistral.api.base-url:https://api.mistral.ai}")
+    private String apiBaseUrl;
+
+    @Value("${ai.embedding.mistral.model:mistral-embed}")
+    private String model;
+
+    @Value("${ai.embedding.mistral.dimensions:1024}")
+    private int dimensions;
+
+    @Value("${ai.embedding.mistral.batch-size:32}")
+    private int batchSize;
+
+    @Value("${matching.ai.max-item-chars:1500}")
+    private int maxItemChars;
+
+    @Autowired
+    @Qualifier("mistralRestTemplate")
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public String getName() {
+        return "mistral:" + model;
+    }
+
+    @Override
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        return embedAll(List.of(text != null ? text : "")).get(0);
+    }
+
+    @Override
+    public List<float[]> embedAll(List<String> texts) {
+        List<float[]> vectors = new ArrayList<>(texts.size());
+        int size = Math.max(1, batchSize);
+        for (int start = 0; start < texts.size(); start += size) {
+            vectors.addAll(requestEmbeddings(texts.subList(start, Math.min(texts.size(), start + size))));
+        }
+        return vectors;
+    }
+
+    private List<float[]> requestEmbeddings(List<String> texts) {
+        if (apiToken == null || apiToken.trim().isEmpty()) {
+            throw new IllegalStateException("Mistral API token is not configured");
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Authorization", "Bearer " + apiToken.trim());
+
+        List<String> input = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            String value = text != null ? text : "";
+            input.add(value.length() > maxItemChars ? value.substring(0, maxItemChars) : value);
+        }
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", model);
+        requestBody.put("input", input);
+
+        ResponseEntity<String> response = restTemplate.postForEntity(getEmbeddingsUrl(),
+                new HttpEntity<>(requestBody, headers), String.class);
+
+        try {
+            JsonNode data = objectMapper.readTree(response.getBody()).path("data");
+            if (data.size() != texts.size()) {
+                throw new IllegalStateException("Expected " + texts.size() + " embeddings but received " + data.size());
+            }
+
+            float[][] vectors = new float[texts.size()][];
+            for (int i = 0; i < data.size(); i++) {
+                JsonNode entry = data.get(i);
+                JsonNode embedding = entry.path("embedding");
+                float[] vector = new float[dimensions];
+                for (int d = 0; d < dimensions && d < embedding.size(); d++) {
+                    vector[d] = (float) embedding.get(d).asDouble();
+                }
+                // Entries carry their input position; do not rely on response order
+                vectors[entry.path("index").asInt(i)] = vector;
+            }
+            return Arrays.asList(vectors);
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not parse Mistral embeddings: " + e.getMessage(), e);
+        }
+    }
+
+    private String getEmbeddingsUrl() {
+        String base = apiBaseUrl.endsWith("/") ? apiBaseUrl.substring(0, apiBaseUrl.length() - 1) : apiBaseUrl;
+        return base + EMBEDDINGS_PATH;
+    }
+}
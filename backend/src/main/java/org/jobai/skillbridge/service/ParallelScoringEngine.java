@@ -0,0 +1,176 @@
+package org.jobai.skillbridge.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.jobai.skillbridge.util.ScoreColumns;
+import org.jobai.skillbridge.util.TopK;
+import org.jobai.skillbridge.util.WeightedScoringKernel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
+
+/**
+ * Scores candidate or job pools in parallel on a dedicated fork-join pool.
+ *
+ * The pool is split into index ranges that are handled independently: the
+ * component scores of each row are filled in by {@link #forEach}, and
+ * {@link #selectTop} ranks the weighted totals with one {@link TopK} heap
+ * per range, merging heaps pairwise on the way back up. Ties are broken by
+ * row, so the result is the same as a sequential run. Pools smaller than
+ * {@code matching.parallel.threshold} are handled on the calling thread.
+ */
+@Service
+public class ParallelScoringEngine {
+
+    @Value("${matching.parallel.threshold:256}")
+    private int threshold;
+
+    @Value("${matching.parallel.parallelism:0}")
+    private int parallelism;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void initialize() {
+        int size = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(size, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("match-scoring-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Rows with the highest weighted totals, as
+     * {@link WeightedScoringKernel#selectTop} but ranked in parallel
+     *
+     * @param columns   The pool
+     * @param weights   Weight per component
+     * @param threshold Rows must score strictly above this to be selected
+     * @param k         Number of rows to return
+     * @return Row indices, best first; earlier rows win ties
+     */
+    public int[] selectTop(ScoreColumns columns, double[] weights, double threshold, int k) {
+        int size = columns.size();
+        double[] totals = new double[size];
+        boolean[] passed = new boolean[size];
+        if (WeightedScoringKernel.weightedTotals(columns, weights, threshold, totals, passed) == 0) {
+            return new int[0];
+        }
+
+        // Earlier rows win ties so parallel and sequential runs agree
+        Comparator<Integer> order = Comparator.<Integer>comparingDouble(row -> totals[row])
+                .thenComparing(Comparator.reverseOrder());
+        TopK<Integer> top;
+        if (size < threshold || pool.getParallelism() < 2) {
+            top = new SelectionTask(passed, 0, size, Integer.MAX_VALUE, k, order).compute();
+        } else {
+            int leafSize = Math.max(32, size / (pool.getParallelism() * 4));
+            top = pool.invoke(new SelectionTask(passed, 0, size, leafSize, k, order));
+        }
+
+        List<Integer> rows = top.toSortedList();
+        int[] selected = new int[rows.size()];
+        for (int i = 0; i < selected.length; i++) {
+            selected[i] = rows.get(i);
+        }
+        return selected;
+    }
+
+    /**
+     * Run an action for every index of a pool, e.g. to fill one row of
+     * {@link org.jobai.skillbridge.util.ScoreColumns} per item
+     *
+     * @param size   Pool size
+     * @param action Action per index; must only touch state of its own index
+     */
+    public void forEach(int size, IntConsumer action) {
+        if (size < threshold || pool.getParallelism() < 2) {
+            for (int i = 0; i < size; i++) {
+                action.accept(i);
+            }
+        } else {
+            int leafSize = Math.max(32, size / (pool.getParallelism() * 4));
+            pool.invoke(new IndexTask(0, size, leafSize, action));
+        }
+    }
+
+    private static class SelectionTask extends RecursiveTask<TopK<Integer>> {
+
+        private final boolean[] passed;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final int k;
+        private final Comparator<Integer> order;
+
+        SelectionTask(boolean[] passed, int from, int to, int leafSize, int k, Comparator<Integer> order) {
+            this.passed = passed;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.k = k;
+            this.order = order;
+        }
+
+        @Override
+        protected TopK<Integer> compute() {
+            if (to - from <= leafSize) {
+                TopK<Integer> top = new TopK<>(k, order);
+                for (int row = from; row < to; row++) {
+                    if (passed[row]) {
+                        top.offer(row);
+                    }
+                }
+                return top;
+            }
+
+            int middle = (from + to) >>> 1;
+            SelectionTask left = new SelectionTask(passed, from, middle, leafSize, k, order);
+            SelectionTask right = new SelectionTask(passed, middle, to, leafSize, k, order);
+            left.fork();
+            TopK<Integer> rightTop = right.compute();
+            return left.join().merge(rightTop);
+        }
+    }
+
+    private static class IndexTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final IntConsumer action;
+
+        IndexTask(int from, int to, int leafSize, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new IndexTask(from, middle, leafSize, action), new IndexTask(middle, to, leafSize, action));
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package org.jobai.skillbridge.service;
 
+import org.jobai.skillbridge.event.ProfileChangedEvent;
 import org.jobai.skillbridge.model.*;
 import org.jobai.skillbridge.repo.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -22,17 +24,24 @@ public class ProfileService {
     @Autowired
     private PortfolioRepository portfolioRepository;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     // Education methods
     public List<Education> getUserEducations(User user) {
         return educationRepository.findByUser(user);
     }
     
     public Education saveEducation(Education education) {
-        return educationRepository.save(education);
+        Education saved = educationRepository.save(education);
+        publishChange(saved.getUser(), ProfileChangedEvent.Section.EDUCATION);
+        return saved;
     }
     
     public void deleteEducation(Long id) {
+        User user = educationRepository.findById(id).map(Education::getUser).orElse(null);
         educationRepository.deleteById(id);
+        publishChange(user, ProfileChangedEvent.Section.EDUCATION);
     }
     
     // Experience methods
@@ -41,11 +50,15 @@ public class ProfileService {
     }
     
     public Experience saveExperience(Experience experience) {
-        return experienceRepository.save(experience);
+        Experience saved = experienceRepository.save(experience);
+        publishChange(saved.getUser(), ProfileChangedEvent.Section.EXPERIENCE);
+        return saved;
     }
     
     public void deleteExperience(Long id) {
+        User user = experienceRepository.findById(id).map(Experience::getUser).orElse(null);
         experienceRepository.deleteById(id);
+        publishChange(user, ProfileChangedEvent.Section.EXPERIENCE);
     }
     
     // Skill methods
@@ -54,11 +67,15 @@ public class ProfileService {
     }
     
     public Skill saveSkill(Skill skill) {
-        return skillRepository.save(skill);
+        Skill saved = skillRepository.save(skill);
+        publishChange(saved.getUser(), ProfileChangedEvent.Section.SKILLS);
+        return saved;
     }
     
     public void deleteSkill(Long id) {
+        User user = skillRepository.findById(id).map(Skill::getUser).orElse(null);
         skillRepository.deleteById(id);
+        publishChange(user, ProfileChangedEvent.Section.SKILLS);
     }
     
     // Portfolio methods
@@ -73,4 +90,10 @@ public class ProfileService {
     public void deletePortfolio(Long id) {
         portfolioRepository.deleteById(id);
     }
+    
+    private void publishChange(User user, ProfileChangedEvent.Section section) {
+        if (user != null && user.getId() != null) {
+            eventPublisher.publishEvent(new ProfileChangedEvent(user.getId(), section));
+        }
+    }
 }
\ No newline at end of file
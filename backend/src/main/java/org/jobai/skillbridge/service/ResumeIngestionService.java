@@ -0,0 +1,514 @@
+package org.jobai.skillbridge.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.jobai.skillbridge.exception.AiServiceException;
+import org.jobai.skillbridge.exception.IngestionQueueFullException;
+import org.jobai.skillbridge.exception.TransientProcessingException;
+import org.jobai.skillbridge.model.FileStorage;
+import org.jobai.skillbridge.model.ResumeIngestionJob;
+import org.jobai.skillbridge.model.ResumeIngestionJob.Status;
+import org.jobai.skillbridge.model.ResumeIngestionPayload;
+import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.repo.FileStorageRepository;
+import org.jobai.skillbridge.repo.ResumeIngestionJobRepository;
+import org.jobai.skillbridge.repo.ResumeIngestionPayloadRepository;
+import org.jobai.skillbridge.repo.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Ingests uploaded resumes in the background: upload to Tebi, text
+ * extraction, parsing and persistence happen on a bounded worker pool while
+ * the upload request returns a job ID straight away.
+ *
+ * Jobs and their file content are stored in the database before they are
+ * queued, so work in flight survives a restart: queued jobs are picked up by
+ * a periodic sweep, and jobs left PROCESSING by a stopped instance are
+ * requeued once their lease expires. Each job is claimed with a conditional
+ * update, so several instances can share the table. A job interrupted by a
+ * shutdown is handed back to the queue with its payload, without counting
+ * the attempt; only a document that cannot be parsed fails for good.
+ *
+ * The number of jobs queued or running in this instance is capped; beyond
+ * that, new uploads are rejected with {@link IngestionQueueFullException}
+ * instead of piling up. Progress can be polled or followed as Server-Sent
+ * Events.
+ */
+@Service
+public class ResumeIngestionService {
+
+    @Value("${document.ingestion.workers:4}")
+    private int workers;
+
+    @Value("${document.ingestion.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${document.ingestion.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${document.ingestion.lease-ms:600000}")
+    private long leaseMs;
+
+    @Value("${document.ingestion.events-timeout:300000}")
+    private long eventsTimeoutMs;
+
+    @Autowired
+    private ResumeIngestionJobRepository jobRepository;
+
+    @Autowired
+    private ResumeIngestionPayloadRepository payloadRepository;
+
+    @Autowired
+    private ResumeParsingService resumeParsingService;
+
+    @Autowired
+    private TebiFileStorageService fileStorageService;
+
+    @Autowired
+    private FileStorageRepository fileStorageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ExecutorService executor;
+    private volatile boolean stopping;
+    // One permit per job queued or running in this instance
+    private Semaphore permits;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void initialize() {
+        executor = Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("resume-ingest-", 0).factory());
+        permits = new Semaphore(workers + queueCapacity);
+
+        Gauge.builder("resume.ingestion.in-flight", inFlight, Set::size)
+                .description("Resume ingestion jobs queued or running in this instance")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Unfinished jobs stay QUEUED or PROCESSING in the database and are resumed after restart
+        stopping = true;
+        executor.shutdownNow();
+        try {
+            // Let interrupted workers hand their jobs back while the database is still there
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Accept a resume for background ingestion
+     *
+     * @param file The uploaded resume
+     * @param user The user who uploaded it
+     * @return The queued job
+     * @throws IngestionQueueFullException If this instance has no room for more jobs
+     */
+    public ResumeIngestionJob submit(MultipartFile file, User user) throws IOException {
+        if (file.isEmpty()) {
+            throw new AiServiceException("Uploaded file is empty");
+        }
+        if (!fileStorageService.isFileTypeAllowed(file, TebiFileStorageService.RESUME_ALLOWED_TYPES)) {
+            throw new AiServiceException("Invalid file type. Only PDF, DOC, and DOCX files are allowed.");
+        }
+        if (!permits.tryAcquire()) {
+            throw new IngestionQueueFullException("Resume processing is busy. Please try again shortly.");
+        }
+
+        try {
+            byte[] content = file.getBytes();
+            ResumeIngestionJob job = transactionTemplate.execute(status -> {
+                ResumeIngestionJob created = new ResumeIngestionJob();
+                created.setUserId(user.getId());
+                created.setStatus(Status.QUEUED);
+                created.setFileName(file.getName());
+                created.setOriginalFileName(file.getOriginalFilename());
+                created.setContentType(file.getContentType());
+                created.setFileSize(content.length);
+                created.setCreatedAt(LocalDateTime.now());
+                created = jobRepository.save(created);
+                payloadRepository.save(new ResumeIngestionPayload(created.getId(), content));
+                return created;
+            });
+            dispatch(job.getId());
+            return job;
+        } catch (RuntimeException | IOException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Current state of a job
+     *
+     * @param jobId  The job ID
+     * @param userId The user asking; only the owner can see a job
+     * @return The job status, or empty if there is no such job for the user
+     */
+    public Optional<IngestionStatus> getStatus(Long jobId, Long userId) {
+        return jobRepository.findById(jobId)
+                .filter(job -> job.getUserId().equals(userId))
+                .map(this::toStatus);
+    }
+
+    /**
+     * Follow a job as Server-Sent Events: a "status" event now and on every
+     * change, and the stream completes once the job has completed or failed
+     *
+     * @param jobId  The job ID
+     * @param userId The user asking; only the owner can follow a job
+     * @return Emitter to return from the controller, or empty if there is no
+     *         such job for the user
+     */
+    public Optional<SseEmitter> subscribe(Long jobId, Long userId) {
+        Optional<IngestionStatus> current = getStatus(jobId, userId);
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(eventsTimeoutMs);
+        Runnable remove = () -> subscribers.computeIfPresent(jobId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        subscribers.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        // Re-read after registering so a change in between is not missed
+        send(emitter, getStatus(jobId, userId).orElse(current.get()));
+        return Optional.of(emitter);
+    }
+
+    /**
+     * Requeue jobs abandoned by stopped instances, or fail them once they
+     * are out of attempts, and start queued jobs this instance has room for.
+     * Also relays status changes made by other instances to local subscribers.
+     */
+    @Scheduled(fixedDelayString = "${document.ingestion.poll-interval-ms:5000}")
+    public void dispatchQueued() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMs));
+        int[] swept = transactionTemplate.execute(status -> {
+            payloadRepository.deleteStale(Status.PROCESSING, cutoff, maxAttempts);
+            int failed = jobRepository.failStale(Status.FAILED, Status.PROCESSING, cutoff, maxAttempts,
+                    "Could not process resume: processing was abandoned " + maxAttempts + " times", now);
+            int requeued = jobRepository.requeueStale(Status.QUEUED, Status.PROCESSING, cutoff, maxAttempts);
+            return new int[] { failed, requeued };
+        });
+        if (swept != null && swept[0] > 0) {
+            System.err.println("Failed " + swept[0] + " resume ingestion jobs abandoned too often");
+        }
+        if (swept != null && swept[1] > 0) {
+            System.out.println("Requeued " + swept[1] + " abandoned resume ingestion jobs");
+        }
+
+        int room = permits.availablePermits();
+        if (room > 0) {
+            for (Long jobId : jobRepository.findIdsByStatus(Status.QUEUED, PageRequest.of(0, room))) {
+                if (inFlight.contains(jobId)) {
+                    continue;
+                }
+                if (!permits.tryAcquire()) {
+                    break;
+                }
+                dispatch(jobId);
+            }
+        }
+
+        Set<Long> remote = new HashSet<>(subscribers.keySet());
+        remote.removeAll(inFlight);
+        if (!remote.isEmpty()) {
+            for (ResumeIngestionJob job : jobRepository.findAllById(remote)) {
+                publish(toStatus(job));
+            }
+        }
+    }
+
+    // The caller holds a permit, released when the job is done
+    private void dispatch(Long jobId) {
+        if (!inFlight.add(jobId)) {
+            permits.release();
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process(jobId);
+                } finally {
+                    inFlight.remove(jobId);
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the job stays queued in the database
+            inFlight.remove(jobId);
+            permits.release();
+        }
+    }
+
+    private void process(Long jobId) {
+        Integer claimed = transactionTemplate.execute(
+                status -> jobRepository.claim(jobId, Status.QUEUED, Status.PROCESSING, LocalDateTime.now()));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+
+        ResumeIngestionJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        publish(toStatus(job));
+
+        try {
+            byte[] content = payloadRepository.findById(jobId)
+                    .map(ResumeIngestionPayload::getContent)
+                    .orElseThrow(() -> new AiServiceException("Uploaded file is no longer available"));
+            User user = userRepository.findById(job.getUserId())
+                    .orElseThrow(() -> new AiServiceException("User no longer exists"));
+
+            if (job.getFileStorageId() == null) {
+                FileStorage fileStorage = resumeParsingService.storeResume(new ByteArrayInputStream(content),
+                        content.length, job.getFileName(), job.getOriginalFileName(), job.getContentType(), user);
+                job.setFileStorageId(fileStorage.getId());
+                job = jobRepository.save(job);
+            }
+
+            ResumeParsingService.ParsedResumeData parsedData = resumeParsingService
+                    .parseResume(new ByteArrayInputStream(content), job.getContentType());
+
+            job.setResult(objectMapper.writeValueAsString(parsedData));
+            finish(job, Status.COMPLETED, null);
+        } catch (Exception e) {
+            if (stopping || Thread.currentThread().isInterrupted()) {
+                // Cut short by a shutdown, not by the document
+                release(job);
+            } else if (e instanceof AiServiceException && !(e instanceof TransientProcessingException)) {
+                // The document itself cannot be used; trying again will not help
+                finish(job, Status.FAILED, e.getMessage());
+            } else {
+                retry(job, e);
+            }
+        }
+    }
+
+    // Transient failure: try again later, up to maxAttempts
+    private void retry(ResumeIngestionJob job, Exception e) {
+        System.err.println("Resume ingestion job " + job.getId() + " failed (attempt " + job.getAttempts() + "): "
+                + e.getMessage());
+        if (job.getAttempts() >= maxAttempts) {
+            finish(job, Status.FAILED, "Could not process resume: " + e.getMessage());
+        } else {
+            // Picked up again by the next sweep
+            job.setStatus(Status.QUEUED);
+            job.setErrorMessage(truncate(e.getMessage()));
+            publish(toStatus(jobRepository.save(job)));
+        }
+    }
+
+    // Put a job back in the queue as it was before this attempt; if the database is already gone,
+    // the job stays PROCESSING and is requeued once its lease expires
+    private void release(ResumeIngestionJob job) {
+        Thread.interrupted(); // the database calls below must not be cut short as well
+        try {
+            job.setStatus(Status.QUEUED);
+            job.setAttempts(Math.max(0, job.getAttempts() - 1));
+            jobRepository.save(job);
+        } catch (Exception e) {
+            System.err.println("Could not requeue resume ingestion job " + job.getId() + ": " + e.getMessage());
+        }
+    }
+
+    private void finish(ResumeIngestionJob job, Status status, String error) {
+        job.setStatus(status);
+        job.setErrorMessage(truncate(error));
+        job.setCompletedAt(LocalDateTime.now());
+        ResumeIngestionJob saved = transactionTemplate.execute(tx -> {
+            payloadRepository.deleteById(job.getId());
+            return jobRepository.save(job);
+        });
+        publish(toStatus(saved));
+    }
+
+    private void publish(IngestionStatus status) {
+        List<SseEmitter> emitters = subscribers.get(status.getJobId());
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            send(emitter, status);
+        }
+    }
+
+    private void send(SseEmitter emitter, IngestionStatus status) {
+        try {
+            emitter.send(SseEmitter.event().name("status").data(status, MediaType.APPLICATION_JSON));
+            if (status.isFinished()) {
+                emitter.complete();
+            }
+        } catch (Exception e) {
+            // Client went away
+            emitter.completeWithError(e);
+        }
+    }
+
+    private IngestionStatus toStatus(ResumeIngestionJob job) {
+        IngestionStatus status = new IngestionStatus();
+        status.setJobId(job.getId());
+        status.setStatus(job.getStatus());
+        status.setOriginalFileName(job.getOriginalFileName());
+        status.setAttempts(job.getAttempts());
+        status.setErrorMessage(job.getErrorMessage());
+        status.setCreatedAt(job.getCreatedAt());
+        status.setCompletedAt(job.getCompletedAt());
+        if (job.getFileStorageId() != null) {
+            status.setFileStorageId(job.getFileStorageId());
+            fileStorageRepository.findById(job.getFileStorageId())
+                    .ifPresent(fileStorage -> status.setFileUrl(fileStorage.getFileUrl()));
+        }
+        if (job.getResult() != null) {
+            try {
+                status.setParsedData(objectMapper.readTree(job.getResult()));
+            } catch (IOException e) {
+                System.err.println("Unreadable result of resume ingestion job " + job.getId());
+            }
+        }
+        return status;
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    /**
+     * Status of an ingestion job as shown to its owner
+     */
+    public static class IngestionStatus {
+        private Long jobId;
+        private Status status;
+        private String originalFileName;
+        private int attempts;
+        private String errorMessage;
+        private Long fileStorageId;
+        private String fileUrl;
+        private JsonNode parsedData;
+        private LocalDateTime createdAt;
+        private LocalDateTime completedAt;
+
+        public boolean isFinished() {
+            return status == Status.COMPLETED || status == Status.FAILED;
+        }
+
+        public Long getJobId() {
+            return jobId;
+        }
+
+        public void setJobId(Long jobId) {
+            this.jobId = jobId;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public void setStatus(Status status) {
+            this.status = status;
+        }
+
+        public String getOriginalFileName() {
+            return originalFileName;
+        }
+
+        public void setOriginalFileName(String originalFileName) {
+            this.originalFileName = originalFileName;
+        }
+
+        public int getAttempts() {
+            return attempts;
+        }
+
+        public void setAttempts(int attempts) {
+            this.attempts = attempts;
+        }
+
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+
+        public void setErrorMessage(String errorMessage) {
+            this.errorMessage = errorMessage;
+        }
+
+        public Long getFileStorageId() {
+            return fileStorageId;
+        }
+
+        public void setFileStorageId(Long fileStorageId) {
+            this.fileStorageId = fileStorageId;
+        }
+
+        public String getFileUrl() {
+            return fileUrl;
+        }
+
+        public void setFileUrl(String fileUrl) {
+            this.fileUrl = fileUrl;
+        }
+
+        public JsonNode getParsedData() {
+            return parsedData;
+        }
+
+        public void setParsedData(JsonNode parsedData) {
+            this.parsedData = parsedData;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public LocalDateTime getCompletedAt() {
+            return completedAt;
+        }
+
+        public void setCompletedAt(LocalDateTime completedAt) {
+            this.completedAt = completedAt;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.jobai.skillbridge.service;
 
+import jakarta.annotation.PreDestroy;
 import org.jobai.skillbridge.model.Education;
 import org.jobai.skillbridge.model.Experience;
 import org.jobai.skillbridge.model.Skill;
@@ -7,6 +8,10 @@ import org.jobai.skillbridge.model.User;
 import org.jobai.skillbridge.model.FileStorage;
 import org.jobai.skillbridge.repo.FileStorageRepository;
 import org.jobai.skillbridge.exception.AiServiceException;
+import org.jobai.skillbridge.exception.TransientProcessingException;
+import org.jobai.skillbridge.util.ResumeSections;
+import org.jobai.skillbridge.util.ResumeSections.Section;
+import org.jobai.skillbridge.util.StreamTee;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -17,20 +22,24 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.apache.tika.Tika;
-import org.apache.tika.metadata.Metadata;
-import org.apache.tika.parser.AutoDetectParser;
-import org.apache.tika.parser.ParseContext;
-import org.apache.tika.sax.BodyContentHandler;
 import org.xml.sax.SAXException;
 
 @Service
 public class ResumeParsingService {
 
-    private final Tika tika = new Tika();
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}");
+    private static final Pattern PHONE_PATTERN = Pattern
+            .compile("(?:\\+?1[-\\s]?)?\\(?([0-9]{3})\\)?[-\\s]?([0-9]{3})[-\\s]?([0-9]{4})");
+    private static final Pattern LETTER_PATTERN = Pattern.compile("[a-zA-Z]");
+    private static final Pattern AT_SEPARATOR = Pattern.compile(" at ");
+    private static final String[] DEGREE_TYPES = { "bachelor", "master", "phd", "mba", "bs", "ms", "ba", "ma" };
 
     @Autowired
     private TebiFileStorageService fileStorageService;
@@ -41,6 +50,20 @@ public class ResumeParsingService {
     @Autowired
     private MistralAiService mistralAiService;
 
+    @Autowired
+    private SkillTaxonomy skillTaxonomy;
+
+    @Autowired
+    private DocumentTextExtractor documentTextExtractor;
+
+    private final ExecutorService uploadExecutor = Executors
+            .newThreadPerTaskExecutor(Thread.ofVirtual().name("resume-upload-", 0).factory());
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
+
     /**
      * Parse a resume file and extract structured data
      * 
@@ -60,32 +83,25 @@ public class ResumeParsingService {
         }
 
         try (InputStream inputStream = file.getInputStream()) {
-            String content = extractTextFromDocument(inputStream, contentType);
-            return extractStructuredData(content);
-        } catch (Exception e) {
-            throw new AiServiceException("Error parsing resume: " + e.getMessage());
+            return parseResume(inputStream, contentType);
         }
     }
 
     /**
-     * Extract text content from document based on file type
+     * Parse resume content and extract structured data
      * 
-     * @param inputStream Input stream of the document
-     * @param contentType MIME type of the document
-     * @return Extracted text content
+     * @param inputStream Resume content; not closed
+     * @param contentType MIME type of the resume
+     * @return Parsed resume data
      */
-    private String extractTextFromDocument(InputStream inputStream, String contentType)
-            throws IOException, SAXException, AiServiceException {
+    public ParsedResumeData parseResume(InputStream inputStream, String contentType) throws AiServiceException {
         try {
-            AutoDetectParser parser = new AutoDetectParser();
-            BodyContentHandler handler = new BodyContentHandler(-1); // -1 to avoid truncation
-            Metadata metadata = new Metadata();
-            ParseContext context = new ParseContext();
-
-            parser.parse(inputStream, handler, metadata, context);
-            return handler.toString().trim();
+            String content = documentTextExtractor.extractText(inputStream, contentType);
+            return extractStructuredData(content);
+        } catch (TransientProcessingException e) {
+            throw e;
         } catch (Exception e) {
-            throw new AiServiceException("Failed to extract text from document: " + e.getMessage());
+            throw new AiServiceException("Error parsing resume: " + e.getMessage());
         }
     }
 
@@ -98,35 +114,37 @@ public class ResumeParsingService {
     private ParsedResumeData extractStructuredData(String content) {
         ParsedResumeData data = new ParsedResumeData();
 
+        // Split into lines and sections once; each extractor gets its own slice
+        ResumeSections sections = ResumeSections.parse(content);
+
         // Extract contact information
-        data.setName(extractName(content));
+        data.setName(extractName(sections.get(Section.CONTACT)));
         data.setEmail(extractEmail(content));
         data.setPhone(extractPhone(content));
 
         // Extract professional summary
-        data.setSummary(extractSummary(content));
+        data.setSummary(extractSummary(sections.get(Section.SUMMARY)));
 
-        // Extract skills
+        // Extract skills, wherever they are mentioned
         data.setSkills(extractSkills(content));
 
         // Extract experience
-        data.setExperiences(extractExperiences(content));
+        data.setExperiences(extractExperiences(sections.get(Section.EXPERIENCE)));
 
         // Extract education
-        data.setEducations(extractEducations(content));
+        data.setEducations(extractEducations(sections.get(Section.EDUCATION)));
 
         return data;
     }
 
-    private String extractName(String content) {
+    private String extractName(List<String> lines) {
         // Look for name patterns at the beginning of the document
-        String[] lines = content.split("\n");
-        for (int i = 0; i < Math.min(5, lines.length); i++) {
-            String line = lines[i].trim();
-            // Skip empty lines and lines with too many special characters
+        for (int i = 0; i < Math.min(5, lines.size()); i++) {
+            String line = lines.get(i);
+            // Skip lines with too many special characters
             if (line.length() > 3 && line.length() < 50 &&
                     !line.contains("@") && !line.contains("www") &&
-                    line.matches(".*[a-zA-Z].*")) {
+                    LETTER_PATTERN.matcher(line).find()) {
                 return line;
             }
         }
@@ -134,8 +152,7 @@ public class ResumeParsingService {
     }
 
     private String extractEmail(String content) {
-        Pattern emailPattern = Pattern.compile("[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}");
-        Matcher matcher = emailPattern.matcher(content);
+        Matcher matcher = EMAIL_PATTERN.matcher(content);
         if (matcher.find()) {
             return matcher.group();
         }
@@ -143,103 +160,59 @@ public class ResumeParsingService {
     }
 
     private String extractPhone(String content) {
-        Pattern phonePattern = Pattern.compile("(?:\\+?1[-\\s]?)?\\(?([0-9]{3})\\)?[-\\s]?([0-9]{3})[-\\s]?([0-9]{4})");
-        Matcher matcher = phonePattern.matcher(content);
+        Matcher matcher = PHONE_PATTERN.matcher(content);
         if (matcher.find()) {
             return matcher.group();
         }
         return null;
     }
 
-    private String extractSummary(String content) {
-        // Look for sections that might contain summary
-        String[] summaryKeywords = { "summary", "objective", "profile", "about" };
-        String[] lines = content.split("\n");
-
-        for (int i = 0; i < lines.length; i++) {
-            String line = lines[i].toLowerCase();
-            for (String keyword : summaryKeywords) {
-                if (line.contains(keyword) && line.length() < 50) {
-                    // Found a summary section, extract next few lines
-                    StringBuilder summary = new StringBuilder();
-                    for (int j = i + 1; j < Math.min(i + 5, lines.length); j++) {
-                        String summaryLine = lines[j].trim();
-                        if (summaryLine.length() > 20) {
-                            summary.append(summaryLine).append(" ");
-                        }
-                    }
-                    if (summary.length() > 0) {
-                        return summary.toString().trim();
-                    }
-                }
+    private String extractSummary(List<String> lines) {
+        // First few lines of the summary / objective / profile section
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < Math.min(4, lines.size()); i++) {
+            String summaryLine = lines.get(i);
+            if (summaryLine.length() > 20) {
+                summary.append(summaryLine).append(" ");
             }
         }
-        return null;
+        return summary.length() > 0 ? summary.toString().trim() : null;
     }
 
     private List<Skill> extractSkills(String content) {
         List<Skill> skills = new ArrayList<>();
 
-        // Common technical skills to look for
-        String[] techSkills = {
-                "Java", "Python", "JavaScript", "React", "Angular", "Vue", "Spring", "Node.js",
-                "SQL", "MySQL", "PostgreSQL", "MongoDB", "Redis", "Docker", "Kubernetes",
-                "AWS", "Azure", "GCP", "Git", "Jenkins", "Maven", "Gradle", "Linux"
-        };
-
-        String contentLower = content.toLowerCase();
-
-        for (String skill : techSkills) {
-            if (contentLower.contains(skill.toLowerCase())) {
-                Skill skillObj = new Skill();
-                skillObj.setName(skill);
-                skillObj.setCategory("Technical");
-                skillObj.setLevel(org.jobai.skillbridge.model.SkillLevel.INTERMEDIATE); // Default proficiency
-                skills.add(skillObj);
-            }
+        // One pass over the resume for every skill and alias in the taxonomy
+        for (SkillTaxonomy.Entry entry : skillTaxonomy.findSkills(content)) {
+            Skill skillObj = new Skill();
+            skillObj.setName(entry.getName());
+            skillObj.setCategory(entry.getCategory());
+            skillObj.setLevel(org.jobai.skillbridge.model.SkillLevel.INTERMEDIATE); // Default proficiency
+            skills.add(skillObj);
         }
 
         return skills;
     }
 
-    private List<Experience> extractExperiences(String content) {
+    private List<Experience> extractExperiences(List<String> lines) {
         List<Experience> experiences = new ArrayList<>();
 
-        String[] lines = content.split("\n");
-        boolean inExperienceSection = false;
-
-        for (int i = 0; i < lines.length; i++) {
-            String line = lines[i].toLowerCase().trim();
-
-            // Check if we're entering an experience section
-            if (line.contains("experience") || line.contains("employment") || line.contains("work")) {
-                inExperienceSection = true;
-                continue;
-            }
-
-            // Check if we're leaving the experience section
-            if (inExperienceSection && (line.contains("education") || line.contains("skills") ||
-                    line.contains("projects") || line.contains("certifications"))) {
-                break;
-            }
-
-            if (inExperienceSection && lines[i].trim().length() > 0) {
-                // Try to extract experience entry
-                Experience exp = extractExperienceEntry(lines, i);
-                if (exp != null) {
-                    experiences.add(exp);
-                }
+        for (int i = 0; i < lines.size(); i++) {
+            // Try to extract experience entry
+            Experience exp = extractExperienceEntry(lines, i);
+            if (exp != null) {
+                experiences.add(exp);
             }
         }
 
         return experiences;
     }
 
-    private Experience extractExperienceEntry(String[] lines, int startIndex) {
-        if (startIndex >= lines.length)
+    private Experience extractExperienceEntry(List<String> lines, int startIndex) {
+        if (startIndex >= lines.size())
             return null;
 
-        String line = lines[startIndex].trim();
+        String line = lines.get(startIndex);
 
         // Look for patterns like "Company Name - Position" or "Position at Company"
         if (line.length() > 10 && (line.contains("-") || line.contains("at"))) {
@@ -252,7 +225,7 @@ public class ResumeParsingService {
                     exp.setPosition(parts[1].trim());
                 }
             } else if (line.contains(" at ")) {
-                String[] parts = line.split(" at ", 2);
+                String[] parts = AT_SEPARATOR.split(line, 2);
                 if (parts.length == 2) {
                     exp.setPosition(parts[0].trim());
                     exp.setCompany(parts[1].trim());
@@ -261,10 +234,9 @@ public class ResumeParsingService {
 
             // Extract description from next few lines
             StringBuilder description = new StringBuilder();
-            for (int i = startIndex + 1; i < Math.min(startIndex + 4, lines.length); i++) {
-                String descLine = lines[i].trim();
-                if (descLine.length() > 20 && !descLine.toLowerCase().contains("experience") &&
-                        !descLine.toLowerCase().contains("education")) {
+            for (int i = startIndex + 1; i < Math.min(startIndex + 4, lines.size()); i++) {
+                String descLine = lines.get(i);
+                if (descLine.length() > 20) {
                     description.append(descLine).append(" ");
                 }
             }
@@ -280,59 +252,40 @@ public class ResumeParsingService {
         return null;
     }
 
-    private List<Education> extractEducations(String content) {
+    private List<Education> extractEducations(List<String> lines) {
         List<Education> educations = new ArrayList<>();
 
-        String[] lines = content.split("\n");
-        boolean inEducationSection = false;
-
-        for (int i = 0; i < lines.length; i++) {
-            String line = lines[i].toLowerCase().trim();
-
-            // Check if we're entering an education section
-            if (line.contains("education") || line.contains("academic") || line.contains("qualification")) {
-                inEducationSection = true;
-                continue;
-            }
-
-            // Check if we're leaving the education section
-            if (inEducationSection && (line.contains("experience") || line.contains("skills") ||
-                    line.contains("projects") || line.contains("certifications"))) {
-                break;
-            }
-
-            if (inEducationSection && lines[i].trim().length() > 0) {
-                // Try to extract education entry
-                Education edu = extractEducationEntry(lines, i);
-                if (edu != null) {
-                    educations.add(edu);
-                }
+        for (int i = 0; i < lines.size(); i++) {
+            // Try to extract education entry
+            Education edu = extractEducationEntry(lines, i);
+            if (edu != null) {
+                educations.add(edu);
             }
         }
 
         return educations;
     }
 
-    private Education extractEducationEntry(String[] lines, int startIndex) {
-        if (startIndex >= lines.length)
+    private Education extractEducationEntry(List<String> lines, int startIndex) {
+        if (startIndex >= lines.size())
             return null;
 
-        String line = lines[startIndex].trim();
+        String line = lines.get(startIndex);
+        String lowerLine = line.toLowerCase();
 
         // Look for degree patterns
-        String[] degreeTypes = { "bachelor", "master", "phd", "mba", "bs", "ms", "ba", "ma" };
-
-        for (String degreeType : degreeTypes) {
-            if (line.toLowerCase().contains(degreeType)) {
+        for (String degreeType : DEGREE_TYPES) {
+            if (lowerLine.contains(degreeType)) {
                 Education edu = new Education();
                 edu.setDegree(line);
 
                 // Look for institution in the same line or next line
-                if (startIndex + 1 < lines.length) {
-                    String nextLine = lines[startIndex + 1].trim();
-                    if (nextLine.length() > 5 && nextLine.toLowerCase().contains("university") ||
-                            nextLine.toLowerCase().contains("college")
-                            || nextLine.toLowerCase().contains("institute")) {
+                if (startIndex + 1 < lines.size()) {
+                    String nextLine = lines.get(startIndex + 1);
+                    String lowerNext = nextLine.toLowerCase();
+                    if (nextLine.length() > 5 && lowerNext.contains("university") ||
+                            lowerNext.contains("college")
+                            || lowerNext.contains("institute")) {
                         edu.setInstitution(nextLine);
                     }
                 }
@@ -431,34 +384,77 @@ public class ResumeParsingService {
             throw new AiServiceException("Invalid file type. Only PDF, DOC, and DOCX files are allowed.");
         }
 
-        // Upload to Tebi
-        String fileUrl = fileStorageService.uploadResume(file, user.getId());
-        String filePath = fileStorageService.extractFilePathFromUrl(fileUrl);
+        if (file.isEmpty()) {
+            throw new AiServiceException("Uploaded file is empty");
+        }
 
-        // Save file metadata
-        FileStorage fileStorage = new FileStorage(
-                file.getName(),
-                file.getOriginalFilename(),
-                fileUrl,
-                filePath,
-                file.getContentType(),
-                file.getSize(),
-                FileStorage.FileCategory.RESUME,
-                user);
-        fileStorageRepository.save(fileStorage);
+        // Read the upload once: one copy goes to Tebi while the other is parsed
+        FileStorage fileStorage;
+        ParsedResumeData parsedData = null;
+        AiServiceException parseError = null;
+        try (InputStream source = file.getInputStream(); StreamTee tee = new StreamTee(source, 2)) {
+            CompletableFuture<FileStorage> upload = CompletableFuture.supplyAsync(() -> {
+                try (StreamTee.Branch content = tee.branch(0)) {
+                    return storeResume(content, file.getSize(), file.getName(), file.getOriginalFilename(),
+                            file.getContentType(), user);
+                }
+            }, uploadExecutor);
+
+            // Read on the extractor's own thread; closing here after a timeout makes a parse still running fail fast
+            try (StreamTee.Branch content = tee.branch(1)) {
+                parsedData = parseResume(content, file.getContentType());
+            } catch (AiServiceException e) {
+                // Reported once the upload has finished, as when the two ran one after the other
+                parseError = e;
+            }
 
-        // Parse the resume
-        ParsedResumeData parsedData = parseResume(file);
+            try {
+                fileStorage = upload.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        if (parseError != null) {
+            throw parseError;
+        }
 
         // Return enhanced result
         EnhancedParseResult result = new EnhancedParseResult();
         result.setParsedData(parsedData);
         result.setFileStorage(fileStorage);
-        result.setFileUrl(fileUrl);
+        result.setFileUrl(fileStorage.getFileUrl());
 
         return result;
     }
 
+    /**
+     * Upload a resume to Tebi and record its metadata
+     * 
+     * @param content          Resume content; not closed
+     * @param size             Content length in bytes
+     * @param fileName         Name of the upload field
+     * @param originalFileName Name of the file on the client
+     * @param contentType      MIME type of the resume
+     * @param user             The user who uploaded the resume
+     * @return The saved file metadata
+     */
+    public FileStorage storeResume(InputStream content, long size, String fileName, String originalFileName,
+            String contentType, User user) {
+        String fileUrl = fileStorageService.uploadResume(content, size, originalFileName, contentType, user.getId());
+        String filePath = fileStorageService.extractFilePathFromUrl(fileUrl);
+
+        FileStorage fileStorage = new FileStorage(
+                fileName,
+                originalFileName,
+                fileUrl,
+                filePath,
+                contentType,
+                size,
+                FileStorage.FileCategory.RESUME,
+                user);
+        return fileStorageRepository.save(fileStorage);
+    }
+
     /**
      * Get user's latest resume
      */
@@ -0,0 +1,274 @@
+package org.jobai.skillbridge.service;
+
+import jakarta.annotation.PostConstruct;
+import org.jobai.skillbridge.event.JobPostChangedEvent;
+import org.jobai.skillbridge.event.ProfileChangedEvent;
+import org.jobai.skillbridge.model.JobPost;
+import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.model.UserRole;
+import org.jobai.skillbridge.repo.JobRepo;
+import org.jobai.skillbridge.repo.UserRepository;
+import org.jobai.skillbridge.service.CandidateProfileLoader.CandidateProfile;
+import org.jobai.skillbridge.util.DirtySet;
+import org.jobai.skillbridge.util.HnswIndex;
+import org.jobai.skillbridge.util.HnswIndex.Neighbor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Embedding index of job descriptions and candidate profiles.
+ *
+ * Every job and every job seeker is embedded once with the configured
+ * {@link EmbeddingProvider} and kept in an in-process {@link HnswIndex}, so
+ * "the 50 candidates most similar to this job" is an approximate nearest
+ * neighbour query instead of one LLM prompt per candidate. Candidates are
+ * embedded from the same profile text the LLM scorer sees.
+ *
+ * The index is rebuilt in the background when the application starts and is
+ * kept current by re-embedding changed jobs and profiles on a schedule.
+ */
+@Service
+public class SemanticIndexService {
+
+    @Value("${matching.semantic.hnsw.m:16}")
+    private int maxNeighbors;
+
+    @Value("${matching.semantic.hnsw.ef-construction:200}")
+    private int efConstruction;
+
+    @Value("${matching.semantic.hnsw.ef-search:64}")
+    private int efSearch;
+
+    @Value("${matching.profile-loader.chunk-size:1000}")
+    private int chunkSize;
+
+    @Autowired
+    private EmbeddingProvider embeddingProvider;
+
+    @Autowired
+    private JobRepo jobRepo;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CandidateProfileLoader candidateProfileLoader;
+
+    private HnswIndex<Integer> jobIndex;
+    private HnswIndex<Long> candidateIndex;
+    private volatile boolean ready;
+
+    private final DirtySet<Integer> dirtyJobs = new DirtySet<>("job embedding");
+    private final DirtySet<Long> dirtyCandidates = new DirtySet<>("candidate embedding");
+
+    @PostConstruct
+    public void initialize() {
+        int dimensions = embeddingProvider.getDimensions();
+        jobIndex = new HnswIndex<>(dimensions, maxNeighbors, efConstruction, efSearch, 42);
+        candidateIndex = new HnswIndex<>(dimensions, maxNeighbors, efConstruction, efSearch, 42);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        Thread.ofVirtual().name("semantic-index-rebuild").start(this::rebuild);
+    }
+
+    /**
+     * Embed every job and job seeker
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            List<JobPost> jobs = jobRepo.findAll();
+            List<float[]> jobVectors = embeddingProvider.embedAll(jobs.stream().map(SemanticIndexService::jobText)
+                    .toList());
+            for (int i = 0; i < jobs.size(); i++) {
+                jobIndex.add(jobs.get(i).getId(), jobVectors.get(i));
+            }
+
+            List<User> candidates = userRepository.findByRole(UserRole.JOB_SEEKER);
+            int size = Math.max(1, chunkSize);
+            for (int from = 0; from < candidates.size(); from += size) {
+                indexCandidates(candidates.subList(from, Math.min(candidates.size(), from + size)));
+            }
+
+            ready = true;
+            System.out.println("Semantic index built with " + embeddingProvider.getName() + ": "
+                    + jobIndex.size() + " jobs, " + candidateIndex.size() + " candidates in "
+                    + (System.currentTimeMillis() - start) + "ms");
+        } catch (Exception e) {
+            System.err.println("Failed to build semantic index: " + e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        dirtyJobs.add(event.getJobId());
+    }
+
+    @EventListener
+    public void onProfileChanged(ProfileChangedEvent event) {
+        dirtyCandidates.add(event.getUserId());
+    }
+
+    /**
+     * Re-embed every job and candidate marked dirty since the last run
+     */
+    @Scheduled(fixedDelayString = "${matching.semantic.refresh-interval-ms:2000}")
+    public void refreshDirty() {
+        if (!ready) {
+            return; // The startup rebuild reads current data anyway
+        }
+        dirtyJobs.drain(this::refreshJob);
+        dirtyCandidates.drain(this::refreshCandidate);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Candidates whose profiles are most similar to a job
+     *
+     * @param jobPost The job posting
+     * @param limit   Maximum number of candidates
+     * @return Candidate user IDs with their cosine similarity, most similar first
+     */
+    public List<Neighbor<Long>> findSimilarCandidates(JobPost jobPost, int limit) {
+        float[] query = jobVector(jobPost);
+        return query != null ? candidateIndex.search(query, limit) : Collections.emptyList();
+    }
+
+    /**
+     * Semantic scores of candidates against a job, as a drop-in replacement
+     * for {@link BatchSemanticScorer#scoreCandidates}
+     *
+     * @param jobPost The job posting
+     * @param userIds Candidate user IDs
+     * @return Similarity between 0.0 and 1.0 per candidate, in the same order;
+     *         candidates that are not indexed get a neutral score
+     */
+    public double[] scoreCandidates(JobPost jobPost, List<Long> userIds) {
+        double[] scores = neutralScores(userIds.size());
+        float[] job = safeJobVector(jobPost);
+        if (job != null) {
+            for (int i = 0; i < userIds.size(); i++) {
+                float[] candidate = candidateIndex.get(userIds.get(i));
+                if (candidate != null) {
+                    scores[i] = toScore(job, candidate);
+                }
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Semantic scores of jobs against a candidate, as a drop-in replacement
+     * for {@link BatchSemanticScorer#scoreJobs}
+     *
+     * @param userId The candidate's user ID
+     * @param jobs   The job postings
+     * @return Similarity between 0.0 and 1.0 per job, in the same order; a
+     *         candidate that is not indexed gets neutral scores
+     */
+    public double[] scoreJobs(Long userId, List<JobPost> jobs) {
+        double[] scores = neutralScores(jobs.size());
+        float[] candidate = candidateIndex.get(userId);
+        if (candidate != null) {
+            for (int i = 0; i < jobs.size(); i++) {
+                float[] job = safeJobVector(jobs.get(i));
+                if (job != null) {
+                    scores[i] = toScore(job, candidate);
+                }
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Text a job is embedded from
+     *
+     * @param jobPost The job posting
+     * @return Title and description
+     */
+    static String jobText(JobPost jobPost) {
+        StringBuilder text = new StringBuilder();
+        if (jobPost.getTitle() != null) {
+            text.append(jobPost.getTitle()).append("\n");
+        }
+        if (jobPost.getDescription() != null) {
+            text.append(jobPost.getDescription());
+        }
+        return text.toString();
+    }
+
+    private float[] jobVector(JobPost jobPost) {
+        float[] vector = jobPost.getId() != null ? jobIndex.get(jobPost.getId()) : null;
+        if (vector == null) {
+            // Not indexed yet (new or unsaved job)
+            vector = embeddingProvider.embed(jobText(jobPost));
+        }
+        return vector;
+    }
+
+    private float[] safeJobVector(JobPost jobPost) {
+        try {
+            return jobVector(jobPost);
+        } catch (Exception e) {
+            System.err.println("Failed to embed job " + jobPost.getId() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static double toScore(float[] a, float[] b) {
+        return Math.max(0.0, Math.min(1.0, HnswIndex.cosine(a, b)));
+    }
+
+    private static double[] neutralScores(int length) {
+        double[] scores = new double[length];
+        Arrays.fill(scores, BatchSemanticScorer.DEFAULT_SCORE);
+        return scores;
+    }
+
+    private void refreshJob(Integer jobId) {
+        JobPost job = jobRepo.findById(jobId).orElse(null);
+        if (job == null) {
+            jobIndex.remove(jobId);
+        } else {
+            jobIndex.add(jobId, embeddingProvider.embed(jobText(job)));
+        }
+    }
+
+    private void refreshCandidate(Long userId) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null || user.getRole() != UserRole.JOB_SEEKER) {
+            candidateIndex.remove(userId);
+        } else {
+            indexCandidates(List.of(user));
+        }
+    }
+
+    private void indexCandidates(List<User> candidates) {
+        Map<Long, CandidateProfile> profiles = candidateProfileLoader.load(candidates);
+        List<String> texts = new ArrayList<>(candidates.size());
+        for (User candidate : candidates) {
+            texts.add(AdvancedCandidateMatchingService.buildCandidateProfile(candidate,
+                    profiles.getOrDefault(candidate.getId(), new CandidateProfile())));
+        }
+
+        List<float[]> vectors = embeddingProvider.embedAll(texts);
+        for (int i = 0; i < candidates.size(); i++) {
+            candidateIndex.add(candidates.get(i).getId(), vectors.get(i));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.jobai.skillbridge.service;
+
+import org.jobai.skillbridge.util.SkillVector;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns normalized skill names to dense integer ids so skill sets can be
+ * represented as {@link SkillVector}s.
+ *
+ * Ids are assigned in first-seen order and are only stable for the lifetime
+ * of the process; never persist them.
+ */
+@Service
+public class SkillDictionary {
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Id of a skill, assigning a new one if the skill has not been seen
+     *
+     * @param skillName Raw skill name
+     * @return Skill id, or -1 when the name is blank
+     */
+    public int idOf(String skillName) {
+        String term = SkillIndex.normalize(skillName);
+        if (term.isEmpty()) {
+            return -1;
+        }
+        return ids.computeIfAbsent(term, t -> nextId.getAndIncrement());
+    }
+
+    /**
+     * Build the vector for a collection of skill names
+     *
+     * @param skillNames Raw skill names
+     * @return Vector of interned ids
+     */
+    public SkillVector vectorOf(Collection<String> skillNames) {
+        if (skillNames == null || skillNames.isEmpty()) {
+            return SkillVector.EMPTY;
+        }
+        int[] skillIds = new int[skillNames.size()];
+        int count = 0;
+        for (String name : skillNames) {
+            int id = idOf(name);
+            if (id >= 0) {
+                skillIds[count++] = id;
+            }
+        }
+        return SkillVector.of(count == skillIds.length ? skillIds : Arrays.copyOf(skillIds, count));
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,250 @@
+package org.jobai.skillbridge.service;
+
+import org.jobai.skillbridge.event.JobPostChangedEvent;
+import org.jobai.skillbridge.event.ProfileChangedEvent;
+import org.jobai.skillbridge.model.JobPost;
+import org.jobai.skillbridge.model.Skill;
+import org.jobai.skillbridge.repo.JobRepo;
+import org.jobai.skillbridge.repo.SkillRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index between normalized skill terms, job seekers and
+ * job posts.
+ *
+ * Users are indexed by their skill names; jobs by every word n-gram (up to
+ * {@link #MAX_NGRAM} words) of their requirements, so a skill such as
+ * "spring boot" matches a requirement like "3+ years of Spring Boot". Matching
+ * a job then only touches the users that share at least one term with it.
+ *
+ * The index is built when the application starts and kept current through
+ * {@link ProfileChangedEvent} and {@link JobPostChangedEvent}.
+ */
+@Service
+public class SkillIndex {
+
+    static final int MAX_NGRAM = 3;
+
+    private static final Pattern NON_TERM_CHARS = Pattern.compile("[^a-z0-9+#.]+");
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private JobRepo jobRepo;
+
+    private final Map<String, Set<Long>> usersByTerm = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> termsByUser = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> jobsByTerm = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<String>> termsByJob = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        Map<Long, Set<String>> skillsByUser = new HashMap<>();
+        for (Object[] row : skillRepository.findAllUserSkillNames()) {
+            skillsByUser.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((String) row[1]);
+        }
+
+        Map<Integer, Set<String>> requirementsByJob = new HashMap<>();
+        for (Object[] row : jobRepo.findAllRequirements()) {
+            requirementsByJob.computeIfAbsent((Integer) row[0], id -> new HashSet<>()).add((String) row[1]);
+        }
+
+        skillsByUser.forEach(this::indexUser);
+        requirementsByJob.forEach(this::indexJob);
+
+        System.out.println("Skill index built: " + termsByUser.size() + " users, " + termsByJob.size()
+                + " jobs, " + (usersByTerm.size() + jobsByTerm.size()) + " terms in "
+                + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        if (event.getSection() != ProfileChangedEvent.Section.SKILLS) {
+            return;
+        }
+        List<Skill> skills = skillRepository.findByUserId(event.getUserId());
+        indexUser(event.getUserId(), skills.stream().map(Skill::getName).toList());
+    }
+
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        JobPost job = event.isDeleted() ? null : jobRepo.findById(event.getJobId()).orElse(null);
+        if (job == null) {
+            removeJob(event.getJobId());
+        } else {
+            indexJob(job.getId(), job.getRequirements());
+        }
+    }
+
+    /**
+     * Replace the indexed skills of a user
+     *
+     * @param userId     The user ID
+     * @param skillNames The user's skill names
+     */
+    public void indexUser(Long userId, Collection<String> skillNames) {
+        Set<String> terms = new HashSet<>();
+        if (skillNames != null) {
+            for (String name : skillNames) {
+                String term = normalize(name);
+                if (!term.isEmpty()) {
+                    terms.add(term);
+                }
+            }
+        }
+        replace(userId, terms, termsByUser, usersByTerm);
+    }
+
+    /**
+     * Replace the indexed requirements of a job
+     *
+     * @param jobId        The job ID
+     * @param requirements The job's requirement lines
+     */
+    public void indexJob(Integer jobId, Collection<String> requirements) {
+        replace(jobId, jobTerms(requirements), termsByJob, jobsByTerm);
+    }
+
+    public void removeUser(Long userId) {
+        replace(userId, Collections.emptySet(), termsByUser, usersByTerm);
+    }
+
+    public void removeJob(Integer jobId) {
+        replace(jobId, Collections.emptySet(), termsByJob, jobsByTerm);
+    }
+
+    /**
+     * Users sharing at least one term with a job
+     *
+     * @param jobId The job ID
+     * @return Candidate user IDs
+     */
+    public Set<Long> findCandidateIds(Integer jobId) {
+        Set<Long> candidates = new HashSet<>();
+        for (String term : getJobTerms(jobId)) {
+            candidates.addAll(usersByTerm.getOrDefault(term, Collections.emptySet()));
+        }
+        return candidates;
+    }
+
+    /**
+     * Jobs sharing at least one term with a user
+     *
+     * @param userId The user ID
+     * @return Job IDs
+     */
+    public Set<Integer> findJobIds(Long userId) {
+        Set<Integer> jobs = new HashSet<>();
+        for (String term : getUserTerms(userId)) {
+            jobs.addAll(jobsByTerm.getOrDefault(term, Collections.emptySet()));
+        }
+        return jobs;
+    }
+
+    public Set<String> getUserTerms(Long userId) {
+        return termsByUser.getOrDefault(userId, Collections.emptySet());
+    }
+
+    public Set<String> getJobTerms(Integer jobId) {
+        return termsByJob.getOrDefault(jobId, Collections.emptySet());
+    }
+
+    /**
+     * Normalize a skill name or requirement fragment into an index term
+     *
+     * @param text Raw text
+     * @return Lower-case term with punctuation collapsed to single spaces
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String term = NON_TERM_CHARS.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+        // Keep "node.js" and "c++" but drop sentence punctuation
+        while (term.endsWith(".")) {
+            term = term.substring(0, term.length() - 1).trim();
+        }
+        return term;
+    }
+
+    /**
+     * Terms of a job: every word n-gram of its requirement lines
+     *
+     * @param requirements The job's requirement lines
+     * @return Set of terms
+     */
+    public static Set<String> jobTerms(Collection<String> requirements) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (requirements == null) {
+            return terms;
+        }
+        for (String requirement : requirements) {
+            String normalized = normalize(requirement);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            String[] words = normalized.split(" ");
+            for (int i = 0; i < words.length; i++) {
+                StringBuilder gram = new StringBuilder();
+                for (int n = 0; n < MAX_NGRAM && i + n < words.length; n++) {
+                    if (n > 0) {
+                        gram.append(' ');
+                    }
+                    gram.append(words[i + n]);
+                    String term = normalize(gram.toString());
+                    if (!term.isEmpty()) {
+                        terms.add(term);
+                    }
+                }
+            }
+        }
+        return terms;
+    }
+
+    private static <K> void replace(K key, Set<String> newTerms, Map<K, Set<String>> termsByKey,
+            Map<String, Set<K>> keysByTerm) {
+        synchronized (termsByKey) {
+            Set<String> oldTerms = termsByKey.getOrDefault(key, Collections.emptySet());
+
+            for (String term : oldTerms) {
+                if (!newTerms.contains(term)) {
+                    keysByTerm.computeIfPresent(term, (t, keys) -> {
+                        keys.remove(key);
+                        return keys.isEmpty() ? null : keys;
+                    });
+                }
+            }
+            for (String term : newTerms) {
+                keysByTerm.computeIfAbsent(term, t -> ConcurrentHashMap.newKeySet()).add(key);
+            }
+
+            if (newTerms.isEmpty()) {
+                termsByKey.remove(key);
+            } else {
+                termsByKey.put(key, Collections.unmodifiableSet(new HashSet<>(newTerms)));
+            }
+        }
+    }
+}
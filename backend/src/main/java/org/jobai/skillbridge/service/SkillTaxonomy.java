@@ -0,0 +1,173 @@
+package org.jobai.skillbridge.service;
+
+import jakarta.annotation.PostConstruct;
+import org.jobai.skillbridge.util.AhoCorasickMatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Dictionary of known skills, used to find the skills mentioned in a resume.
+ *
+ * The taxonomy is loaded from {@code document.resume.skill-taxonomy}, a text
+ * file with one skill per line:
+ *
+ * <pre>
+ * [Category]
+ * Canonical Name|alias;another alias
+ * ~Ambiguous Name|alias
+ * </pre>
+ *
+ * A {@code [Category]} line applies to the skills below it and lines
+ * starting with {@code #} are comments. The canonical name is matched as
+ * well as the aliases, except for names starting with {@code ~}, which are
+ * common words (e.g. "Go") and only found through their aliases. All names
+ * and aliases are compiled into one {@link AhoCorasickMatcher}, so a resume
+ * is scanned once no matter how large the taxonomy is.
+ */
+@Service
+public class SkillTaxonomy {
+
+    @Value("${document.resume.skill-taxonomy:classpath:skills/skill-taxonomy.txt}")
+    private Resource taxonomy;
+
+    private volatile AhoCorasickMatcher<Entry> matcher = new AhoCorasickMatcher<>(Collections.emptyMap());
+
+    @PostConstruct
+    public void initialize() throws IOException {
+        try (Reader reader = new InputStreamReader(taxonomy.getInputStream(), StandardCharsets.UTF_8)) {
+            load(reader);
+        }
+        System.out.println("Loaded skill taxonomy with " + matcher.size() + " names and aliases from "
+                + taxonomy.getDescription());
+    }
+
+    /**
+     * Replace the taxonomy
+     *
+     * @param reader Taxonomy in the format described above
+     * @throws IOException If the taxonomy cannot be read
+     */
+    public void load(Reader reader) throws IOException {
+        matcher = new AhoCorasickMatcher<>(parse(reader));
+    }
+
+    /**
+     * Skills mentioned in a text
+     *
+     * @param text The text, e.g. a resume
+     * @return Distinct skills in order of first mention
+     */
+    public List<Entry> findSkills(String text) {
+        Set<Entry> skills = new LinkedHashSet<>();
+        for (AhoCorasickMatcher.Match<Entry> match : matcher.find(text)) {
+            skills.add(match.getValue());
+        }
+        return new ArrayList<>(skills);
+    }
+
+    /**
+     * Number of names and aliases in the taxonomy
+     */
+    public int size() {
+        return matcher.size();
+    }
+
+    /**
+     * Parse a taxonomy file
+     *
+     * @param reader Taxonomy in the format described above
+     * @return Skill per lower-case name and alias, in file order
+     * @throws IOException If the taxonomy cannot be read
+     */
+    static Map<String, Entry> parse(Reader reader) throws IOException {
+        Map<String, Entry> phrases = new LinkedHashMap<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String category = "Other";
+        String line;
+        while ((line = lines.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            if (line.startsWith("[") && line.endsWith("]")) {
+                category = line.substring(1, line.length() - 1).trim();
+                continue;
+            }
+
+            String[] parts = line.split("\\|", 2);
+            String name = parts[0].trim();
+            boolean aliasesOnly = name.startsWith("~");
+            if (aliasesOnly) {
+                name = name.substring(1).trim();
+            }
+            Entry entry = new Entry(name, category);
+            if (!aliasesOnly) {
+                putIfAbsent(phrases, name, entry);
+            }
+            if (parts.length > 1) {
+                for (String alias : parts[1].split(";")) {
+                    putIfAbsent(phrases, alias.trim(), entry);
+                }
+            }
+        }
+        return phrases;
+    }
+
+    // The first skill to claim a name keeps it; the matcher ignores case, so names are keyed in lower case
+    private static void putIfAbsent(Map<String, Entry> phrases, String phrase, Entry entry) {
+        if (!phrase.isEmpty()) {
+            phrases.putIfAbsent(phrase.toLowerCase(Locale.ROOT), entry);
+        }
+    }
+
+    /**
+     * A skill of the taxonomy
+     */
+    public static class Entry {
+        private final String name;
+        private final String category;
+
+        public Entry(String name, String category) {
+            this.name = name;
+            this.category = category;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry other = (Entry) o;
+            return name.equals(other.name) && category.equals(other.category);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, category);
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + category + ")";
+        }
+    }
+}
@@ -60,15 +60,38 @@ public class TebiFileStorageService {
             throw new IllegalArgumentException("File cannot be empty");
         }
 
-        String fileName = generateFileName(file.getOriginalFilename(), userId);
+        try (InputStream content = file.getInputStream()) {
+            return uploadFile(content, file.getSize(), file.getOriginalFilename(), file.getContentType(), folder,
+                    userId);
+        }
+    }
+
+    /**
+     * Upload file content to Tebi storage
+     * 
+     * @param content          The file content; not closed
+     * @param size             Content length in bytes
+     * @param originalFileName Name of the file on the client, for its extension
+     * @param contentType      MIME type of the file
+     * @param folder           The folder path (e.g., "resumes", "documents")
+     * @param userId           The user ID for organization
+     * @return The URL of the uploaded file
+     */
+    public String uploadFile(InputStream content, long size, String originalFileName, String contentType,
+            String folder, Long userId) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("File cannot be empty");
+        }
+
+        String fileName = generateFileName(originalFileName, userId);
         String keyPath = folder + "/" + userId + "/" + fileName;
 
         try {
             ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentLength(file.getSize());
-            metadata.setContentType(file.getContentType());
+            metadata.setContentLength(size);
+            metadata.setContentType(contentType);
 
-            PutObjectRequest request = new PutObjectRequest(bucketName, keyPath, file.getInputStream(), metadata);
+            PutObjectRequest request = new PutObjectRequest(bucketName, keyPath, content, metadata);
             request.setCannedAcl(CannedAccessControlList.PublicRead);
 
             s3Client.putObject(request);
@@ -90,6 +113,21 @@ public class TebiFileStorageService {
         return uploadFile(file, "resumes", userId);
     }
 
+    /**
+     * Upload resume content
+     * 
+     * @param content          The resume content; not closed
+     * @param size             Content length in bytes
+     * @param originalFileName Name of the file on the client
+     * @param contentType      MIME type of the resume
+     * @param userId           The user ID
+     * @return The URL of the uploaded resume
+     */
+    public String uploadResume(InputStream content, long size, String originalFileName, String contentType,
+            Long userId) {
+        return uploadFile(content, size, originalFileName, contentType, "resumes", userId);
+    }
+
     /**
      * Upload profile picture
      * 
@@ -0,0 +1,78 @@
+package org.jobai.skillbridge.service;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Incremental maintenance of a stored top-N list, such as the candidate
+ * matches of a job or the recommendation feed of a user: one entry is added,
+ * rescored or removed and the list is trimmed back to size, writing only the
+ * rows that change.
+ */
+final class TopNRows {
+
+    private TopNRows() {
+    }
+
+    /**
+     * Put one entry into a stored list, or take it out
+     *
+     * @param repository Repository of the rows
+     * @param rows       Stored rows of the list
+     * @param isEntry    Matches the row of the entry
+     * @param newRow     Creates the row of an entry not stored yet
+     * @param copy       Writes the entry's new score into its row; null removes the entry
+     * @param bestFirst  Ranking of the list
+     * @param size       Number of rows to keep
+     */
+    static <R> void update(JpaRepository<R, Long> repository, List<R> rows, Predicate<R> isEntry,
+            Supplier<R> newRow, Consumer<R> copy, Comparator<? super R> bestFirst, int size) {
+        List<R> stored = new ArrayList<>(rows);
+        R row = stored.stream().filter(isEntry).findFirst().orElse(null);
+
+        if (copy == null) {
+            if (row != null) {
+                repository.delete(row);
+            }
+            return;
+        }
+
+        boolean isNew = row == null;
+        if (isNew) {
+            row = newRow.get();
+            stored.add(row);
+        }
+        copy.accept(row);
+
+        List<R> overflow = overflow(stored, bestFirst, size);
+        if (overflow.remove(row)) {
+            // Does not make the cut; a row never stored needs no delete
+            if (!isNew) {
+                repository.delete(row);
+            }
+        } else {
+            repository.save(row);
+        }
+        repository.deleteAll(overflow);
+    }
+
+    /**
+     * Rows that no longer fit in a list once ranked
+     *
+     * @param rows      Rows of one list
+     * @param bestFirst Ranking of the list
+     * @param size      Number of rows to keep
+     * @return Rows to remove
+     */
+    static <R> List<R> overflow(List<R> rows, Comparator<? super R> bestFirst, int size) {
+        List<R> ranked = new ArrayList<>(rows);
+        ranked.sort(bestFirst);
+        return ranked.size() > size ? new ArrayList<>(ranked.subList(size, ranked.size())) : new ArrayList<>();
+    }
+}
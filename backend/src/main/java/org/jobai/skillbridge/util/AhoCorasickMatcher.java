@@ -0,0 +1,249 @@
+package org.jobai.skillbridge.util;
+
+import java.util.*;
+
+/**
+ * Finds all occurrences of a fixed set of phrases in a text in a single pass,
+ * using an Aho-Corasick automaton, in O(text length + number of matches)
+ * regardless of how many phrases there are.
+ *
+ * Matching ignores case. A phrase only matches as a whole word: a phrase that
+ * starts (ends) with a letter or digit must not be preceded (followed) by
+ * one, so "git" does not match inside "digital" while "c++" still matches in
+ * "c++17". Where matches overlap the leftmost one wins, and among those
+ * starting at the same position the longest, so "spring boot" is reported
+ * instead of "spring".
+ *
+ * Immutable and thread-safe once built.
+ *
+ * @param <V> Value attached to each phrase
+ */
+public class AhoCorasickMatcher<V> {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    // Per state: sorted labels of outgoing edges and their target states
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failure;
+    // Nearest state on the failure chain (excluding the state itself) that ends a phrase
+    private final int[] outputLink;
+    // Phrase ending in the state, or NONE
+    private final int[] phraseAt;
+    private final int[] depth;
+
+    private final List<V> values;
+    private final boolean[] leadingWordChar;
+    private final boolean[] trailingWordChar;
+
+    /**
+     * @param phrases Phrases to find and their values; blank phrases are
+     *                ignored, and of phrases equal ignoring case the first wins
+     */
+    public AhoCorasickMatcher(Map<String, V> phrases) {
+        List<Map<Character, Integer>> edges = new ArrayList<>();
+        List<Integer> phraseOf = new ArrayList<>();
+        List<Integer> depthOf = new ArrayList<>();
+        edges.add(new HashMap<>());
+        phraseOf.add(NONE);
+        depthOf.add(0);
+
+        values = new ArrayList<>();
+        List<Boolean> leading = new ArrayList<>();
+        List<Boolean> trailing = new ArrayList<>();
+        for (Map.Entry<String, V> entry : phrases.entrySet()) {
+            String phrase = entry.getKey() != null ? entry.getKey().trim() : "";
+            if (phrase.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < phrase.length(); i++) {
+                char c = normalize(phrase.charAt(i));
+                Integer next = edges.get(state).get(c);
+                if (next == null) {
+                    next = edges.size();
+                    edges.get(state).put(c, next);
+                    edges.add(new HashMap<>());
+                    phraseOf.add(NONE);
+                    depthOf.add(depthOf.get(state) + 1);
+                }
+                state = next;
+            }
+            if (phraseOf.get(state) == NONE) {
+                phraseOf.set(state, values.size());
+                values.add(entry.getValue());
+                leading.add(isWordChar(phrase.charAt(0)));
+                trailing.add(isWordChar(phrase.charAt(phrase.length() - 1)));
+            }
+        }
+
+        int states = edges.size();
+        labels = new char[states][];
+        targets = new int[states][];
+        phraseAt = new int[states];
+        depth = new int[states];
+        for (int state = 0; state < states; state++) {
+            Map<Character, Integer> out = edges.get(state);
+            char[] stateLabels = new char[out.size()];
+            int i = 0;
+            for (char c : out.keySet()) {
+                stateLabels[i++] = c;
+            }
+            Arrays.sort(stateLabels);
+            int[] stateTargets = new int[stateLabels.length];
+            for (i = 0; i < stateLabels.length; i++) {
+                stateTargets[i] = out.get(stateLabels[i]);
+            }
+            labels[state] = stateLabels;
+            targets[state] = stateTargets;
+            phraseAt[state] = phraseOf.get(state);
+            depth[state] = depthOf.get(state);
+        }
+
+        leadingWordChar = new boolean[values.size()];
+        trailingWordChar = new boolean[values.size()];
+        for (int i = 0; i < values.size(); i++) {
+            leadingWordChar[i] = leading.get(i);
+            trailingWordChar[i] = trailing.get(i);
+        }
+
+        // Failure and output links, breadth first so shallower states are done first
+        failure = new int[states];
+        outputLink = new int[states];
+        outputLink[ROOT] = NONE;
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            failure[child] = ROOT;
+            outputLink[child] = NONE;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < labels[state].length; i++) {
+                char c = labels[state][i];
+                int child = targets[state][i];
+                int fallback = failure[state];
+                while (fallback != ROOT && next(fallback, c) == NONE) {
+                    fallback = failure[fallback];
+                }
+                int target = next(fallback, c);
+                failure[child] = target != NONE ? target : ROOT;
+                outputLink[child] = phraseAt[failure[child]] != NONE ? failure[child] : outputLink[failure[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Number of distinct phrases
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Find the phrases in a text
+     *
+     * @param text The text to search
+     * @return Non-overlapping matches in text order
+     */
+    public List<Match<V>> find(CharSequence text) {
+        List<Match<V>> matches = new ArrayList<>();
+        if (text == null || values.isEmpty()) {
+            return matches;
+        }
+
+        int length = text.length();
+        int state = ROOT;
+        for (int i = 0; i < length; i++) {
+            char c = normalize(text.charAt(i));
+            int target = next(state, c);
+            while (target == NONE && state != ROOT) {
+                state = failure[state];
+                target = next(state, c);
+            }
+            state = target != NONE ? target : ROOT;
+
+            // Longest phrase ending here first, then shorter suffixes
+            int output = phraseAt[state] != NONE ? state : outputLink[state];
+            for (; output != NONE; output = outputLink[output]) {
+                int phrase = phraseAt[output];
+                int start = i + 1 - depth[output];
+                int end = i + 1;
+                if (leadingWordChar[phrase] && start > 0 && isWordChar(text.charAt(start - 1))) {
+                    continue;
+                }
+                if (trailingWordChar[phrase] && end < length && isWordChar(text.charAt(end))) {
+                    continue;
+                }
+                add(matches, new Match<>(start, end, values.get(phrase)));
+            }
+        }
+        return matches;
+    }
+
+    // Keep the leftmost-longest match among overlapping ones; matches arrive by end position
+    private static <V> void add(List<Match<V>> matches, Match<V> match) {
+        while (!matches.isEmpty()) {
+            Match<V> last = matches.get(matches.size() - 1);
+            if (match.start >= last.end) {
+                break;
+            }
+            if (match.start > last.start || (match.start == last.start && match.end <= last.end)) {
+                return;
+            }
+            // The new match starts earlier, or at the same place and is longer
+            matches.remove(matches.size() - 1);
+        }
+        matches.add(match);
+    }
+
+    private int next(int state, char c) {
+        int index = Arrays.binarySearch(labels[state], c);
+        return index >= 0 ? targets[state][index] : NONE;
+    }
+
+    private static char normalize(char c) {
+        return Character.isWhitespace(c) ? ' ' : Character.toLowerCase(c);
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    /**
+     * One occurrence of a phrase
+     *
+     * @param <V> Value attached to the phrase
+     */
+    public static class Match<V> {
+        private final int start;
+        private final int end;
+        private final V value;
+
+        public Match(int start, int end, V value) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+        }
+
+        /**
+         * @return Index of the first character in the text
+         */
+        public int getStart() {
+            return start;
+        }
+
+        /**
+         * @return Index after the last character in the text
+         */
+        public int getEnd() {
+            return end;
+        }
+
+        public V getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.jobai.skillbridge.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Keys whose derived data is out of date, refreshed in batches by a
+ * background task.
+ *
+ * Keys can be marked from any thread while a drain is running. A key is
+ * unmarked before it is refreshed, so a change arriving mid-refresh marks it
+ * again; a refresh that throws marks it again for the next drain.
+ *
+ * @param <K> Key type
+ */
+public class DirtySet<K> {
+
+    private final Set<K> keys = ConcurrentHashMap.newKeySet();
+    private final String description;
+
+    /**
+     * @param description What is refreshed, for log messages, e.g. "candidate matches"
+     */
+    public DirtySet(String description) {
+        this.description = description;
+    }
+
+    public void add(K key) {
+        keys.add(key);
+    }
+
+    public void addAll(Collection<? extends K> more) {
+        keys.addAll(more);
+    }
+
+    public boolean contains(K key) {
+        return keys.contains(key);
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * Refresh every key marked so far
+     *
+     * @param refresh Brings the data of one key up to date
+     */
+    public void drain(Consumer<K> refresh) {
+        List<K> failed = new ArrayList<>();
+        Iterator<K> iterator = keys.iterator();
+        while (iterator.hasNext()) {
+            K key = iterator.next();
+            iterator.remove();
+            try {
+                refresh.accept(key);
+            } catch (Exception e) {
+                System.err.println("Failed to refresh " + description + " for " + key + ": " + e.getMessage());
+                failed.add(key);
+            }
+        }
+        // Tried again on the next drain
+        keys.addAll(failed);
+    }
+}
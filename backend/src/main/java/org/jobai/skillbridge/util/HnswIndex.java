@@ -0,0 +1,395 @@
+package org.jobai.skillbridge.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process approximate nearest neighbour index over dense vectors
+ * (Hierarchical Navigable Small World graph, Malkov and Yashunin).
+ *
+ * Vectors are L2-normalized on insertion and compared by cosine similarity.
+ * Replacing or removing a key only marks its old node as deleted; deleted
+ * nodes keep routing searches but are never returned, and the graph is
+ * rebuilt from the live nodes once they outnumber them.
+ *
+ * Searches run concurrently; inserts and removals take an exclusive lock.
+ *
+ * @param <K> Key type
+ */
+public class HnswIndex<K> {
+
+    private final int dimensions;
+    private final int maxNeighbors;
+    private final int maxNeighborsLayer0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final Random random;
+    private volatile int efSearch;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+    private Node<K> entryPoint;
+    private int deletedNodes;
+
+    /**
+     * @param dimensions     Vector length
+     * @param maxNeighbors   Links per node on the upper layers (M); layer 0 keeps 2 x M
+     * @param efConstruction Candidate list size while inserting
+     * @param efSearch       Candidate list size while searching
+     * @param seed           Seed for level assignment, so builds are reproducible
+     */
+    public HnswIndex(int dimensions, int maxNeighbors, int efConstruction, int efSearch, long seed) {
+        if (dimensions <= 0 || maxNeighbors < 2) {
+            throw new IllegalArgumentException("dimensions must be positive and maxNeighbors at least 2");
+        }
+        this.dimensions = dimensions;
+        this.maxNeighbors = maxNeighbors;
+        this.maxNeighborsLayer0 = maxNeighbors * 2;
+        this.efConstruction = Math.max(efConstruction, maxNeighbors);
+        this.efSearch = Math.max(1, efSearch);
+        this.levelMultiplier = 1.0 / Math.log(maxNeighbors);
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Insert a vector, replacing any previous vector of the key
+     *
+     * @param key    The key
+     * @param vector Vector of {@link #getDimensions()} values
+     */
+    public void add(K key, float[] vector) {
+        float[] normalized = normalize(vector);
+
+        lock.writeLock().lock();
+        try {
+            markDeleted(nodes.remove(key));
+            Node<K> node = new Node<>(key, normalized, randomLevel());
+            nodes.put(key, node);
+            link(node);
+
+            if (deletedNodes > Math.max(64, nodes.size())) {
+                rebuild();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a key
+     *
+     * @param key The key
+     * @return Whether the key was present
+     */
+    public boolean remove(K key) {
+        lock.writeLock().lock();
+        try {
+            Node<K> node = nodes.remove(key);
+            markDeleted(node);
+            return node != null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the keys whose vectors are most similar to a query
+     *
+     * @param query Query vector
+     * @param k     Number of neighbours
+     * @return Up to k neighbours, most similar first
+     */
+    public List<Neighbor<K>> search(float[] query, int k) {
+        if (k <= 0) {
+            return Collections.emptyList();
+        }
+        float[] normalized = normalize(query);
+
+        lock.readLock().lock();
+        try {
+            if (entryPoint == null) {
+                return Collections.emptyList();
+            }
+
+            Node<K> current = entryPoint;
+            for (int level = entryPoint.level; level > 0; level--) {
+                current = greedyClosest(normalized, current, level);
+            }
+
+            List<Scored<K>> found = searchLayer(normalized, current, Math.max(efSearch, k), 0);
+            List<Neighbor<K>> neighbors = new ArrayList<>(k);
+            for (Scored<K> scored : found) {
+                if (!scored.node.deleted) {
+                    neighbors.add(new Neighbor<>(scored.node.key, scored.similarity));
+                    if (neighbors.size() == k) {
+                        break;
+                    }
+                }
+            }
+            return neighbors;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stored (normalized) vector of a key
+     *
+     * @param key The key
+     * @return Copy of the vector, or null when absent
+     */
+    public float[] get(K key) {
+        lock.readLock().lock();
+        try {
+            Node<K> node = nodes.get(key);
+            return node != null ? node.vector.clone() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(K key) {
+        lock.readLock().lock();
+        try {
+            return nodes.containsKey(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    public void setEfSearch(int efSearch) {
+        this.efSearch = Math.max(1, efSearch);
+    }
+
+    /**
+     * Cosine similarity of two vectors
+     */
+    public static double cosine(float[] a, float[] b) {
+        double dot = 0;
+        double normA = 0;
+        double normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        return normA == 0 || normB == 0 ? 0 : dot / Math.sqrt(normA * normB);
+    }
+
+    private void link(Node<K> node) {
+        if (entryPoint == null) {
+            entryPoint = node;
+            return;
+        }
+
+        Node<K> current = entryPoint;
+        for (int level = entryPoint.level; level > node.level; level--) {
+            current = greedyClosest(node.vector, current, level);
+        }
+
+        for (int level = Math.min(node.level, entryPoint.level); level >= 0; level--) {
+            List<Scored<K>> found = searchLayer(node.vector, current, efConstruction, level);
+            int limit = level == 0 ? maxNeighborsLayer0 : maxNeighbors;
+
+            for (int i = 0; i < found.size() && node.neighbors.get(level).size() < limit; i++) {
+                Node<K> neighbor = found.get(i).node;
+                node.neighbors.get(level).add(neighbor);
+                List<Node<K>> back = neighbor.neighbors.get(level);
+                back.add(node);
+                if (back.size() > limit) {
+                    prune(neighbor, level, limit);
+                }
+            }
+            current = found.get(0).node;
+        }
+
+        if (node.level > entryPoint.level) {
+            entryPoint = node;
+        }
+    }
+
+    // Keep only the closest links of a node on one layer
+    private void prune(Node<K> node, int level, int limit) {
+        List<Node<K>> links = node.neighbors.get(level);
+        links.sort(Comparator.comparingDouble((Node<K> other) -> dot(node.vector, other.vector)).reversed());
+        links.subList(limit, links.size()).clear();
+    }
+
+    private Node<K> greedyClosest(float[] query, Node<K> start, int level) {
+        Node<K> current = start;
+        double best = dot(query, current.vector);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (Node<K> neighbor : current.neighbors.get(level)) {
+                double similarity = dot(query, neighbor.vector);
+                if (similarity > best) {
+                    best = similarity;
+                    current = neighbor;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    private List<Scored<K>> searchLayer(float[] query, Node<K> entry, int ef, int level) {
+        Set<Node<K>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        // Frontier: most similar first; results: least similar first so the worst can be evicted
+        PriorityQueue<Scored<K>> frontier = new PriorityQueue<>(
+                Comparator.comparingDouble((Scored<K> s) -> s.similarity).reversed());
+        PriorityQueue<Scored<K>> results = new PriorityQueue<>(Comparator.comparingDouble(s -> s.similarity));
+
+        Scored<K> start = new Scored<>(entry, dot(query, entry.vector));
+        visited.add(entry);
+        frontier.add(start);
+        results.add(start);
+
+        while (!frontier.isEmpty()) {
+            Scored<K> closest = frontier.poll();
+            if (results.size() >= ef && closest.similarity < results.peek().similarity) {
+                break;
+            }
+            for (Node<K> neighbor : closest.node.neighbors.get(level)) {
+                if (!visited.add(neighbor)) {
+                    continue;
+                }
+                double similarity = dot(query, neighbor.vector);
+                if (results.size() < ef || similarity > results.peek().similarity) {
+                    Scored<K> scored = new Scored<>(neighbor, similarity);
+                    frontier.add(scored);
+                    results.add(scored);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+
+        List<Scored<K>> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparingDouble((Scored<K> s) -> s.similarity).reversed());
+        return sorted;
+    }
+
+    private void rebuild() {
+        List<Node<K>> live = new ArrayList<>(nodes.values());
+        nodes.clear();
+        entryPoint = null;
+        deletedNodes = 0;
+        for (Node<K> old : live) {
+            Node<K> node = new Node<>(old.key, old.vector, old.level);
+            nodes.put(node.key, node);
+            link(node);
+        }
+    }
+
+    private void markDeleted(Node<K> node) {
+        if (node != null) {
+            node.deleted = true;
+            deletedNodes++;
+        }
+    }
+
+    private int randomLevel() {
+        double uniform = 1.0 - random.nextDouble(); // (0, 1]
+        return (int) Math.floor(-Math.log(uniform) * levelMultiplier);
+    }
+
+    private float[] normalize(float[] vector) {
+        if (vector == null || vector.length != dimensions) {
+            throw new IllegalArgumentException("Expected a vector of " + dimensions + " dimensions");
+        }
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        float[] normalized = new float[dimensions];
+        if (norm > 0) {
+            float scale = (float) (1.0 / Math.sqrt(norm));
+            for (int i = 0; i < dimensions; i++) {
+                normalized[i] = vector[i] * scale;
+            }
+        }
+        return normalized;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private static final class Node<K> {
+        private final K key;
+        private final float[] vector;
+        private final int level;
+        private final List<List<Node<K>>> neighbors;
+        private volatile boolean deleted;
+
+        Node(K key, float[] vector, int level) {
+            this.key = key;
+            this.vector = vector;
+            this.level = level;
+            this.neighbors = new ArrayList<>(level + 1);
+            for (int i = 0; i <= level; i++) {
+                neighbors.add(new ArrayList<>());
+            }
+        }
+    }
+
+    private static final class Scored<K> {
+        private final Node<K> node;
+        private final double similarity;
+
+        Scored(Node<K> node, double similarity) {
+            this.node = node;
+            this.similarity = similarity;
+        }
+    }
+
+    /**
+     * Search result: a key and its cosine similarity to the query
+     */
+    public static final class Neighbor<K> {
+        private final K key;
+        private final double similarity;
+
+        public Neighbor(K key, double similarity) {
+            this.key = key;
+            this.similarity = similarity;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public double getSimilarity() {
+            return similarity;
+        }
+    }
+}
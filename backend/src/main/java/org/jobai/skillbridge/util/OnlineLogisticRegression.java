@@ -0,0 +1,82 @@
+package org.jobai.skillbridge.util;
+
+/**
+ * Logistic regression trained one example at a time with stochastic
+ * gradient descent.
+ *
+ * L2 regularization pulls the coefficients back towards their initial
+ * values rather than towards zero, so a handful of outcomes nudges a
+ * configured model instead of overwriting it.
+ *
+ * Not thread-safe; callers serialize updates.
+ */
+public class OnlineLogisticRegression {
+
+    private final double[] prior;
+    private final double[] coefficients;
+    private final double learningRate;
+    private final double regularization;
+    private double bias;
+    private long updates;
+
+    /**
+     * @param initialCoefficients Starting coefficient per feature
+     * @param initialBias         Starting intercept
+     * @param learningRate        SGD step size
+     * @param regularization      Strength of the pull towards the initial coefficients
+     */
+    public OnlineLogisticRegression(double[] initialCoefficients, double initialBias, double learningRate,
+            double regularization) {
+        this.prior = initialCoefficients.clone();
+        this.coefficients = initialCoefficients.clone();
+        this.bias = initialBias;
+        this.learningRate = learningRate;
+        this.regularization = regularization;
+    }
+
+    /**
+     * Probability of a positive outcome
+     *
+     * @param features Feature values, one per coefficient
+     * @return Probability between 0.0 and 1.0
+     */
+    public double predict(double[] features) {
+        double logit = bias;
+        for (int i = 0; i < coefficients.length; i++) {
+            logit += coefficients[i] * features[i];
+        }
+        return 1.0 / (1.0 + Math.exp(-logit));
+    }
+
+    /**
+     * Take one gradient step on an observed outcome
+     *
+     * @param features Feature values, one per coefficient
+     * @param positive Whether the outcome was positive
+     * @return Probability the model assigned to a positive outcome before the step
+     */
+    public double update(double[] features, boolean positive) {
+        double predicted = predict(features);
+        double error = (positive ? 1.0 : 0.0) - predicted;
+
+        for (int i = 0; i < coefficients.length; i++) {
+            double gradient = error * features[i] - regularization * (coefficients[i] - prior[i]);
+            coefficients[i] += learningRate * gradient;
+        }
+        bias += learningRate * error;
+        updates++;
+        return predicted;
+    }
+
+    public double[] getCoefficients() {
+        return coefficients.clone();
+    }
+
+    public double getBias() {
+        return bias;
+    }
+
+    public long getUpdates() {
+        return updates;
+    }
+}
@@ -0,0 +1,124 @@
+package org.jobai.skillbridge.util;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * The text of a resume split into lines once and grouped by section.
+ *
+ * A line is a section header when it is short, has no digits or contact
+ * details, and names a known section ("Work Experience", "Education:",
+ * "Technical Skills", ...). Every line after a header belongs to that
+ * section until the next header; lines before the first header are the
+ * {@link Section#CONTACT} block. A section that appears more than once is
+ * concatenated. Headers themselves are not part of any section.
+ *
+ * Classification happens in a single pass with precompiled patterns, so
+ * extractors work on their own slice instead of rescanning the document.
+ */
+public class ResumeSections {
+
+    public enum Section {
+        CONTACT, SUMMARY, EXPERIENCE, EDUCATION, SKILLS, PROJECTS, CERTIFICATIONS, OTHER
+    }
+
+    private static final Pattern LINE_BREAK = Pattern.compile("\\r\\n|[\\n\\r\\u2028\\u2029]");
+    private static final Pattern NOT_A_HEADER = Pattern.compile("[0-9@|]|https?:|www\\.");
+    private static final Pattern WORDS = Pattern.compile("[\\s&/,]+");
+    private static final int MAX_HEADER_LENGTH = 40;
+    private static final int MAX_HEADER_WORDS = 4;
+
+    // Checked in order; the first section whose pattern occurs in the header wins
+    private static final Map<Section, Pattern> HEADERS = new LinkedHashMap<>();
+
+    static {
+        HEADERS.put(Section.EXPERIENCE, header("experience|employment|work history|career history|internships"));
+        HEADERS.put(Section.EDUCATION, header("education|academic|qualifications?"));
+        HEADERS.put(Section.SKILLS, header("skills|technologies|competencies|tech stack|expertise|programming languages"));
+        HEADERS.put(Section.PROJECTS, header("projects"));
+        HEADERS.put(Section.CERTIFICATIONS, header("certifications?|certificates?|licen[cs]es|courses"));
+        HEADERS.put(Section.SUMMARY, header("summary|objective|profile|about( me)?"));
+        HEADERS.put(Section.OTHER, header("awards|honou?rs|publications|languages|interests|hobbies|references|volunteer(ing)?|activities"));
+    }
+
+    private final List<String> lines;
+    private final Map<Section, List<String>> sections = new EnumMap<>(Section.class);
+
+    private ResumeSections(List<String> lines) {
+        this.lines = lines;
+    }
+
+    /**
+     * Split a resume into sections
+     *
+     * @param content Resume text
+     * @return The sections, with lines trimmed and blank lines dropped
+     */
+    public static ResumeSections parse(String content) {
+        String[] raw = content != null ? LINE_BREAK.split(content) : new String[0];
+        List<String> lines = new ArrayList<>(raw.length);
+        ResumeSections result = new ResumeSections(Collections.unmodifiableList(lines));
+
+        List<String> current = result.slice(Section.CONTACT);
+        for (String line : raw) {
+            line = line.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            lines.add(line);
+            Section section = classify(line);
+            if (section != null) {
+                current = result.slice(section);
+            } else {
+                current.add(line);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Section named by a header line
+     *
+     * @param line A trimmed line
+     * @return The section, or null if the line is not a header
+     */
+    static Section classify(String line) {
+        if (line.length() > MAX_HEADER_LENGTH || NOT_A_HEADER.matcher(line).find()
+                || WORDS.split(line).length > MAX_HEADER_WORDS) {
+            return null;
+        }
+        for (Map.Entry<Section, Pattern> header : HEADERS.entrySet()) {
+            if (header.getValue().matcher(line).find()) {
+                return header.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * All non-blank lines, trimmed, in document order
+     */
+    public List<String> getLines() {
+        return lines;
+    }
+
+    /**
+     * Lines of a section
+     *
+     * @param section The section
+     * @return Its lines without the header, or an empty list if the resume has none
+     */
+    public List<String> get(Section section) {
+        List<String> slice = sections.get(section);
+        return slice != null ? Collections.unmodifiableList(slice) : Collections.emptyList();
+    }
+
+    private List<String> slice(Section section) {
+        return sections.computeIfAbsent(section, s -> new ArrayList<>());
+    }
+
+    // Keyword as a whole word anywhere in the header, ignoring case
+    private static Pattern header(String keywords) {
+        return Pattern.compile("\\b(?:" + keywords + ")\\b", Pattern.CASE_INSENSITIVE);
+    }
+}
@@ -0,0 +1,78 @@
+package org.jobai.skillbridge.util;
+
+import java.util.Arrays;
+
+/**
+ * Component scores of a whole candidate or job pool, stored as one array per
+ * component (struct of arrays) so {@link WeightedScoringKernel} can combine
+ * them in bulk without a result object per row.
+ */
+public class ScoreColumns {
+
+    public static final int SKILLS = 0;
+    public static final int EXPERIENCE = 1;
+    public static final int EDUCATION = 2;
+    public static final int LOCATION = 3;
+    public static final int AI = 4;
+    public static final int COUNT = 5;
+
+    private final int size;
+    private final double[][] columns;
+
+    /**
+     * @param size Number of rows
+     */
+    public ScoreColumns(int size) {
+        this.size = size;
+        this.columns = new double[COUNT][size];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double get(int row, int component) {
+        return columns[component][row];
+    }
+
+    public void set(int row, int component, double score) {
+        columns[component][row] = score;
+    }
+
+    /**
+     * Set one component to the same score on every row
+     *
+     * @param component Component index
+     * @param score     The score
+     */
+    public void fill(int component, double score) {
+        Arrays.fill(columns[component], score);
+    }
+
+    /**
+     * Copy a subset of rows
+     *
+     * @param rows Row indices to copy, in the order wanted
+     * @return New columns with one row per index
+     */
+    public ScoreColumns select(int[] rows) {
+        ScoreColumns selected = new ScoreColumns(rows.length);
+        for (int c = 0; c < COUNT; c++) {
+            for (int i = 0; i < rows.length; i++) {
+                selected.columns[c][i] = columns[c][rows[i]];
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Backing array of one component; rows are written by index, so
+     * concurrent writers must use disjoint rows
+     *
+     * @param component Component index
+     * @return The column
+     */
+    public double[] column(int component) {
+        return columns[component];
+    }
+}
@@ -0,0 +1,85 @@
+package org.jobai.skillbridge.util;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into a single execution.
+ *
+ * The first caller for a key runs the work; callers arriving while it is still
+ * in flight wait for and share its result. Once the call completes the key is
+ * released, so later calls run again (caching is a separate concern).
+ *
+ * @param <K> Key type
+ * @param <V> Result type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong collapsedCalls = new AtomicLong();
+
+    /**
+     * Run the work for a key, or join the call already in flight for it
+     *
+     * @param key  Deduplication key
+     * @param work The work to run
+     * @return Result of the shared call
+     */
+    public V execute(K key, Supplier<V> work) {
+        CompletableFuture<V> ours = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, ours);
+
+        if (existing != null) {
+            collapsedCalls.incrementAndGet();
+            return await(existing);
+        }
+
+        try {
+            V result = work.get();
+            ours.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            ours.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, ours);
+        }
+    }
+
+    /**
+     * @return Number of calls that were answered by another caller's execution
+     */
+    public long getCollapsedCalls() {
+        return collapsedCalls.get();
+    }
+
+    /**
+     * @return Number of keys currently being executed
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for in-flight call");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.jobai.skillbridge.util;
+
+import java.util.Arrays;
+
+/**
+ * Compact, immutable set of skill ids backed by a bitset.
+ *
+ * Similarity between two vectors is computed with popcount over the shared
+ * words, so scoring a candidate/job pair allocates nothing.
+ */
+public final class SkillVector {
+
+    public static final SkillVector EMPTY = new SkillVector(new long[0], 0);
+
+    private final long[] words;
+    private final int cardinality;
+
+    private SkillVector(long[] words, int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Build a vector from skill ids
+     *
+     * @param ids Non-negative skill ids, duplicates allowed
+     * @return Vector containing the ids
+     */
+    public static SkillVector of(int... ids) {
+        if (ids.length == 0) {
+            return EMPTY;
+        }
+        int max = 0;
+        for (int id : ids) {
+            if (id < 0) {
+                throw new IllegalArgumentException("Skill id must not be negative: " + id);
+            }
+            max = Math.max(max, id);
+        }
+
+        long[] words = new long[(max >>> 6) + 1];
+        for (int id : ids) {
+            words[id >>> 6] |= 1L << id;
+        }
+
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        return new SkillVector(words, cardinality);
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public boolean contains(int id) {
+        int index = id >>> 6;
+        return id >= 0 && index < words.length && (words[index] & (1L << id)) != 0;
+    }
+
+    /**
+     * Number of skills present in both vectors
+     */
+    public int intersectionSize(SkillVector other) {
+        long[] a = words;
+        long[] b = other.words;
+        int length = Math.min(a.length, b.length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Jaccard similarity |A ∩ B| / |A ∪ B|
+     *
+     * @param other The other vector
+     * @return Similarity between 0.0 and 1.0; 0.0 when both are empty
+     */
+    public double jaccard(SkillVector other) {
+        int intersection = intersectionSize(other);
+        int union = cardinality + other.cardinality - intersection;
+        return union == 0 ? 0.0 : (double) intersection / union;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SkillVector other) || cardinality != other.cardinality) {
+            return false;
+        }
+        return intersectionSize(other) == cardinality;
+    }
+
+    @Override
+    public int hashCode() {
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+        return Arrays.hashCode(Arrays.copyOf(words, length));
+    }
+}
@@ -0,0 +1,235 @@
+package org.jobai.skillbridge.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reads a stream once and hands the same bytes to several consumers running
+ * concurrently, e.g. an object store upload and a text extractor.
+ *
+ * A virtual thread reads the source in chunks and queues each chunk for
+ * every branch. Queues are bounded, so memory stays within
+ * {@code branches * (bufferedChunks + 1) * chunkSize} however large the source is,
+ * and the source is read at the pace of the slowest open branch. A branch
+ * that is closed early stops receiving chunks, and reading stops once every
+ * branch is closed. A branch may be closed from any thread, e.g. by a caller
+ * that gave up on its reader: a read in progress then fails with
+ * "Stream closed" instead of waiting. A read error on the source is rethrown
+ * by every branch.
+ */
+public class StreamTee implements Closeable {
+
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    public static final int DEFAULT_BUFFERED_CHUNKS = 16;
+
+    private static final byte[] END = new byte[0];
+
+    private final InputStream source;
+    private final int chunkSize;
+    private final List<Branch> branches = new ArrayList<>();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong buffered = new AtomicLong();
+    private final AtomicLong peakBuffered = new AtomicLong();
+    private volatile IOException failure;
+    private final Thread pump;
+
+    /**
+     * Start reading a source for several consumers
+     *
+     * @param source         Stream to read; not closed
+     * @param branches       Number of consumers
+     * @param chunkSize      Bytes read from the source at a time
+     * @param bufferedChunks Chunks a branch may hold before the source waits for it
+     */
+    public StreamTee(InputStream source, int branches, int chunkSize, int bufferedChunks) {
+        this.source = source;
+        this.chunkSize = chunkSize;
+        for (int i = 0; i < branches; i++) {
+            this.branches.add(new Branch(bufferedChunks));
+        }
+        this.pump = Thread.ofVirtual().name("stream-tee").start(this::pump);
+    }
+
+    public StreamTee(InputStream source, int branches) {
+        this(source, branches, DEFAULT_CHUNK_SIZE, DEFAULT_BUFFERED_CHUNKS);
+    }
+
+    /**
+     * Stream of one consumer; each branch must be read by a single thread at
+     * a time, but may be closed from any thread
+     *
+     * @param index Branch index, from 0
+     * @return The branch
+     */
+    public Branch branch(int index) {
+        return branches.get(index);
+    }
+
+    /**
+     * Bytes read from the source so far
+     */
+    public long getBytesRead() {
+        return bytesRead.get();
+    }
+
+    /**
+     * Most bytes held for the branches at any one time, queued or being read
+     */
+    public long getPeakBufferedBytes() {
+        return peakBuffered.get();
+    }
+
+    /**
+     * Close every branch and stop reading the source
+     */
+    @Override
+    public void close() {
+        for (Branch branch : branches) {
+            branch.close();
+        }
+        pump.interrupt();
+    }
+
+    private void pump() {
+        try {
+            while (true) {
+                byte[] chunk = source.readNBytes(chunkSize);
+                if (chunk.length == 0) {
+                    break;
+                }
+                bytesRead.addAndGet(chunk.length);
+                if (!deliver(chunk)) {
+                    return; // nobody is reading any more
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+        } catch (InterruptedException e) {
+            return;
+        }
+        try {
+            deliver(END);
+        } catch (InterruptedException ignored) {
+            // Closed
+        }
+    }
+
+    // Queue a chunk for every open branch; false once all branches are closed
+    private boolean deliver(byte[] chunk) throws InterruptedException {
+        boolean open = false;
+        for (Branch branch : branches) {
+            while (!branch.closed) {
+                if (branch.queue.offer(chunk, 50, TimeUnit.MILLISECONDS)) {
+                    peakBuffered.accumulateAndGet(buffered.addAndGet(chunk.length), Math::max);
+                    if (branch.closed) {
+                        branch.discard(); // closed while we were queueing
+                        break;
+                    }
+                    open = true;
+                    break;
+                }
+            }
+        }
+        return open;
+    }
+
+    /**
+     * One consumer's view of the source
+     */
+    public class Branch extends InputStream {
+        private final BlockingQueue<byte[]> queue;
+        private volatile boolean closed;
+        // Only touched by the reading thread
+        private byte[] current;
+        private int position;
+        // Bytes of the current chunk still counted as buffered; given back by whichever thread gets there first
+        private final AtomicInteger held = new AtomicInteger();
+
+        Branch(int bufferedChunks) {
+            this.queue = new ArrayBlockingQueue<>(bufferedChunks);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return current[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int n = Math.min(len, current.length - position);
+            System.arraycopy(current, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return current != null && current != END ? current.length - position : 0;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            release();
+            discard();
+        }
+
+        // Make sure there are unread bytes in the current chunk; false at the end of the stream
+        private boolean fill() throws IOException {
+            while (true) {
+                if (closed) {
+                    release();
+                    throw new IOException("Stream closed");
+                }
+                if (current == END) {
+                    if (failure != null) {
+                        throw new IOException("Failed to read source: " + failure.getMessage(), failure);
+                    }
+                    return false;
+                }
+                if (current != null && position < current.length) {
+                    return true;
+                }
+                release();
+                try {
+                    current = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for data", e);
+                }
+                held.set(current.length);
+                position = 0;
+            }
+        }
+
+        // Done with the current chunk
+        private void release() {
+            buffered.addAndGet(-held.getAndSet(0));
+        }
+
+        // Drop queued chunks and wake a reader waiting for the next one, which then sees the branch closed
+        private void discard() {
+            for (byte[] chunk; (chunk = queue.poll()) != null;) {
+                buffered.addAndGet(-chunk.length);
+            }
+            queue.offer(END);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.jobai.skillbridge.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the K best items seen so far in a bounded min-heap.
+ *
+ * Offering N items costs O(N log K) time and O(K) memory, instead of
+ * collecting everything and sorting. Heaps built on separate partitions can be
+ * merged, so partitions can be ranked in parallel.
+ *
+ * @param <T> Item type
+ */
+public class TopK<T> {
+
+    private final int k;
+    private final Comparator<? super T> comparator;
+    private final PriorityQueue<T> heap;
+
+    /**
+     * @param k          Number of items to keep
+     * @param comparator Ordering in which greater means better
+     */
+    public TopK(int k, Comparator<? super T> comparator) {
+        this.k = Math.max(0, k);
+        this.comparator = comparator;
+        this.heap = new PriorityQueue<>(Math.min(this.k, 1024) + 1, comparator);
+    }
+
+    /**
+     * Offer an item
+     *
+     * @param item Candidate item
+     * @return true if the item is currently among the best K
+     */
+    public boolean offer(T item) {
+        if (k == 0) {
+            return false;
+        }
+        if (heap.size() < k) {
+            heap.add(item);
+            return true;
+        }
+        if (comparator.compare(item, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(item);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Fold another selector's items into this one
+     *
+     * @param other Selector built over another partition
+     * @return This selector
+     */
+    public TopK<T> merge(TopK<T> other) {
+        for (T item : other.heap) {
+            offer(item);
+        }
+        return this;
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * @return Kept items, best first
+     */
+    public List<T> toSortedList() {
+        List<T> items = new ArrayList<>(heap);
+        items.sort(comparator.reversed());
+        return items;
+    }
+}
@@ -0,0 +1,45 @@
+package org.jobai.skillbridge.util;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementation of {@link WeightedScoringKernel#weightedTotals}.
+ *
+ * Kept in its own class so the incubator module is only linked when it is
+ * actually present.
+ */
+final class VectorScoringKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorScoringKernel() {
+    }
+
+    static int weightedTotals(ScoreColumns columns, double[] weights, double threshold, double[] totals,
+            boolean[] passed) {
+        int size = columns.size();
+        int upperBound = SPECIES.loopBound(size);
+        int count = 0;
+
+        int row = 0;
+        for (; row < upperBound; row += SPECIES.length()) {
+            DoubleVector total = DoubleVector.zero(SPECIES);
+            for (int c = 0; c < ScoreColumns.COUNT; c++) {
+                if (weights[c] != 0) {
+                    // mul then add, not fma, to round exactly like the scalar loop
+                    total = total.add(DoubleVector.fromArray(SPECIES, columns.column(c), row).mul(weights[c]));
+                }
+            }
+            total.intoArray(totals, row);
+
+            VectorMask<Double> mask = total.compare(VectorOperators.GT, threshold);
+            mask.intoArray(passed, row);
+            count += mask.trueCount();
+        }
+
+        return count + WeightedScoringKernel.scalarWeightedTotals(columns, weights, threshold, totals, passed, row);
+    }
+}
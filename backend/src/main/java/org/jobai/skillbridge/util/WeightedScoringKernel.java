@@ -0,0 +1,99 @@
+package org.jobai.skillbridge.util;
+
+/**
+ * Weighted totals of {@link ScoreColumns}.
+ *
+ * Totals of a whole pool are computed a vector of rows at a time with the
+ * incubating Vector API when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}, and with a plain loop
+ * otherwise. Both paths add the weighted components in the same order, so
+ * they produce identical results. Rows at or below the threshold are masked
+ * out before ranking, which {@code ParallelScoringEngine.selectTop} does.
+ */
+public final class WeightedScoringKernel {
+
+    private static volatile boolean vectorized = ModuleLayer.boot()
+            .findModule("jdk.incubator.vector").isPresent();
+
+    private WeightedScoringKernel() {
+    }
+
+    public static boolean isVectorized() {
+        return vectorized;
+    }
+
+    /**
+     * Weighted total of one set of component scores
+     *
+     * @param weights Weight per component, indexed like {@link ScoreColumns}
+     * @param scores  Score per component, in the same order
+     * @return Weighted total
+     */
+    public static double weightedTotal(double[] weights, double... scores) {
+        double total = 0;
+        for (int c = 0; c < scores.length; c++) {
+            if (weights[c] != 0) {
+                total += scores[c] * weights[c];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Weighted total of one row
+     *
+     * @param columns The pool
+     * @param row     Row index
+     * @param weights Weight per component
+     * @return Weighted total
+     */
+    public static double weightedTotal(ScoreColumns columns, int row, double[] weights) {
+        double total = 0;
+        for (int c = 0; c < ScoreColumns.COUNT; c++) {
+            if (weights[c] != 0) {
+                total += columns.get(row, c) * weights[c];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Weighted totals of every row, with a mask of the rows above a threshold
+     *
+     * @param columns   The pool
+     * @param weights   Weight per component
+     * @param threshold Rows must score strictly above this to pass
+     * @param totals    Receives the total of every row
+     * @param passed    Receives whether each row is above the threshold
+     * @return Number of rows above the threshold
+     */
+    public static int weightedTotals(ScoreColumns columns, double[] weights, double threshold, double[] totals,
+            boolean[] passed) {
+        if (vectorized) {
+            try {
+                return VectorScoringKernel.weightedTotals(columns, weights, threshold, totals, passed);
+            } catch (LinkageError e) {
+                System.err.println("Vector API unavailable, using scalar scoring: " + e.getMessage());
+                vectorized = false;
+            }
+        }
+        return scalarWeightedTotals(columns, weights, threshold, totals, passed, 0);
+    }
+
+    /**
+     * Plain-loop totals of the rows from {@code from} onwards; also finishes
+     * the tail the vector loop leaves over
+     */
+    static int scalarWeightedTotals(ScoreColumns columns, double[] weights, double threshold, double[] totals,
+            boolean[] passed, int from) {
+        int count = 0;
+        for (int row = from; row < columns.size(); row++) {
+            totals[row] = weightedTotal(columns, row, weights);
+            passed[row] = totals[row] > threshold;
+            if (passed[row]) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,110 @@
+package org.jobai.skillbridge.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jobai.skillbridge.model.*;
+import org.jobai.skillbridge.repo.EducationRepository;
+import org.jobai.skillbridge.repo.ExperienceRepository;
+import org.jobai.skillbridge.repo.PortfolioRepository;
+import org.jobai.skillbridge.repo.SkillRepository;
+import org.jobai.skillbridge.repo.UserRepository;
+import org.jobai.skillbridge.service.McpContextService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Shared test data for the benchmarks: a job seeker with a realistic profile
+ * and services wired to stubbed repositories.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static User jobSeeker(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("jane.doe" + id);
+        user.setEmail("jane.doe" + id + "@example.com");
+        user.setRole(UserRole.JOB_SEEKER);
+        user.setFirstName("Jane");
+        user.setLastName("Doe");
+        user.setPhoneNumber("(555) 123-4567");
+        user.setCity("Austin, TX");
+        user.setCountry("USA");
+        user.setBio("Backend engineer who enjoys turning slow batch jobs into fast streaming services.");
+        return user;
+    }
+
+    /**
+     * MCP context service whose repositories return a fixed profile
+     *
+     * @param user    The user the repositories know
+     * @param entries Number of education, experience, skill and portfolio entries each
+     * @return The service
+     */
+    static McpContextService mcpContextService(User user, int entries) {
+        List<Education> educations = new ArrayList<>();
+        List<Experience> experiences = new ArrayList<>();
+        List<Skill> skills = new ArrayList<>();
+        List<Portfolio> portfolios = new ArrayList<>();
+        for (int i = 0; i < entries; i++) {
+            educations.add(new Education((long) i, "University " + i, "Master of Science", "Computer Science",
+                    LocalDate.of(2010 + i, 9, 1), LocalDate.of(2012 + i, 6, 30), "3.8",
+                    "Thesis on distributed query planning", user));
+            experiences.add(new Experience((long) i, "Company " + i, "Senior Software Engineer",
+                    "Designed and operated event-driven order processing with Kafka and PostgreSQL.",
+                    LocalDate.of(2014 + i, 1, 1), LocalDate.of(2016 + i, 12, 31), false, user));
+            skills.add(new Skill((long) i, "Skill " + i, "Technical", SkillLevel.ADVANCED, user));
+            portfolios.add(new Portfolio((long) i, "Project " + i, "Open source job scheduler",
+                    "https://example.com/project/" + i, "DOCUMENT", user));
+        }
+
+        UserRepository userRepository = mock(UserRepository.class);
+        EducationRepository educationRepository = mock(EducationRepository.class);
+        ExperienceRepository experienceRepository = mock(ExperienceRepository.class);
+        SkillRepository skillRepository = mock(SkillRepository.class);
+        PortfolioRepository portfolioRepository = mock(PortfolioRepository.class);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(educationRepository.findByUser(user)).thenReturn(educations);
+        when(experienceRepository.findByUser(user)).thenReturn(experiences);
+        when(skillRepository.findByUser(user)).thenReturn(skills);
+        when(portfolioRepository.findByUser(user)).thenReturn(portfolios);
+
+        McpContextService service = new McpContextService();
+        ReflectionTestUtils.setField(service, "userRepository", userRepository);
+        ReflectionTestUtils.setField(service, "educationRepository", educationRepository);
+        ReflectionTestUtils.setField(service, "experienceRepository", experienceRepository);
+        ReflectionTestUtils.setField(service, "skillRepository", skillRepository);
+        ReflectionTestUtils.setField(service, "portfolioRepository", portfolioRepository);
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        return service;
+    }
+
+    /**
+     * Sample resume text from src/test/resources/resumes
+     *
+     * @param name File name without the .txt extension
+     * @return The resume text
+     */
+    static String resume(String name) {
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream("/resumes/" + name + ".txt")) {
+            if (in == null) {
+                throw new IllegalArgumentException("No sample resume named " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.jobai.skillbridge.benchmark;
+
+import org.jobai.skillbridge.model.CandidateFeatures;
+import org.jobai.skillbridge.model.JobPost;
+import org.jobai.skillbridge.model.JobRequirementFeatures;
+import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.service.AdvancedCandidateMatchingService;
+import org.jobai.skillbridge.service.CandidateFeaturesService;
+import org.jobai.skillbridge.service.JobRequirementFeaturesService;
+import org.jobai.skillbridge.service.MatchingWeights;
+import org.jobai.skillbridge.service.ParallelScoringEngine;
+import org.jobai.skillbridge.service.SkillDictionary;
+import org.jobai.skillbridge.util.ScoreColumns;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Phase 1 of {@link AdvancedCandidateMatchingService#findBestCandidates}:
+ * cheap component scores for a whole pool of synthetic candidates, then the
+ * shortlist for the AI rerank. Features are prebuilt, so no database is
+ * involved.
+ *
+ * Run with: mvn -Pbenchmark verify -DskipTests -Djmh.include=CandidateScoringBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CandidateScoringBenchmark {
+
+    private static final String[] CITIES = { "austin, tx", "dallas, tx", "seattle, wa", "new york, ny",
+            "dhaka", "remote" };
+
+    @Param({ "1000", "10000", "100000" })
+    private int candidates;
+
+    @Param({ "150" })
+    private int shortlistSize;
+
+    private AdvancedCandidateMatchingService service;
+    private ParallelScoringEngine parallelScoringEngine;
+    private MatchingWeights matchingWeights;
+
+    private List<User> pool;
+    private Map<Long, CandidateFeatures> features;
+    private JobPost jobPost;
+    private JobRequirementFeatures jobFeatures;
+
+    @Setup
+    public void setUp() {
+        SkillDictionary dictionary = new SkillDictionary();
+        CandidateFeaturesService candidateFeaturesService = new CandidateFeaturesService();
+        ReflectionTestUtils.setField(candidateFeaturesService, "skillDictionary", dictionary);
+        JobRequirementFeaturesService jobRequirementFeaturesService = new JobRequirementFeaturesService();
+        ReflectionTestUtils.setField(jobRequirementFeaturesService, "skillDictionary", dictionary);
+
+        parallelScoringEngine = new ParallelScoringEngine();
+        ReflectionTestUtils.setField(parallelScoringEngine, "threshold", 256);
+        ReflectionTestUtils.setField(parallelScoringEngine, "parallelism", 0);
+        parallelScoringEngine.initialize();
+
+        matchingWeights = new MatchingWeights();
+        ReflectionTestUtils.setField(matchingWeights, "skillWeight", 0.4);
+        ReflectionTestUtils.setField(matchingWeights, "experienceWeight", 0.3);
+        ReflectionTestUtils.setField(matchingWeights, "educationWeight", 0.1);
+        ReflectionTestUtils.setField(matchingWeights, "locationWeight", 0.2);
+        ReflectionTestUtils.setField(matchingWeights, "aiWeight", 0.15);
+        matchingWeights.initialize();
+
+        service = new AdvancedCandidateMatchingService();
+        ReflectionTestUtils.setField(service, "candidateFeaturesService", candidateFeaturesService);
+        ReflectionTestUtils.setField(service, "jobRequirementFeaturesService", jobRequirementFeaturesService);
+        ReflectionTestUtils.setField(service, "parallelScoringEngine", parallelScoringEngine);
+        ReflectionTestUtils.setField(service, "matchingWeights", matchingWeights);
+
+        Random random = new Random(42);
+        List<String> vocabulary = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            vocabulary.add("skill" + i);
+        }
+
+        jobPost = new JobPost();
+        jobPost.setId(1);
+        jobPost.setTitle("Backend Engineer");
+        jobPost.setLocation("Austin, TX");
+        jobFeatures = new JobRequirementFeatures();
+        jobFeatures.setJobId(1);
+        jobFeatures.setRequiredSkillTerms(random.ints(15, 0, vocabulary.size())
+                .mapToObj(vocabulary::get)
+                .distinct()
+                .collect(Collectors.joining("\n")));
+        jobFeatures.setMinExperienceYears(5);
+        jobFeatures.setEducationRequired(true);
+        jobFeatures.setRequiredDegreeLevel(CandidateFeatures.DEGREE_BACHELOR);
+
+        pool = new ArrayList<>(candidates);
+        features = new HashMap<>();
+        for (long id = 1; id <= candidates; id++) {
+            User user = new User();
+            user.setId(id);
+            pool.add(user);
+
+            CandidateFeatures row = new CandidateFeatures();
+            row.setUserId(id);
+            List<String> skills = random.ints(12, 0, vocabulary.size())
+                    .mapToObj(vocabulary::get)
+                    .distinct()
+                    .collect(Collectors.toList());
+            row.setSkillCount(skills.size());
+            row.setSkillTerms(String.join("\n", skills));
+            row.setExperienceCount(random.nextInt(5));
+            row.setTotalExperienceYears(random.nextInt(15));
+            row.setEducationCount(1 + random.nextInt(2));
+            row.setDegreeLevel(random.nextInt(CandidateFeatures.DEGREE_DOCTORATE + 1));
+            String city = CITIES[random.nextInt(CITIES.length)];
+            row.setCity(city);
+            int comma = city.lastIndexOf(',');
+            if (comma != -1) {
+                row.setRegion(city.substring(comma + 1).trim());
+            }
+            features.put(id, row);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        parallelScoringEngine.shutdown();
+    }
+
+    @Benchmark
+    public ScoreColumns scorePool() {
+        return service.scorePool(pool, features, jobPost, jobFeatures);
+    }
+
+    @Benchmark
+    public int[] shortlist() {
+        ScoreColumns columns = service.scorePool(pool, features, jobPost, jobFeatures);
+        return parallelScoringEngine.selectTop(columns, matchingWeights.get(), Double.NEGATIVE_INFINITY,
+                shortlistSize);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CandidateScoringBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
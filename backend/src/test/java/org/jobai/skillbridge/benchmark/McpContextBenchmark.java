@@ -0,0 +1,52 @@
+package org.jobai.skillbridge.benchmark;
+
+import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.service.McpContextService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assembling the user profile context for the AI from the profile
+ * repositories. The repositories are Mockito stubs, so the measurement
+ * covers the mapping work plus a small, constant stub overhead, and no
+ * database time.
+ *
+ * Run with: mvn -Pbenchmark verify -DskipTests -Djmh.include=McpContextBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class McpContextBenchmark {
+
+    @Param({ "1", "10", "50" })
+    private int entries;
+
+    private McpContextService service;
+    private Long userId;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.jobSeeker(1);
+        userId = user.getId();
+        service = BenchmarkFixtures.mcpContextService(user, entries);
+    }
+
+    @Benchmark
+    public Map<String, Object> generateUserProfileContext() {
+        return service.generateUserProfileContext(userId);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(McpContextBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,65 @@
+package org.jobai.skillbridge.benchmark;
+
+import org.jobai.skillbridge.service.ResumeParsingService;
+import org.jobai.skillbridge.service.ResumeParsingService.ParsedResumeData;
+import org.jobai.skillbridge.service.SkillTaxonomy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rule-based extraction of contact details, summary, skills, experience and
+ * education from the text of a resume, on the sample resumes in
+ * src/test/resources/resumes. Text extraction by Tika is not included.
+ *
+ * Run with: mvn -Pbenchmark verify -DskipTests -Djmh.include=ResumeParsingBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResumeParsingBenchmark {
+
+    @Param({ "software-engineer", "data-analyst" })
+    private String resume;
+
+    private ResumeParsingService service;
+    private MethodHandle extractStructuredData;
+    private String content;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException, IOException {
+        SkillTaxonomy skillTaxonomy = new SkillTaxonomy();
+        ReflectionTestUtils.setField(skillTaxonomy, "taxonomy", new ClassPathResource("skills/skill-taxonomy.txt"));
+        skillTaxonomy.initialize();
+
+        service = new ResumeParsingService();
+        ReflectionTestUtils.setField(service, "skillTaxonomy", skillTaxonomy);
+        extractStructuredData = MethodHandles.privateLookupIn(ResumeParsingService.class, MethodHandles.lookup())
+                .findVirtual(ResumeParsingService.class, "extractStructuredData",
+                        MethodType.methodType(ParsedResumeData.class, String.class));
+        content = BenchmarkFixtures.resume(resume);
+    }
+
+    @Benchmark
+    public ParsedResumeData extractStructuredData() throws Throwable {
+        return (ParsedResumeData) extractStructuredData.invokeExact(service, content);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ResumeParsingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,61 @@
+package org.jobai.skillbridge.benchmark;
+
+import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.service.MistralAiService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the resume generation prompt from a user profile context, for
+ * each resume format. No request is sent to the AI.
+ *
+ * Run with: mvn -Pbenchmark verify -DskipTests -Djmh.include=ResumePromptBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResumePromptBenchmark {
+
+    @Param({ "chronological", "functional", "hybrid" })
+    private String format;
+
+    @Param({ "5" })
+    private int entries;
+
+    private MistralAiService service;
+    private MethodHandle buildResumePrompt;
+    private Map<String, Object> context;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        service = new MistralAiService();
+        buildResumePrompt = MethodHandles.privateLookupIn(MistralAiService.class, MethodHandles.lookup())
+                .findVirtual(MistralAiService.class, "buildResumePrompt", MethodType.methodType(String.class,
+                        Map.class, String.class, String.class, String.class));
+        User user = BenchmarkFixtures.jobSeeker(1);
+        context = BenchmarkFixtures.mcpContextService(user, entries).generateUserProfileContext(user.getId());
+    }
+
+    @Benchmark
+    public String buildResumePrompt() throws Throwable {
+        return (String) buildResumePrompt.invokeExact(service, context, "Senior Backend Engineer", format,
+                "professional");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ResumePromptBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
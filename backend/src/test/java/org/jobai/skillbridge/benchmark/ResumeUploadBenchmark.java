@@ -0,0 +1,165 @@
+package org.jobai.skillbridge.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jobai.skillbridge.service.DocumentTextExtractor;
+import org.jobai.skillbridge.util.StreamTee;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handling of an uploaded resume spooled to disk, as in
+ * {@code ResumeParsingService.parseResumeWithStorage}: the file goes to the
+ * object store and through text extraction. "sequential" opens the spooled
+ * file once for each, "teed" reads it once through a {@link StreamTee} and
+ * feeds both concurrently. The object store upload is simulated by draining
+ * the stream.
+ *
+ * Besides time per upload, reports bytes read from disk and the most bytes
+ * buffered in memory for one upload; the benchmark profile also runs the GC
+ * profiler, whose gc.alloc.rate.norm is the memory allocated per upload.
+ *
+ * Run with: mvn -Pbenchmark verify -DskipTests -Djmh.include=ResumeUploadBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResumeUploadBenchmark {
+
+    @Param({ "262144", "4194304" })
+    private int fileSize;
+
+    private Path spooled;
+    private DocumentTextExtractor documentTextExtractor;
+    private ExecutorService uploadExecutor;
+
+    /**
+     * Per-upload I/O figures; assigned (not summed) by every call, so the
+     * reported value is that of a single upload
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class UploadCounters {
+        public long diskBytesPerUpload;
+        public long peakBufferedBytes;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        String resume = BenchmarkFixtures.resume("software-engineer");
+        StringBuilder content = new StringBuilder(fileSize);
+        while (content.length() < fileSize) {
+            content.append(resume);
+        }
+        content.setLength(fileSize);
+        spooled = Files.createTempFile("resume-upload", ".txt");
+        Files.writeString(spooled, content);
+
+        documentTextExtractor = new DocumentTextExtractor();
+        ReflectionTestUtils.setField(documentTextExtractor, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(documentTextExtractor, "maxCharacters", 200_000);
+        ReflectionTestUtils.setField(documentTextExtractor, "meterRegistry", new SimpleMeterRegistry());
+        documentTextExtractor.initialize();
+        uploadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        documentTextExtractor.shutdown();
+        uploadExecutor.shutdown();
+        Files.deleteIfExists(spooled);
+    }
+
+    @Benchmark
+    public String sequential(UploadCounters counters) throws IOException {
+        long diskBytes = 0;
+        try (CountingInputStream in = new CountingInputStream(Files.newInputStream(spooled))) {
+            upload(in);
+            diskBytes += in.count;
+        }
+        String text;
+        try (CountingInputStream in = new CountingInputStream(Files.newInputStream(spooled))) {
+            text = documentTextExtractor.extractText(in, "text/plain");
+            diskBytes += in.count;
+        }
+        counters.diskBytesPerUpload = diskBytes;
+        counters.peakBufferedBytes = 0;
+        return text;
+    }
+
+    @Benchmark
+    public String teed(UploadCounters counters) throws IOException {
+        String text;
+        try (CountingInputStream in = new CountingInputStream(Files.newInputStream(spooled));
+                StreamTee tee = new StreamTee(in, 2)) {
+            CompletableFuture<Void> upload = CompletableFuture.runAsync(() -> {
+                try (StreamTee.Branch content = tee.branch(0)) {
+                    upload(content);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, uploadExecutor);
+            try (StreamTee.Branch content = tee.branch(1)) {
+                text = documentTextExtractor.extractText(content, "text/plain");
+            }
+            upload.join();
+            counters.diskBytesPerUpload = in.count;
+            counters.peakBufferedBytes = tee.getPeakBufferedBytes();
+        }
+        return text;
+    }
+
+    private static void upload(InputStream content) throws IOException {
+        content.transferTo(OutputStream.nullOutputStream());
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ResumeUploadBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,99 @@
+package org.jobai.skillbridge.benchmark;
+
+import org.jobai.skillbridge.service.SkillDictionary;
+import org.jobai.skillbridge.util.SkillVector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Skill Jaccard scoring of one job against a pool of candidates: the previous
+ * HashSet-based implementation versus interned skill bitsets.
+ *
+ * Run with: mvn -Pbenchmark verify -DskipTests -Djmh.include=SkillJaccardBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SkillJaccardBenchmark {
+
+    @Param({ "1000" })
+    private int candidates;
+
+    @Param({ "12" })
+    private int skillsPerCandidate;
+
+    private String jobRequiredSkills;
+    private List<List<String>> candidateSkills;
+
+    private SkillVector jobVector;
+    private List<SkillVector> candidateVectors;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> vocabulary = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            vocabulary.add("Skill" + i);
+        }
+
+        jobRequiredSkills = random.ints(15, 0, vocabulary.size())
+                .mapToObj(vocabulary::get)
+                .collect(Collectors.joining(", "));
+
+        candidateSkills = new ArrayList<>();
+        for (int c = 0; c < candidates; c++) {
+            candidateSkills.add(random.ints(skillsPerCandidate, 0, vocabulary.size())
+                    .mapToObj(vocabulary::get)
+                    .collect(Collectors.toList()));
+        }
+
+        SkillDictionary dictionary = new SkillDictionary();
+        jobVector = dictionary.vectorOf(Arrays.asList(jobRequiredSkills.split("[,;\\n]")));
+        candidateVectors = candidateSkills.stream().map(dictionary::vectorOf).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void hashSetJaccard(Blackhole blackhole) {
+        for (List<String> skills : candidateSkills) {
+            Set<String> jobSkillsSet = Arrays.stream(jobRequiredSkills.toLowerCase().split("[,;\\n]"))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .collect(Collectors.toSet());
+
+            Set<String> candidateSkillsSet = skills.stream()
+                    .map(String::toLowerCase)
+                    .collect(Collectors.toSet());
+
+            Set<String> intersection = new HashSet<>(candidateSkillsSet);
+            intersection.retainAll(jobSkillsSet);
+
+            Set<String> union = new HashSet<>(candidateSkillsSet);
+            union.addAll(jobSkillsSet);
+
+            blackhole.consume(union.isEmpty() ? 0.0 : (double) intersection.size() / union.size());
+        }
+    }
+
+    @Benchmark
+    public void bitsetJaccard(Blackhole blackhole) {
+        for (SkillVector candidate : candidateVectors) {
+            blackhole.consume(candidate.jaccard(jobVector));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SkillJaccardBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
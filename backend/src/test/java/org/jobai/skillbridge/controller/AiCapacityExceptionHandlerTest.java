@@ -0,0 +1,67 @@
+package org.jobai.skillbridge.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jobai.skillbridge.service.AiTaskExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class AiCapacityExceptionHandlerTest {
+
+    private AiTaskExecutor aiTaskExecutor;
+    private MockMvc mockMvc;
+
+    @RestController
+    static class SlowAiController {
+        private final AiTaskExecutor aiTaskExecutor;
+
+        SlowAiController(AiTaskExecutor aiTaskExecutor) {
+            this.aiTaskExecutor = aiTaskExecutor;
+        }
+
+        @GetMapping("/ai")
+        CompletableFuture<String> generate() {
+            return aiTaskExecutor.submit(() -> "generated");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        aiTaskExecutor = new AiTaskExecutor();
+        ReflectionTestUtils.setField(aiTaskExecutor, "mode", "async");
+        ReflectionTestUtils.setField(aiTaskExecutor, "maxConcurrency", 0);
+        ReflectionTestUtils.setField(aiTaskExecutor, "queueTimeoutMs", 10L);
+        ReflectionTestUtils.setField(aiTaskExecutor, "meterRegistry", new SimpleMeterRegistry());
+        aiTaskExecutor.initialize();
+        mockMvc = MockMvcBuilders.standaloneSetup(new SlowAiController(aiTaskExecutor))
+                .setControllerAdvice(new AiCapacityExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiTaskExecutor.shutdown();
+    }
+
+    @Test
+    void testNoAiCapacityIsReportedAsServiceUnavailable() throws Exception {
+        MvcResult started = mockMvc.perform(get("/ai")).andExpect(request().asyncStarted()).andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "30"))
+                .andExpect(jsonPath("$.error").value("AI service is busy. Please try again shortly."));
+    }
+}
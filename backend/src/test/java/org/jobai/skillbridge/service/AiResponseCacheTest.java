@@ -0,0 +1,101 @@
+package org.jobai.skillbridge.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AiResponseCacheTest {
+
+    private AiResponseCache cache;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new AiResponseCache();
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        ReflectionTestUtils.setField(cache, "defaultTtlSeconds", 60L);
+        ReflectionTestUtils.setField(cache, "environment",
+                new MockEnvironment().withProperty("ai.cache.ttl-seconds.career-advice", "0"));
+        ReflectionTestUtils.setField(cache, "meterRegistry", meterRegistry);
+        cache.initialize();
+    }
+
+    @Test
+    void testKeyDependsOnModelTemperatureAndPrompt() {
+        String key = cache.key("mistral-tiny", 0.7, "prompt");
+
+        assertEquals(key, cache.key("mistral-tiny", 0.7, "prompt"));
+        assertNotEquals(key, cache.key("mistral-small", 0.7, "prompt"));
+        assertNotEquals(key, cache.key("mistral-tiny", 0.2, "prompt"));
+        assertNotEquals(key, cache.key("mistral-tiny", 0.7, "other prompt"));
+    }
+
+    @Test
+    void testHitAndMissAreCounted() {
+        String key = cache.key("mistral-tiny", 0.7, "prompt");
+
+        assertNull(cache.get(key, "Suggest relevant skills"));
+        cache.put(key, "Suggest relevant skills", "Java, Spring");
+        assertEquals("Java, Spring", cache.get(key, "Suggest relevant skills"));
+
+        assertEquals(1.0, meterRegistry.get("ai.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("ai.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        cache.put("a", null, "A");
+        cache.put("b", null, "B");
+        cache.get("a", null);
+        cache.put("c", null, "C");
+
+        assertEquals("A", cache.get("a", null));
+        assertNull(cache.get("b", null));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testPerFeatureTtl() {
+        assertEquals(Duration.ofSeconds(60), cache.ttlFor("Suggest relevant skills"));
+        assertEquals(Duration.ZERO, cache.ttlFor("Career Advice"));
+
+        cache.put("k", "Career Advice", "value");
+        assertNull(cache.get("k", "Career Advice"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRedisHitIsKeptLocallyOnlyForItsRemainingTtl() throws Exception {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(values);
+        when(values.get("ai:response:k")).thenReturn("cached");
+        when(redis.getExpire("ai:response:k", TimeUnit.MILLISECONDS)).thenReturn(50L);
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(redis);
+        ReflectionTestUtils.setField(cache, "redisEnabled", true);
+        ReflectionTestUtils.setField(cache, "redisKeyPrefix", "ai:response:");
+        ReflectionTestUtils.setField(cache, "redisTemplateProvider", provider);
+
+        assertEquals("cached", cache.get("k", null));
+        assertEquals(1, cache.size());
+
+        // Gone from Redis by now; the local copy must not outlive it
+        when(values.get("ai:response:k")).thenReturn(null);
+        Thread.sleep(100);
+        assertNull(cache.get("k", null));
+    }
+}
@@ -0,0 +1,79 @@
+package org.jobai.skillbridge.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jobai.skillbridge.dto.AiResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BatchSemanticScorerTest {
+
+    private BatchSemanticScorer scorer;
+
+    @BeforeEach
+    void setUp() {
+        scorer = new BatchSemanticScorer();
+        ReflectionTestUtils.setField(scorer, "objectMapper", new ObjectMapper());
+        scorer.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scorer.shutdown();
+    }
+
+    @Test
+    void testParseScoresFromSurroundingText() {
+        double[] scores = scorer.parseScores("Here are the scores:\n[0.9, 0.25, \"0.6\"]\nDone.", 3);
+
+        assertArrayEquals(new double[] { 0.9, 0.25, 0.6 }, scores, 1e-9);
+    }
+
+    @Test
+    void testMissingScoresFallBackToNeutral() {
+        double[] scores = scorer.parseScores("[0.8]", 3);
+
+        assertArrayEquals(new double[] { 0.8, 0.5, 0.5 }, scores, 1e-9);
+    }
+
+    @Test
+    void testScoresAreClampedAndMalformedResponseIsNeutral() {
+        assertArrayEquals(new double[] { 1.0, 0.0 }, scorer.parseScores("[7, -1]", 2), 1e-9);
+        assertArrayEquals(new double[] { 0.5, 0.5 }, scorer.parseScores("I cannot rate these", 2), 1e-9);
+    }
+
+    @Test
+    void testCallerHoldingTheOnlyPermitDoesNotStarveItsBatches() {
+        AiTaskExecutor aiTaskExecutor = new AiTaskExecutor();
+        ReflectionTestUtils.setField(aiTaskExecutor, "mode", "async");
+        ReflectionTestUtils.setField(aiTaskExecutor, "maxConcurrency", 1);
+        ReflectionTestUtils.setField(aiTaskExecutor, "queueTimeoutMs", 200L);
+        ReflectionTestUtils.setField(aiTaskExecutor, "meterRegistry", new SimpleMeterRegistry());
+        aiTaskExecutor.initialize();
+        MistralAiService mistralAiService = mock(MistralAiService.class);
+        when(mistralAiService.generateText(anyString(), anyString()))
+                .thenReturn(new AiResponseDto("[0.9, 0.8]", "text", true, null, 0));
+        ReflectionTestUtils.setField(scorer, "batchSize", 2);
+        ReflectionTestUtils.setField(scorer, "maxItemChars", 100);
+        ReflectionTestUtils.setField(scorer, "mistralAiService", mistralAiService);
+        ReflectionTestUtils.setField(scorer, "aiTaskExecutor", aiTaskExecutor);
+
+        try {
+            double[] scores = aiTaskExecutor.submit(() -> scorer.scoreCandidates("Java developer",
+                    List.of("a", "b", "c", "d"))).join();
+
+            assertArrayEquals(new double[] { 0.9, 0.8, 0.9, 0.8 }, scores, 1e-9);
+            verify(mistralAiService, times(2)).generateText(anyString(), anyString());
+        } finally {
+            aiTaskExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.jobai.skillbridge.service;
+
+import org.jobai.skillbridge.event.ProfileChangedEvent;
+import org.jobai.skillbridge.model.CandidateFeatures;
+import org.jobai.skillbridge.model.Education;
+import org.jobai.skillbridge.model.Experience;
+import org.jobai.skillbridge.model.Skill;
+import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.repo.UserRepository;
+import org.jobai.skillbridge.service.CandidateProfileLoader.CandidateProfile;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CandidateFeaturesServiceTest {
+
+    @Test
+    void testComputeSummarizesProfile() {
+        User user = new User();
+        user.setId(7L);
+        user.setCity("Austin, TX");
+
+        CandidateProfile profile = new CandidateProfile();
+        profile.getSkills().add(skill("Java"));
+        profile.getSkills().add(skill(" java "));
+        profile.getSkills().add(skill("Spring-Boot"));
+
+        Experience first = new Experience();
+        first.setStartDate(LocalDate.of(2015, 1, 1));
+        first.setEndDate(LocalDate.of(2019, 6, 1));
+        profile.getExperiences().add(first);
+        profile.getExperiences().add(new Experience()); // no dates, counts as one year
+
+        Education bachelor = new Education();
+        bachelor.setDegree("Bachelor of Science");
+        Education master = new Education();
+        master.setDegree("Master of Engineering");
+        profile.getEducations().add(bachelor);
+        profile.getEducations().add(master);
+
+        CandidateFeatures features = CandidateFeaturesService.compute(user, profile);
+
+        assertEquals(7L, features.getUserId());
+        assertEquals(3, features.getSkillCount());
+        assertEquals(List.of("java", "spring boot"), CandidateFeaturesService.skillTerms(features));
+        assertEquals(2, features.getExperienceCount());
+        assertEquals(5, features.getTotalExperienceYears());
+        assertEquals(2, features.getEducationCount());
+        assertEquals(CandidateFeatures.DEGREE_MASTER, features.getDegreeLevel());
+        assertEquals("austin, tx", features.getCity());
+        assertEquals("tx", features.getRegion());
+    }
+
+    @Test
+    void testComputeWithEmptyProfile() {
+        User user = new User();
+        user.setId(8L);
+
+        CandidateFeatures features = CandidateFeaturesService.compute(user, null);
+
+        assertEquals(0, features.getSkillCount());
+        assertTrue(CandidateFeaturesService.skillTerms(features).isEmpty());
+        assertEquals(CandidateFeatures.DEGREE_NONE, features.getDegreeLevel());
+        assertNull(features.getCity());
+        assertNull(features.getRegion());
+    }
+
+    @Test
+    void testDegreeLevel() {
+        assertEquals(CandidateFeatures.DEGREE_DOCTORATE, CandidateFeaturesService.degreeLevel("PhD in Physics"));
+        assertEquals(CandidateFeatures.DEGREE_DOCTORATE, CandidateFeaturesService.degreeLevel("Doctorate"));
+        assertEquals(CandidateFeatures.DEGREE_BACHELOR, CandidateFeaturesService.degreeLevel("bachelor's"));
+        assertEquals(CandidateFeatures.DEGREE_NONE, CandidateFeaturesService.degreeLevel("Diploma"));
+        assertEquals(CandidateFeatures.DEGREE_NONE, CandidateFeaturesService.degreeLevel(null));
+    }
+
+    @Test
+    void testSkillVectorIsEvictedOnceTheNewRowCommits() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(7L)).thenReturn(Optional.empty());
+        CandidateFeaturesService service = new CandidateFeaturesService();
+        ReflectionTestUtils.setField(service, "userRepository", userRepository);
+        ReflectionTestUtils.setField(service, "skillDictionary", new SkillDictionary());
+
+        CandidateFeatures before = new CandidateFeatures();
+        before.setUserId(7L);
+        before.setSkillTerms("java");
+        CandidateFeatures after = new CandidateFeatures();
+        after.setUserId(7L);
+        after.setSkillTerms("java\npython");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.onProfileChanged(new ProfileChangedEvent(7L, ProfileChangedEvent.Section.SKILLS));
+            // A reader racing the uncommitted change still sees the old row
+            assertEquals(1, service.skillVector(before).cardinality());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(2, service.skillVector(after).cardinality());
+    }
+
+    private static Skill skill(String name) {
+        Skill skill = new Skill();
+        skill.setName(name);
+        return skill;
+    }
+}
@@ -0,0 +1,125 @@
+package org.jobai.skillbridge.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jobai.skillbridge.exception.AiServiceException;
+import org.jobai.skillbridge.exception.TransientProcessingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentTextExtractorTest {
+
+    private DocumentTextExtractor extractor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        extractor = new DocumentTextExtractor();
+        ReflectionTestUtils.setField(extractor, "timeoutMs", 2000L);
+        ReflectionTestUtils.setField(extractor, "maxCharacters", 1000);
+        ReflectionTestUtils.setField(extractor, "meterRegistry", meterRegistry);
+        extractor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        extractor.shutdown();
+    }
+
+    private static InputStream text(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testExtractsTextAndRecordsLatency() {
+        String text = extractor.extractText(text("Jane Doe\nJava developer\n"), "text/plain; charset=UTF-8");
+
+        assertTrue(text.startsWith("Jane Doe"));
+        assertTrue(text.contains("Java developer"));
+        assertEquals(1, meterRegistry.get("document.extraction").tag("type", "text/plain")
+                .tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void testCutsTextAtCharacterLimit() {
+        String text = extractor.extractText(text("word ".repeat(10_000)), "text/plain");
+
+        assertTrue(text.length() <= 1000);
+        assertTrue(text.startsWith("word word"));
+        assertEquals(1, meterRegistry.get("document.extraction").tag("outcome", "truncated").timer().count());
+    }
+
+    @Test
+    void testGivesUpOnSlowDocuments() {
+        ReflectionTestUtils.setField(extractor, "timeoutMs", 100L);
+        InputStream stalled = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException();
+                }
+                return -1;
+            }
+        };
+
+        long start = System.nanoTime();
+        assertThrows(AiServiceException.class, () -> extractor.extractText(stalled, "application/pdf"));
+        assertTrue(System.nanoTime() - start < 5_000_000_000L);
+        assertEquals(1, meterRegistry.get("document.extraction").tag("type", "application/pdf")
+                .tag("outcome", "timeout").timer().count());
+    }
+
+    @Test
+    void testRunawayParseKeepsItsSlotUntilItExits() throws Exception {
+        extractor.shutdown();
+        ReflectionTestUtils.setField(extractor, "timeoutMs", 100L);
+        ReflectionTestUtils.setField(extractor, "maxConcurrent", 1);
+        meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(extractor, "meterRegistry", meterRegistry);
+        extractor.initialize();
+        CountDownLatch finish = new CountDownLatch(1);
+        InputStream runaway = new InputStream() {
+            @Override
+            public int read() {
+                // Like a CPU-bound parse: deaf to interrupts
+                while (finish.getCount() > 0) {
+                    try {
+                        finish.await();
+                    } catch (InterruptedException ignored) {
+                        // Keep going
+                    }
+                }
+                return -1;
+            }
+        };
+
+        assertThrows(TransientProcessingException.class, () -> extractor.extractText(runaway, "application/pdf"));
+        assertThrows(TransientProcessingException.class, () -> extractor.extractText(text("next"), "text/plain"));
+        assertEquals(1, meterRegistry.get("document.extraction").tag("outcome", "busy").timer().count());
+        assertEquals(1, meterRegistry.get("document.extraction.active").gauge().value());
+
+        finish.countDown();
+        ReflectionTestUtils.setField(extractor, "timeoutMs", 2000L);
+        assertEquals("next", extractor.extractText(text("next"), "text/plain"));
+    }
+
+    @Test
+    void testMimeTypeTagIsBounded() {
+        assertEquals("application/pdf", DocumentTextExtractor.mimeType("Application/PDF"));
+        assertEquals("other", DocumentTextExtractor.mimeType("image/png"));
+        assertEquals("unknown", DocumentTextExtractor.mimeType(null));
+    }
+}
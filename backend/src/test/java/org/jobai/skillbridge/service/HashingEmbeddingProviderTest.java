@@ -0,0 +1,41 @@
+package org.jobai.skillbridge.service;
+
+import org.jobai.skillbridge.util.HnswIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashingEmbeddingProviderTest {
+
+    private final HashingEmbeddingProvider provider = new HashingEmbeddingProvider(256);
+
+    @Test
+    void testEmbeddingsAreDeterministicAndNormalized() {
+        float[] first = provider.embed("Senior Java developer with Spring Boot and C++");
+        float[] second = new HashingEmbeddingProvider(256).embed("Senior Java developer with Spring Boot and C++");
+
+        assertArrayEquals(first, second);
+        assertEquals(256, first.length);
+        assertEquals(1.0, HnswIndex.cosine(first, first), 1e-6);
+        assertArrayEquals(provider.embed("java"), provider.embedAll(List.of("java")).get(0));
+    }
+
+    @Test
+    void testSharedVocabularyIsMoreSimilar() {
+        float[] job = provider.embed("Backend engineer: Java, Spring Boot, PostgreSQL, Kubernetes");
+        float[] close = provider.embed("Skills: Java, Spring Boot, Kubernetes. Built PostgreSQL backed services.");
+        float[] far = provider.embed("Graphic designer experienced in Photoshop, Illustrator and branding");
+
+        assertTrue(HnswIndex.cosine(job, close) > HnswIndex.cosine(job, far));
+    }
+
+    @Test
+    void testEmptyTextGivesZeroVector() {
+        float[] vector = provider.embed(null);
+
+        assertEquals(256, vector.length);
+        assertEquals(0.0, HnswIndex.cosine(vector, provider.embed("java")));
+    }
+}
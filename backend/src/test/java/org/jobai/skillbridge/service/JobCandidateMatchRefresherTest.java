@@ -0,0 +1,144 @@
+package org.jobai.skillbridge.service;
+
+import org.jobai.skillbridge.event.JobPostChangedEvent;
+import org.jobai.skillbridge.model.JobCandidateMatch;
+import org.jobai.skillbridge.model.JobPost;
+import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.repo.JobCandidateMatchRepository;
+import org.jobai.skillbridge.repo.JobRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JobCandidateMatchRefresherTest {
+
+    @Mock
+    private JobRepo jobRepo;
+
+    @Mock
+    private AdvancedJobMatchingService advancedJobMatchingService;
+
+    @Mock
+    private JobCandidateMatchRepository jobCandidateMatchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
+
+    @Spy
+    private MatchingWeights matchingWeights = weights(0);
+
+    @InjectMocks
+    private JobCandidateMatchRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(refresher, "topN", 50);
+        transactionTemplate.setTransactionManager(transactionManager);
+    }
+
+    @Test
+    void testEvictsLowestScoresBeyondTopN() {
+        JobCandidateMatch best = match(1L, 0.9);
+        JobCandidateMatch middle = match(2L, 0.6);
+        JobCandidateMatch worst = match(3L, 0.4);
+
+        List<JobCandidateMatch> evicted = JobCandidateMatchRefresher.evicted(List.of(worst, best, middle), 2);
+
+        assertEquals(List.of(worst), evicted);
+    }
+
+    @Test
+    void testTiesAreBrokenByUserId() {
+        JobCandidateMatch first = match(1L, 0.5);
+        JobCandidateMatch second = match(2L, 0.5);
+
+        assertEquals(List.of(second), JobCandidateMatchRefresher.evicted(List.of(second, first), 1));
+        assertTrue(JobCandidateMatchRefresher.evicted(List.of(second, first), 5).isEmpty());
+    }
+
+    @Test
+    void testFailedRankingKeepsStoredMatchesAndJobDirty() {
+        JobPost job = new JobPost();
+        job.setId(4);
+        when(jobRepo.findById(4)).thenReturn(Optional.of(job));
+        when(advancedJobMatchingService.rankCandidates(any(), anyInt()))
+                .thenThrow(new IllegalStateException("pool gone"));
+
+        refresher.onJobPostChanged(new JobPostChangedEvent(4, false));
+        refresher.refreshDirty();
+        refresher.refreshDirty();
+
+        verify(advancedJobMatchingService, times(2)).rankCandidates(job, 50);
+        verify(jobCandidateMatchRepository, never()).deleteByJobId(any());
+        verify(jobCandidateMatchRepository, never()).saveAll(any());
+        verify(transactionManager, times(2)).rollback(any());
+        assertFalse(refresher.isRefreshed(4));
+    }
+
+    @Test
+    void testNewWeightGenerationRescoresStoredJobs() {
+        when(jobRepo.findById(anyInt())).thenReturn(Optional.empty());
+        when(jobCandidateMatchRepository.findMaterializedJobIds()).thenReturn(List.of(4, 9));
+
+        refresher.refreshDirty();
+        verify(jobCandidateMatchRepository, never()).deleteByJobId(any());
+
+        matchingWeights.update(new double[] { 0.5, 0.2, 0.1, 0.1, 0.1 });
+        refresher.refreshDirty();
+        refresher.refreshDirty();
+
+        verify(jobCandidateMatchRepository, times(1)).deleteByJobId(4);
+        verify(jobCandidateMatchRepository, times(1)).deleteByJobId(9);
+    }
+
+    @Test
+    void testWeightGenerationAdvancesAtMostOncePerInterval() {
+        MatchingWeights matchingWeights = weights(60_000);
+        ReflectionTestUtils.setField(matchingWeights, "generationStartedAt", 0L);
+
+        assertEquals(0, matchingWeights.getGeneration());
+        matchingWeights.update(new double[] { 0.5, 0.2, 0.1, 0.1, 0.1 });
+        assertEquals(1, matchingWeights.getGeneration());
+        matchingWeights.update(new double[] { 0.6, 0.1, 0.1, 0.1, 0.1 });
+        assertEquals(1, matchingWeights.getGeneration());
+    }
+
+    static MatchingWeights weights(long rescoreIntervalMs) {
+        MatchingWeights weights = new MatchingWeights();
+        ReflectionTestUtils.setField(weights, "skillWeight", 0.4);
+        ReflectionTestUtils.setField(weights, "experienceWeight", 0.3);
+        ReflectionTestUtils.setField(weights, "educationWeight", 0.1);
+        ReflectionTestUtils.setField(weights, "locationWeight", 0.2);
+        ReflectionTestUtils.setField(weights, "aiWeight", 0.15);
+        ReflectionTestUtils.setField(weights, "rescoreIntervalMs", rescoreIntervalMs);
+        weights.initialize();
+        return weights;
+    }
+
+    private static JobCandidateMatch match(Long userId, double score) {
+        User user = new User();
+        user.setId(userId);
+        JobCandidateMatch match = new JobCandidateMatch();
+        match.setJobId(1);
+        match.setCandidate(user);
+        match.setCompatibilityScore(score);
+        return match;
+    }
+}
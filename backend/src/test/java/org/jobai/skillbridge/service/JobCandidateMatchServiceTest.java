@@ -0,0 +1,78 @@
+package org.jobai.skillbridge.service;
+
+import org.jobai.skillbridge.model.JobPost;
+import org.jobai.skillbridge.repo.JobCandidateMatchRepository;
+import org.jobai.skillbridge.repo.JobRepo;
+import org.jobai.skillbridge.service.AdvancedJobMatchingService.AdvancedCandidateMatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JobCandidateMatchServiceTest {
+
+    @Mock
+    private JobCandidateMatchRepository jobCandidateMatchRepository;
+
+    @Mock
+    private JobCandidateMatchRefresher jobCandidateMatchRefresher;
+
+    @Mock
+    private AdvancedJobMatchingService advancedJobMatchingService;
+
+    @Mock
+    private JobRepo jobRepo;
+
+    @InjectMocks
+    private JobCandidateMatchService jobCandidateMatchService;
+
+    private final JobPost job = new JobPost();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(jobCandidateMatchService, "topN", 50);
+        job.setId(5);
+        when(jobRepo.findById(5)).thenReturn(Optional.of(job));
+        when(jobCandidateMatchRepository.findTopByJobId(eq(5), any())).thenReturn(new ArrayList<>());
+    }
+
+    @Test
+    void testUnmaterializedJobIsQueuedAndServedAOneOffRanking() {
+        AdvancedCandidateMatch match = new AdvancedCandidateMatch();
+        when(advancedJobMatchingService.rankCandidates(job, 10)).thenReturn(List.of(match));
+
+        List<AdvancedCandidateMatch> matches = jobCandidateMatchService.findTopCandidates(5L, 10);
+
+        assertEquals(List.of(match), matches);
+        verify(jobCandidateMatchRefresher).scheduleJob(5);
+        verify(jobCandidateMatchRefresher, never()).refreshJob(any());
+    }
+
+    @Test
+    void testFailedOneOffRankingIsEmpty() {
+        when(advancedJobMatchingService.rankCandidates(job, 10)).thenThrow(new IllegalStateException("down"));
+
+        assertTrue(jobCandidateMatchService.findTopCandidates(5L, 10).isEmpty());
+        verify(jobCandidateMatchRefresher).scheduleJob(5);
+    }
+
+    @Test
+    void testMaterializedJobWithoutMatchesIsServedFromTheTable() {
+        when(jobCandidateMatchRefresher.isRefreshed(5)).thenReturn(true);
+
+        assertTrue(jobCandidateMatchService.findTopCandidates(5L, 10).isEmpty());
+        verifyNoInteractions(advancedJobMatchingService);
+        verify(jobCandidateMatchRefresher, never()).scheduleJob(any());
+    }
+}
@@ -0,0 +1,206 @@
+package org.jobai.skillbridge.service;
+
+import org.jobai.skillbridge.event.ApplicationStatusChangedEvent;
+import org.jobai.skillbridge.model.JobPost;
+import org.jobai.skillbridge.model.JobRecommendation;
+import org.jobai.skillbridge.model.JobRequirementFeatures;
+import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.model.UserRole;
+import org.jobai.skillbridge.repo.JobApplicationRepository;
+import org.jobai.skillbridge.repo.JobRecommendationRepository;
+import org.jobai.skillbridge.repo.JobRepo;
+import org.jobai.skillbridge.repo.UserRepository;
+import org.jobai.skillbridge.service.AdvancedCandidateMatchingService.JobMatchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JobRecommendationFeedServiceTest {
+
+    @Mock
+    private JobRecommendationRepository repository;
+
+    @Mock
+    private AdvancedCandidateMatchingService matchingService;
+
+    @Mock
+    private CandidateFeaturesService candidateFeaturesService;
+
+    @Mock
+    private JobRequirementFeaturesService jobRequirementFeaturesService;
+
+    @Mock
+    private SkillIndex skillIndex;
+
+    @Mock
+    private JobRepo jobRepo;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
+
+    @Spy
+    private MatchingWeights matchingWeights = JobCandidateMatchRefresherTest.weights(60_000);
+
+    @InjectMocks
+    private JobRecommendationFeedService service;
+
+    private final User user = new User();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(service, "feedSize", 2);
+        transactionTemplate.setTransactionManager(transactionManager);
+
+        user.setId(7L);
+        user.setRole(UserRole.JOB_SEEKER);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+        when(userRepository.findAllById(any())).thenReturn(List.of(user));
+        when(candidateFeaturesService.load(anyCollection())).thenReturn(Map.of());
+    }
+
+    @Test
+    void testFirstReadServesPreviewAndBuildsFeedInBackground() {
+        when(repository.findFeed(eq(7L), any())).thenReturn(new ArrayList<>());
+        when(matchingService.previewJobRecommendations(user, 2)).thenReturn(List.of(match(1, 0.8), match(2, 0.6)));
+        when(matchingService.getJobRecommendations(user, 2)).thenReturn(List.of(match(1, 0.9)));
+
+        List<JobMatchResult> page = service.getFeed(user, 1, 1);
+
+        assertEquals(1, page.size());
+        assertEquals(2, page.get(0).getJob().getId());
+        verify(matchingService, never()).getJobRecommendations(any(), anyInt());
+
+        service.refreshDirty();
+
+        verify(matchingService).getJobRecommendations(user, 2);
+        // Built, even if empty: later reads come from the table
+        assertTrue(service.getFeed(user, 0, 10).isEmpty());
+        verify(matchingService, times(1)).previewJobRecommendations(any(), anyInt());
+    }
+
+    @Test
+    void testRefreshUserReplacesFeedWithRerankedJobs() {
+        when(matchingService.getJobRecommendations(user, 2)).thenReturn(List.of(match(1, 0.9), match(3, 0.7)));
+
+        service.refreshUser(7L);
+
+        ArgumentCaptor<Collection<JobRecommendation>> saved = ArgumentCaptor.captor();
+        verify(repository).deleteByUserId(7L);
+        verify(repository).saveAll(saved.capture());
+        List<JobRecommendation> rows = new ArrayList<>(saved.getValue());
+        assertEquals(List.of(1, 3), rows.stream().map(JobRecommendation::getJobId).toList());
+        assertFalse(rows.get(0).isProvisional());
+    }
+
+    @Test
+    void testApplyingRebuildsFeedWithoutTheAppliedJob() {
+        when(jobApplicationRepository.findJobPostIdsByUserId(7L)).thenReturn(List.of(1));
+        when(matchingService.getJobRecommendations(user, 3))
+                .thenReturn(List.of(match(1, 0.9), match(3, 0.7), match(4, 0.6)));
+
+        service.onApplicationStatusChanged(new ApplicationStatusChangedEvent(11L, 1, 7L, null, "APPLIED"));
+        service.refreshDirty();
+
+        ArgumentCaptor<Collection<JobRecommendation>> saved = ArgumentCaptor.captor();
+        verify(repository).saveAll(saved.capture());
+        assertEquals(List.of(3, 4), saved.getValue().stream().map(JobRecommendation::getJobId).toList());
+    }
+
+    @Test
+    void testRefreshJobAddsProvisionalRowAndTrimsFeed() {
+        JobPost job = job(5);
+        when(jobRepo.findById(5)).thenReturn(Optional.of(job));
+        when(repository.findUserIdsByJobId(5)).thenReturn(List.of());
+        when(skillIndex.findCandidateIds(5)).thenReturn(Set.of(7L));
+        when(repository.findUsersWithFeed(any())).thenReturn(List.of(7L));
+        when(jobRequirementFeaturesService.load(job)).thenReturn(new JobRequirementFeatures());
+        when(matchingService.previewJobMatch(eq(user), any(), eq(job), any())).thenReturn(match(5, 0.8));
+        JobRecommendation strong = recommendation(1, 0.9);
+        JobRecommendation weak = recommendation(2, 0.45);
+        when(repository.findByUserId(7L)).thenReturn(new ArrayList<>(List.of(strong, weak)));
+
+        service.refreshJob(5);
+
+        ArgumentCaptor<JobRecommendation> saved = ArgumentCaptor.forClass(JobRecommendation.class);
+        verify(repository).save(saved.capture());
+        assertEquals(5, saved.getValue().getJobId());
+        assertTrue(saved.getValue().isProvisional());
+        verify(repository).deleteAll(List.of(weak));
+    }
+
+    @Test
+    void testRefreshJobOfDeletedJobClearsItEverywhere() {
+        when(jobRepo.findById(5)).thenReturn(Optional.empty());
+
+        service.refreshJob(5);
+
+        verify(repository).deleteByJobId(5);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void testOverflowDropsLowestScoredJobs() {
+        JobRecommendation strong = recommendation(1, 0.9);
+        JobRecommendation weak = recommendation(2, 0.45);
+        JobRecommendation medium = recommendation(3, 0.7);
+
+        assertEquals(List.of(weak), JobRecommendationFeedService.overflow(List.of(weak, strong, medium), 2));
+        assertEquals(List.of(medium, weak),
+                JobRecommendationFeedService.overflow(List.of(weak, strong, medium), 1));
+    }
+
+    @Test
+    void testNoOverflowWithinFeedSize() {
+        assertTrue(JobRecommendationFeedService.overflow(List.of(recommendation(1, 0.5)), 50).isEmpty());
+    }
+
+    private static JobPost job(Integer id) {
+        JobPost job = new JobPost();
+        job.setId(id);
+        return job;
+    }
+
+    private static JobMatchResult match(Integer jobId, double score) {
+        JobMatchResult match = new JobMatchResult();
+        match.setJob(job(jobId));
+        match.setMatchScore(score);
+        match.setMatchingReasons(List.of("Skills match"));
+        return match;
+    }
+
+    private static JobRecommendation recommendation(Integer jobId, double score) {
+        JobRecommendation recommendation = new JobRecommendation();
+        recommendation.setUserId(1L);
+        recommendation.setJobId(jobId);
+        recommendation.setMatchScore(score);
+        return recommendation;
+    }
+}
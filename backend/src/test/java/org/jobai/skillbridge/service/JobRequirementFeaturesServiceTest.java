@@ -0,0 +1,92 @@
+package org.jobai.skillbridge.service;
+
+import org.jobai.skillbridge.event.JobPostChangedEvent;
+import org.jobai.skillbridge.model.CandidateFeatures;
+import org.jobai.skillbridge.model.JobPost;
+import org.jobai.skillbridge.model.JobRequirementFeatures;
+import org.jobai.skillbridge.repo.JobRequirementFeaturesRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JobRequirementFeaturesServiceTest {
+
+    @Test
+    void testComputeFromDescription() {
+        JobPost job = new JobPost();
+        job.setId(3);
+        job.setDescription("We are hiring. Skills: Java, Spring Boot; PostgreSQL\n"
+                + "You have 5+ years of backend experience. Education: Master's degree in CS.");
+
+        JobRequirementFeatures features = JobRequirementFeaturesService.compute(job);
+
+        assertEquals(3, features.getJobId());
+        List<String> terms = CandidateFeaturesService.splitTerms(features.getRequiredSkillTerms());
+        assertTrue(terms.containsAll(List.of("java", "spring boot", "postgresql")));
+        assertEquals(5, features.getMinExperienceYears());
+        assertTrue(features.isEducationRequired());
+        assertEquals(CandidateFeatures.DEGREE_MASTER, features.getRequiredDegreeLevel());
+    }
+
+    @Test
+    void testRequirementLinesAreUsedWhenDescriptionIsSilent() {
+        JobPost job = new JobPost();
+        job.setDescription("Join our team.");
+        job.setRequirements(List.of("Python", "3 yrs with Django", "Bachelor degree"));
+
+        JobRequirementFeatures features = JobRequirementFeaturesService.compute(job);
+
+        assertEquals(List.of("python", "3 yrs with django", "bachelor degree"),
+                CandidateFeaturesService.splitTerms(features.getRequiredSkillTerms()));
+        assertEquals(3, features.getMinExperienceYears());
+        assertEquals(CandidateFeatures.DEGREE_BACHELOR, features.getRequiredDegreeLevel());
+    }
+
+    @Test
+    void testNoRequirements() {
+        JobRequirementFeatures features = JobRequirementFeaturesService.compute(new JobPost());
+
+        assertEquals("", features.getRequiredSkillTerms());
+        assertEquals(0, features.getMinExperienceYears());
+        assertFalse(features.isEducationRequired());
+    }
+
+    @Test
+    void testRequiredYearsIgnoresLargerNumbers() {
+        assertEquals(0, JobRequirementFeaturesService.requiredYears("Founded 100 years ago"));
+        assertEquals(2, JobRequirementFeaturesService.requiredYears("2 Years"));
+    }
+
+    @Test
+    void testSkillVectorIsEvictedOnceTheChangeCommits() {
+        JobRequirementFeaturesService service = new JobRequirementFeaturesService();
+        ReflectionTestUtils.setField(service, "jobRequirementFeaturesRepository",
+                mock(JobRequirementFeaturesRepository.class));
+        ReflectionTestUtils.setField(service, "skillDictionary", new SkillDictionary());
+
+        JobRequirementFeatures before = new JobRequirementFeatures();
+        before.setJobId(3);
+        before.setRequiredSkillTerms("java");
+        JobRequirementFeatures after = new JobRequirementFeatures();
+        after.setJobId(3);
+        after.setRequiredSkillTerms("java\npython");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.onJobPostChanged(new JobPostChangedEvent(3, true));
+            // A reader racing the uncommitted change still sees the old row
+            assertEquals(1, service.skillVector(before).cardinality());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(2, service.skillVector(after).cardinality());
+    }
+}
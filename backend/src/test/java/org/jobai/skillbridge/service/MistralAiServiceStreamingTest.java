@@ -0,0 +1,51 @@
+package org.jobai.skillbridge.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jobai.skillbridge.dto.AiResponseDto;
+import org.jobai.skillbridge.support.FakeSseServer;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MistralAiServiceStreamingTest {
+
+    private MistralAiService createService(String baseUrl) {
+        MistralAiService service = new MistralAiService();
+        ReflectionTestUtils.setField(service, "apiToken", "test-token");
+        ReflectionTestUtils.setField(service, "modelName", "mistral-small-latest");
+        ReflectionTestUtils.setField(service, "apiBaseUrl", baseUrl);
+        ReflectionTestUtils.setField(service, "apiTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(service, "mistralHttpClient", HttpClient.newHttpClient());
+        return service;
+    }
+
+    @Test
+    void testGenerateTextStreamRelaysTokensInOrder() throws Exception {
+        try (FakeSseServer server = new FakeSseServer(List.of("Senior ", "Java\n", "Engineer"))) {
+            MistralAiService service = createService(server.getBaseUrl());
+            List<String> tokens = new ArrayList<>();
+
+            AiResponseDto response = service.generateTextStream("Write a title", "Test", tokens::add);
+
+            assertTrue(response.isSuccess());
+            assertEquals(List.of("Senior ", "Java\n", "Engineer"), tokens);
+            assertEquals("Senior Java\nEngineer", response.getContent());
+        }
+    }
+
+    @Test
+    void testGenerateTextStreamReportsUnreachableServer() {
+        MistralAiService service = createService("http://127.0.0.1:1");
+
+        AiResponseDto response = service.generateTextStream("Write a title", "Test", token -> fail("No tokens expected"));
+
+        assertFalse(response.isSuccess());
+        assertNull(response.getContent());
+    }
+}
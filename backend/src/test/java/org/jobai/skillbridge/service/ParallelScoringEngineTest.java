@@ -0,0 +1,71 @@
+package org.jobai.skillbridge.service;
+
+import org.jobai.skillbridge.util.ScoreColumns;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelScoringEngineTest {
+
+    private static final double[] SKILLS_ONLY = { 1, 0, 0, 0, 0 };
+
+    private ParallelScoringEngine engine;
+
+    private ParallelScoringEngine createEngine(int threshold) {
+        engine = new ParallelScoringEngine();
+        ReflectionTestUtils.setField(engine, "threshold", threshold);
+        ReflectionTestUtils.setField(engine, "parallelism", 4);
+        engine.initialize();
+        return engine;
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void testParallelResultMatchesSequentialIncludingTies() {
+        // Many equal scores so that tie-breaking decides the result
+        ScoreColumns columns = new ScoreColumns(20_000);
+        for (int row = 0; row < columns.size(); row++) {
+            columns.set(row, ScoreColumns.SKILLS, (row % 97) / 100.0);
+        }
+
+        int[] sequential = createEngine(Integer.MAX_VALUE).selectTop(columns, SKILLS_ONLY, 0.1, 50);
+        engine.shutdown();
+        int[] parallel = createEngine(1).selectTop(columns, SKILLS_ONLY, 0.1, 50);
+
+        assertArrayEquals(sequential, parallel);
+        assertEquals(50, parallel.length);
+        assertEquals(96, parallel[0]);
+        assertEquals(96 + 97, parallel[1]);
+    }
+
+    @Test
+    void testSelectTopAppliesThresholdAndOrder() {
+        ScoreColumns columns = new ScoreColumns(4);
+        columns.set(0, ScoreColumns.SKILLS, 0.2);
+        columns.set(1, ScoreColumns.SKILLS, 0.9);
+        columns.set(2, ScoreColumns.SKILLS, 0.6);
+        columns.set(3, ScoreColumns.SKILLS, 0.9);
+
+        createEngine(1);
+        assertArrayEquals(new int[] { 1, 3, 2 }, engine.selectTop(columns, SKILLS_ONLY, 0.3, 10));
+        assertArrayEquals(new int[] { 1 }, engine.selectTop(columns, SKILLS_ONLY, 0.3, 1));
+        assertEquals(0, engine.selectTop(columns, SKILLS_ONLY, 0.95, 10).length);
+    }
+
+    @Test
+    void testForEachVisitsEveryRowOnce() {
+        int[] visits = new int[10_000];
+
+        createEngine(1).forEach(visits.length, row -> visits[row]++);
+
+        for (int count : visits) {
+            assertEquals(1, count);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package org.jobai.skillbridge.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jobai.skillbridge.exception.IngestionQueueFullException;
+import org.jobai.skillbridge.exception.TransientProcessingException;
+import org.jobai.skillbridge.model.FileStorage;
+import org.jobai.skillbridge.model.ResumeIngestionJob;
+import org.jobai.skillbridge.model.ResumeIngestionPayload;
+import org.jobai.skillbridge.model.User;
+import org.jobai.skillbridge.repo.FileStorageRepository;
+import org.jobai.skillbridge.repo.ResumeIngestionJobRepository;
+import org.jobai.skillbridge.repo.ResumeIngestionPayloadRepository;
+import org.jobai.skillbridge.repo.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ResumeIngestionServiceTest {
+
+    @Mock
+    private ResumeIngestionJobRepository jobRepository;
+
+    @Mock
+    private ResumeIngestionPayloadRepository payloadRepository;
+
+    @Mock
+    private ResumeParsingService resumeParsingService;
+
+    @Mock
+    private FileStorageRepository fileStorageRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private TebiFileStorageService fileStorageService = new TebiFileStorageService();
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private ResumeIngestionService service;
+
+    private final Map<Long, ResumeIngestionJob> jobs = new ConcurrentHashMap<>();
+    private final CountDownLatch storageReleased = new CountDownLatch(1);
+    private final User user = new User();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(service, "workers", 1);
+        ReflectionTestUtils.setField(service, "queueCapacity", 0);
+        ReflectionTestUtils.setField(service, "maxAttempts", 3);
+        transactionTemplate.setTransactionManager(transactionManager);
+
+        user.setId(7L);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+        AtomicLong ids = new AtomicLong();
+        when(jobRepository.save(any())).thenAnswer(invocation -> {
+            ResumeIngestionJob job = invocation.getArgument(0);
+            if (job.getId() == null) {
+                job.setId(ids.incrementAndGet());
+            }
+            jobs.put(job.getId(), job);
+            return job;
+        });
+        when(jobRepository.findById(anyLong())).thenAnswer(invocation -> Optional.ofNullable(jobs.get(
+                invocation.<Long>getArgument(0))));
+        when(jobRepository.claim(anyLong(), any(), any(), any())).thenAnswer(invocation -> {
+            ResumeIngestionJob job = jobs.get(invocation.<Long>getArgument(0));
+            job.setStatus(ResumeIngestionJob.Status.PROCESSING);
+            job.setAttempts(job.getAttempts() + 1);
+            return 1;
+        });
+        when(payloadRepository.findById(anyLong())).thenAnswer(invocation -> Optional.of(
+                new ResumeIngestionPayload(invocation.getArgument(0), new byte[] { 1, 2, 3 })));
+
+        when(resumeParsingService.storeResume(any(InputStream.class), anyLong(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    storageReleased.await(5, TimeUnit.SECONDS);
+                    FileStorage fileStorage = new FileStorage();
+                    fileStorage.setId(100L);
+                    return fileStorage;
+                });
+        when(resumeParsingService.parseResume(any(InputStream.class), any()))
+                .thenReturn(new ResumeParsingService.ParsedResumeData());
+
+        service.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        storageReleased.countDown();
+        service.shutdown();
+    }
+
+    private static MockMultipartFile resume() {
+        return new MockMultipartFile("file", "resume.pdf", "application/pdf", new byte[] { 1, 2, 3 });
+    }
+
+    private ResumeIngestionJob awaitFinished(Long jobId) throws InterruptedException {
+        for (int i = 0; i < 500 && !service.getStatus(jobId, 7L).orElseThrow().isFinished(); i++) {
+            Thread.sleep(10);
+        }
+        return jobs.get(jobId);
+    }
+
+    @Test
+    void testRejectsUploadsBeyondCapacityUntilWorkIsDone() throws Exception {
+        ResumeIngestionJob first = service.submit(resume(), user);
+        assertEquals(ResumeIngestionJob.Status.QUEUED, first.getStatus());
+
+        assertThrows(IngestionQueueFullException.class, () -> service.submit(resume(), user));
+
+        storageReleased.countDown();
+        ResumeIngestionJob finished = awaitFinished(first.getId());
+        assertEquals(ResumeIngestionJob.Status.COMPLETED, finished.getStatus());
+        assertEquals(100L, finished.getFileStorageId());
+        assertNotNull(finished.getResult());
+
+        // The worker gives its slot back right after publishing the final status
+        for (int i = 0; i < 500 && meterRegistry.get("resume.ingestion.in-flight").gauge().value() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertNotNull(service.submit(resume(), user).getId());
+    }
+
+    @Test
+    void testOnlyOwnerSeesJob() throws Exception {
+        storageReleased.countDown();
+        ResumeIngestionJob job = service.submit(resume(), user);
+
+        assertTrue(service.getStatus(job.getId(), 7L).isPresent());
+        assertTrue(service.getStatus(job.getId(), 8L).isEmpty());
+        assertTrue(service.subscribe(job.getId(), 8L).isEmpty());
+    }
+
+    @Test
+    void testRetriesExtractionTimeoutsWithPayloadKept() throws Exception {
+        storageReleased.countDown();
+        when(resumeParsingService.parseResume(any(InputStream.class), any()))
+                .thenThrow(new TransientProcessingException("Timed out extracting text from document"));
+        ResumeIngestionJob job = service.submit(resume(), user);
+
+        for (int i = 0; i < 500 && jobs.get(job.getId()).getErrorMessage() == null; i++) {
+            Thread.sleep(10);
+        }
+        ResumeIngestionJob retried = jobs.get(job.getId());
+        assertEquals(ResumeIngestionJob.Status.QUEUED, retried.getStatus());
+        assertEquals(1, retried.getAttempts());
+        verify(payloadRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void testShutdownHandsInterruptedJobBack() throws Exception {
+        storageReleased.countDown();
+        CountDownLatch parsing = new CountDownLatch(1);
+        when(resumeParsingService.parseResume(any(InputStream.class), any())).thenAnswer(invocation -> {
+            parsing.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TransientProcessingException("Interrupted while extracting text from document", e);
+            }
+            return new ResumeParsingService.ParsedResumeData();
+        });
+        ResumeIngestionJob job = service.submit(resume(), user);
+        assertTrue(parsing.await(5, TimeUnit.SECONDS));
+
+        service.shutdown();
+
+        ResumeIngestionJob released = jobs.get(job.getId());
+        assertEquals(ResumeIngestionJob.Status.QUEUED, released.getStatus());
+        assertEquals(0, released.getAttempts());
+        verify(payloadRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void testAbandonedJobsOutOfAttemptsFailInsteadOfRequeueing() {
+        service.dispatchQueued();
+
+        verify(payloadRepository).deleteStale(eq(ResumeIngestionJob.Status.PROCESSING), any(), eq(3));
+        verify(jobRepository).failStale(eq(ResumeIngestionJob.Status.FAILED),
+                eq(ResumeIngestionJob.Status.PROCESSING), any(), eq(3), anyString(), any());
+        verify(jobRepository).requeueStale(eq(ResumeIngestionJob.Status.QUEUED),
+                eq(ResumeIngestionJob.Status.PROCESSING), any(), eq(3));
+    }
+}
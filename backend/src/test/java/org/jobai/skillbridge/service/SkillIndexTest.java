@@ -0,0 +1,45 @@
+package org.jobai.skillbridge.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillIndexTest {
+
+    @Test
+    void testCandidatesAreFoundThroughSharedTerms() {
+        SkillIndex index = new SkillIndex();
+        index.indexUser(1L, List.of("Java", "Spring Boot"));
+        index.indexUser(2L, List.of("Python"));
+        index.indexUser(3L, List.of("Node.js"));
+        index.indexJob(10, List.of("3+ years of Spring Boot", "Experience with Node.js."));
+
+        assertEquals(Set.of(1L, 3L), index.findCandidateIds(10));
+        assertEquals(Set.of(10), index.findJobIds(1L));
+        assertTrue(index.findJobIds(2L).isEmpty());
+    }
+
+    @Test
+    void testReindexingRemovesStalePostings() {
+        SkillIndex index = new SkillIndex();
+        index.indexUser(1L, List.of("Java"));
+        index.indexJob(10, List.of("Java"));
+
+        index.indexUser(1L, List.of("Go"));
+        assertTrue(index.findCandidateIds(10).isEmpty());
+
+        index.indexUser(1L, List.of("Java"));
+        index.removeJob(10);
+        assertTrue(index.findJobIds(1L).isEmpty());
+    }
+
+    @Test
+    void testNormalizeKeepsSymbolsUsedInSkillNames() {
+        assertEquals("c++", SkillIndex.normalize(" C++ "));
+        assertEquals("c#", SkillIndex.normalize("C#"));
+        assertEquals("spring boot", SkillIndex.normalize("Spring-Boot."));
+    }
+}
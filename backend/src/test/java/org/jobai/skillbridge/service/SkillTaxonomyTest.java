@@ -0,0 +1,47 @@
+package org.jobai.skillbridge.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillTaxonomyTest {
+
+    private static List<String> names(SkillTaxonomy taxonomy, String text) {
+        return taxonomy.findSkills(text).stream().map(SkillTaxonomy.Entry::getName).collect(Collectors.toList());
+    }
+
+    @Test
+    void testAliasesMapToCanonicalSkill() throws Exception {
+        SkillTaxonomy taxonomy = new SkillTaxonomy();
+        taxonomy.load(new StringReader("""
+                # comment
+                [Languages]
+                JavaScript|JS;ECMAScript
+                ~Go|Golang
+                [Databases]
+                PostgreSQL|Postgres
+                """));
+
+        assertEquals(List.of("JavaScript", "PostgreSQL", "Go"),
+                names(taxonomy, "Wrote JS against Postgres, then moved to Golang; postgresql tuning"));
+        assertEquals("Databases", taxonomy.findSkills("postgres").get(0).getCategory());
+        assertTrue(names(taxonomy, "Ready to go").isEmpty());
+    }
+
+    @Test
+    void testBundledTaxonomy() throws Exception {
+        SkillTaxonomy taxonomy = new SkillTaxonomy();
+        ReflectionTestUtils.setField(taxonomy, "taxonomy", new ClassPathResource("skills/skill-taxonomy.txt"));
+        taxonomy.initialize();
+
+        assertTrue(taxonomy.size() > 2000);
+        assertEquals(List.of("Digital Marketing", "Java", "Spring Boot", "Microsoft SQL Server"),
+                names(taxonomy, "Digital marketing lead, Java / Spring Boot, MS SQL"));
+    }
+}
@@ -0,0 +1,50 @@
+package org.jobai.skillbridge.support;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Minimal local stand-in for the Mistral chat completions endpoint that
+ * answers every request with the given content fragments as a streamed
+ * (Server-Sent Events) completion.
+ */
+public class FakeSseServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    public FakeSseServer(List<String> fragments) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (String fragment : fragments) {
+                    String escaped = fragment.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+                    write(out, "data: {\"choices\":[{\"index\":0,\"delta\":{\"content\":\"" + escaped + "\"}}]}\n\n");
+                }
+                write(out, "data: [DONE]\n\n");
+            }
+        });
+        server.start();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static void write(OutputStream out, String chunk) throws IOException {
+        out.write(chunk.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
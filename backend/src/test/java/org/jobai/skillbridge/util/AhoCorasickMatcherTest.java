@@ -0,0 +1,66 @@
+package org.jobai.skillbridge.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AhoCorasickMatcherTest {
+
+    private static AhoCorasickMatcher<String> matcher(String... phrases) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String phrase : phrases) {
+            values.put(phrase, phrase);
+        }
+        return new AhoCorasickMatcher<>(values);
+    }
+
+    private static List<String> values(AhoCorasickMatcher<String> matcher, String text) {
+        return matcher.find(text).stream().map(AhoCorasickMatcher.Match::getValue).collect(Collectors.toList());
+    }
+
+    @Test
+    void testMatchesWholeWordsOnly() {
+        AhoCorasickMatcher<String> matcher = matcher("Git", "SQL", "Java");
+
+        assertEquals(List.of(), values(matcher, "Digital marketing with MySQL and JavaScript"));
+        assertEquals(List.of("Git", "SQL", "Java"), values(matcher, "git, SQL; JAVA."));
+    }
+
+    @Test
+    void testSymbolsAtPhraseEdgesNeedNoBoundary() {
+        AhoCorasickMatcher<String> matcher = matcher("C++", "C#", ".NET");
+
+        assertEquals(List.of("C++", "C#", ".NET"), values(matcher, "C++17, C# and ASP.NET"));
+    }
+
+    @Test
+    void testPrefersLeftmostLongestMatch() {
+        AhoCorasickMatcher<String> matcher = matcher("Spring", "Spring Boot", "Boot Camp", "React", "React Native");
+
+        assertEquals(List.of("Spring Boot"), values(matcher, "Spring Boot Camp"));
+        assertEquals(List.of("React Native", "React"), values(matcher, "React Native and React"));
+    }
+
+    @Test
+    void testReportsPositions() {
+        List<AhoCorasickMatcher.Match<String>> matches = matcher("kafka").find("Apache Kafka\nstreams");
+
+        assertEquals(1, matches.size());
+        assertEquals(7, matches.get(0).getStart());
+        assertEquals(12, matches.get(0).getEnd());
+    }
+
+    @Test
+    void testOverlappingPhrasesFoundThroughFailureLinks() {
+        AhoCorasickMatcher<String> matcher = matcher("he", "she", "his", "hers");
+
+        assertEquals(List.of("she", "his"), values(matcher, "she his"));
+        assertEquals(List.of("hers"), values(matcher, "hers"));
+        assertTrue(matcher("x").find(null).isEmpty());
+    }
+}
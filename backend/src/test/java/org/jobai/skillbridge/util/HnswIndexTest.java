@@ -0,0 +1,88 @@
+package org.jobai.skillbridge.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HnswIndexTest {
+
+    private static final int DIMENSIONS = 32;
+
+    @Test
+    void testRecallAgainstBruteForce() {
+        Random random = new Random(11);
+        float[][] vectors = new float[2000][];
+        HnswIndex<Integer> index = new HnswIndex<>(DIMENSIONS, 16, 200, 64, 42);
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = randomVector(random);
+            index.add(i, vectors[i]);
+        }
+
+        int k = 10;
+        int found = 0;
+        int queries = 50;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomVector(random);
+            Set<Integer> expected = IntStream.range(0, vectors.length).boxed()
+                    .sorted(Comparator.comparingDouble((Integer i) -> HnswIndex.cosine(query, vectors[i])).reversed())
+                    .limit(k)
+                    .collect(Collectors.toSet());
+
+            List<HnswIndex.Neighbor<Integer>> neighbors = index.search(query, k);
+            assertEquals(k, neighbors.size());
+            for (HnswIndex.Neighbor<Integer> neighbor : neighbors) {
+                if (expected.contains(neighbor.getKey())) {
+                    found++;
+                }
+            }
+        }
+
+        assertTrue(found >= queries * k * 0.9, "recall too low: " + found + "/" + queries * k);
+    }
+
+    @Test
+    void testReplaceAndRemove() {
+        Random random = new Random(3);
+        HnswIndex<Integer> index = new HnswIndex<>(DIMENSIONS, 8, 50, 32, 42);
+        for (int i = 0; i < 200; i++) {
+            index.add(i, randomVector(random));
+        }
+
+        float[] target = randomVector(random);
+        index.add(7, target);
+        assertEquals(200, index.size());
+        assertEquals(7, index.search(target, 1).get(0).getKey());
+        assertEquals(1.0, index.search(target, 1).get(0).getSimilarity(), 1e-6);
+
+        assertTrue(index.remove(7));
+        assertFalse(index.remove(7));
+        assertFalse(index.contains(7));
+        Set<Integer> keys = new HashSet<>();
+        index.search(target, 199).forEach(neighbor -> keys.add(neighbor.getKey()));
+        assertFalse(keys.contains(7));
+    }
+
+    @Test
+    void testEmptyIndexAndWrongDimensions() {
+        HnswIndex<String> index = new HnswIndex<>(DIMENSIONS, 16, 200, 64, 42);
+
+        assertTrue(index.search(new float[DIMENSIONS], 5).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.add("a", new float[DIMENSIONS + 1]));
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
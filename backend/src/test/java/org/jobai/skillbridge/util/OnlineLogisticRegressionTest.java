@@ -0,0 +1,39 @@
+package org.jobai.skillbridge.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OnlineLogisticRegressionTest {
+
+    @Test
+    void testLearnsWhichFeatureDecidesTheOutcome() {
+        // Outcomes depend only on the first feature; the second is noise
+        OnlineLogisticRegression model = new OnlineLogisticRegression(new double[] { 1.0, 1.0 }, -1.0, 0.1, 0.0);
+        Random random = new Random(17);
+        for (int i = 0; i < 5000; i++) {
+            double[] features = { random.nextDouble(), random.nextDouble() };
+            model.update(features, features[0] > 0.6);
+        }
+
+        double[] coefficients = model.getCoefficients();
+        assertTrue(coefficients[0] > 3 * Math.abs(coefficients[1]),
+                "expected the first coefficient to dominate: " + coefficients[0] + " vs " + coefficients[1]);
+        assertTrue(model.predict(new double[] { 0.9, 0.1 }) > 0.8);
+        assertTrue(model.predict(new double[] { 0.1, 0.9 }) < 0.2);
+        assertEquals(5000, model.getUpdates());
+    }
+
+    @Test
+    void testRegularizationPullsTowardsInitialCoefficients() {
+        OnlineLogisticRegression model = new OnlineLogisticRegression(new double[] { 2.0 }, 0.0, 0.1, 1.0);
+        for (int i = 0; i < 1000; i++) {
+            model.update(new double[] { 0.0 }, true); // No signal for the coefficient
+        }
+
+        assertEquals(2.0, model.getCoefficients()[0], 1e-9);
+        assertTrue(model.getBias() > 0);
+    }
+}
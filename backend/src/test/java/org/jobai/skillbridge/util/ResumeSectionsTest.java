@@ -0,0 +1,54 @@
+package org.jobai.skillbridge.util;
+
+import org.jobai.skillbridge.util.ResumeSections.Section;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResumeSectionsTest {
+
+    private static final String RESUME = String.join("\r\n",
+            "Jane Doe",
+            "jane.doe@example.com | (555) 123-4567",
+            "",
+            "PROFESSIONAL SUMMARY",
+            "Backend engineer with seven years of experience in Java.",
+            "Work Experience:",
+            "Acme Corp - Senior Software Engineer",
+            "  Reduced checkout latency with Redis.  ",
+            "Education",
+            "Bachelor of Science in Computer Science",
+            "Technical Skills",
+            "Java, Spring, SQL",
+            "Internships",
+            "Globex - Software Engineering Intern");
+
+    @Test
+    void testSplitsLinesIntoSections() {
+        ResumeSections sections = ResumeSections.parse(RESUME);
+
+        assertEquals(List.of("Jane Doe", "jane.doe@example.com | (555) 123-4567"), sections.get(Section.CONTACT));
+        assertEquals(List.of("Backend engineer with seven years of experience in Java."),
+                sections.get(Section.SUMMARY));
+        assertEquals(List.of("Acme Corp - Senior Software Engineer", "Reduced checkout latency with Redis.",
+                "Globex - Software Engineering Intern"), sections.get(Section.EXPERIENCE));
+        assertEquals(List.of("Bachelor of Science in Computer Science"), sections.get(Section.EDUCATION));
+        assertEquals(List.of("Java, Spring, SQL"), sections.get(Section.SKILLS));
+        assertTrue(sections.get(Section.PROJECTS).isEmpty());
+        assertEquals(13, sections.getLines().size());
+    }
+
+    @Test
+    void testClassifiesOnlyShortHeaderLines() {
+        assertEquals(Section.EXPERIENCE, ResumeSections.classify("Employment History"));
+        assertEquals(Section.EDUCATION, ResumeSections.classify("Academic Background"));
+        assertEquals(Section.SUMMARY, ResumeSections.classify("Objective"));
+        assertEquals(Section.SKILLS, ResumeSections.classify("Programming Languages"));
+        assertNull(ResumeSections.classify("Analyst at Northwind Traders"));
+        assertNull(ResumeSections.classify("Experience Design Lead - Contoso Ltd"));
+        assertNull(ResumeSections.classify("Skills 2024"));
+        assertNull(ResumeSections.classify("Backend engineer with seven years of experience in Java."));
+    }
+}
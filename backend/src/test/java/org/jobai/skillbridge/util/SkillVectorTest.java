@@ -0,0 +1,29 @@
+package org.jobai.skillbridge.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillVectorTest {
+
+    @Test
+    void testJaccardMatchesSetDefinition() {
+        SkillVector a = SkillVector.of(1, 2, 3, 70);
+        SkillVector b = SkillVector.of(2, 3, 4);
+
+        assertEquals(2, a.intersectionSize(b));
+        assertEquals(2.0 / 5.0, a.jaccard(b), 1e-9);
+        assertEquals(a.jaccard(b), b.jaccard(a), 1e-9);
+    }
+
+    @Test
+    void testDuplicatesAndEmptyVectors() {
+        SkillVector a = SkillVector.of(5, 5, 5);
+
+        assertEquals(1, a.cardinality());
+        assertTrue(a.contains(5));
+        assertFalse(a.contains(6));
+        assertEquals(0.0, SkillVector.EMPTY.jaccard(SkillVector.EMPTY));
+        assertEquals(SkillVector.of(1, 2), SkillVector.of(2, 1));
+    }
+}
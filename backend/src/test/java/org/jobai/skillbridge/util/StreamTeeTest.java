@@ -0,0 +1,118 @@
+package org.jobai.skillbridge.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Timeout(10)
+class StreamTeeTest {
+
+    private static byte[] data(int size) {
+        byte[] data = new byte[size];
+        new Random(3).nextBytes(data);
+        return data;
+    }
+
+    private static CompletableFuture<byte[]> readAll(InputStream in) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Test
+    void testEveryBranchSeesTheWholeSourceReadOnce() throws Exception {
+        byte[] data = data(1_000_000);
+        try (StreamTee tee = new StreamTee(new ByteArrayInputStream(data), 2, 4096, 4)) {
+            CompletableFuture<byte[]> first = readAll(tee.branch(0));
+            CompletableFuture<byte[]> second = readAll(tee.branch(1));
+
+            assertArrayEquals(data, first.get());
+            assertArrayEquals(data, second.get());
+            assertEquals(data.length, tee.getBytesRead());
+            assertTrue(tee.getPeakBufferedBytes() <= 2 * (4 + 1) * 4096);
+        }
+    }
+
+    @Test
+    void testClosedBranchDoesNotHoldBackOthers() throws Exception {
+        byte[] data = data(1_000_000);
+        try (StreamTee tee = new StreamTee(new ByteArrayInputStream(data), 2, 4096, 4)) {
+            StreamTee.Branch early = tee.branch(0);
+            assertEquals(100, early.readNBytes(100).length);
+            early.close();
+
+            assertArrayEquals(data, readAll(tee.branch(1)).get());
+        }
+    }
+
+    @Test
+    void testBranchClosedByAnotherThreadWakesItsReader() throws Exception {
+        CountDownLatch stalled = new CountDownLatch(1);
+        InputStream slow = new InputStream() {
+            private int remaining = 100;
+
+            @Override
+            public int read() throws IOException {
+                if (remaining-- > 0) {
+                    return 1;
+                }
+                stalled.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    throw new IOException("closed", e);
+                }
+                return -1;
+            }
+        };
+        try (StreamTee tee = new StreamTee(slow, 1, 100, 2)) {
+            StreamTee.Branch branch = tee.branch(0);
+            CompletableFuture<byte[]> reader = readAll(branch);
+            assertTrue(stalled.await(5, TimeUnit.SECONDS));
+
+            branch.close();
+
+            ExecutionException error = assertThrows(ExecutionException.class, reader::get);
+            assertTrue(error.getCause().getCause().getMessage().contains("Stream closed"));
+            assertThrows(IOException.class, branch::read);
+        }
+    }
+
+    @Test
+    void testSourceFailureReachesEveryBranch() {
+        InputStream failing = new InputStream() {
+            private int remaining = 10_000;
+
+            @Override
+            public int read() throws IOException {
+                // Keeps failing once exhausted: read(byte[]) swallows an error after the first byte
+                if (remaining <= 0) {
+                    throw new IOException("disk gone");
+                }
+                remaining--;
+                return 1;
+            }
+        };
+        try (StreamTee tee = new StreamTee(failing, 2, 1024, 2)) {
+            CompletableFuture<byte[]> first = readAll(tee.branch(0));
+            IOException error = assertThrows(IOException.class, () -> tee.branch(1).readAllBytes());
+
+            assertTrue(error.getMessage().contains("disk gone"));
+            assertThrows(Exception.class, first::get);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.jobai.skillbridge.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopKTest {
+
+    @Test
+    void testKeepsBestItemsInDescendingOrder() {
+        TopK<Integer> topK = new TopK<>(3, Comparator.naturalOrder());
+        for (int value : new int[] { 5, 1, 9, 7, 3, 9 }) {
+            topK.offer(value);
+        }
+
+        assertEquals(List.of(9, 9, 7), topK.toSortedList());
+    }
+
+    @Test
+    void testMergedPartitionsMatchFullSort() {
+        List<Double> scores = new Random(7).doubles(10_000).boxed().collect(Collectors.toList());
+
+        List<Double> expected = scores.stream()
+                .sorted(Comparator.reverseOrder())
+                .limit(25)
+                .collect(Collectors.toList());
+
+        TopK<Double> first = new TopK<>(25, Comparator.naturalOrder());
+        TopK<Double> second = new TopK<>(25, Comparator.naturalOrder());
+        for (int i = 0; i < scores.size(); i++) {
+            (i < 3_000 ? first : second).offer(scores.get(i));
+        }
+        assertEquals(expected, first.merge(second).toSortedList());
+    }
+
+    @Test
+    void testZeroAndOversizedLimits() {
+        TopK<Integer> none = new TopK<>(0, Comparator.naturalOrder());
+        TopK<Integer> all = new TopK<>(Integer.MAX_VALUE, Comparator.naturalOrder());
+        for (int i = 0; i < 10; i++) {
+            none.offer(i);
+            all.offer(i);
+        }
+
+        assertEquals(0, none.size());
+        assertEquals(10, all.size());
+    }
+}
@@ -0,0 +1,54 @@
+package org.jobai.skillbridge.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightedScoringKernelTest {
+
+    private static final double[] WEIGHTS = { 0.35, 0.25, 0.15, 0.10, 0.15 };
+
+    @Test
+    void testBulkTotalsMatchScalarTotals() {
+        // An odd size leaves a tail for the scalar loop after the vector lanes
+        ScoreColumns columns = randomColumns(1037, new Random(5));
+        double[] totals = new double[columns.size()];
+        boolean[] passed = new boolean[columns.size()];
+
+        int count = WeightedScoringKernel.weightedTotals(columns, WEIGHTS, 0.5, totals, passed);
+
+        int expectedCount = 0;
+        for (int row = 0; row < columns.size(); row++) {
+            double expected = WeightedScoringKernel.weightedTotal(WEIGHTS, columns.get(row, 0), columns.get(row, 1),
+                    columns.get(row, 2), columns.get(row, 3), columns.get(row, 4));
+            assertEquals(expected, totals[row], 0.0);
+            assertEquals(expected > 0.5, passed[row]);
+            if (passed[row]) {
+                expectedCount++;
+            }
+        }
+        assertEquals(expectedCount, count);
+    }
+
+    @Test
+    void testSelectCopiesRows() {
+        ScoreColumns columns = randomColumns(10, new Random(1));
+        ScoreColumns selected = columns.select(new int[] { 7, 2 });
+
+        assertEquals(2, selected.size());
+        assertEquals(columns.get(7, ScoreColumns.AI), selected.get(0, ScoreColumns.AI));
+        assertEquals(columns.get(2, ScoreColumns.SKILLS), selected.get(1, ScoreColumns.SKILLS));
+    }
+
+    private static ScoreColumns randomColumns(int size, Random random) {
+        ScoreColumns columns = new ScoreColumns(size);
+        for (int row = 0; row < size; row++) {
+            for (int c = 0; c < ScoreColumns.COUNT; c++) {
+                columns.set(row, c, random.nextDouble());
+            }
+        }
+        return columns;
+    }
+}